@@ -1,17 +1,21 @@
 package com.linkvault.config;
 
+import com.linkvault.mapper.LinkMapper;
 import com.linkvault.model.Link;
 import com.linkvault.model.User;
 import com.linkvault.repository.LinkRepository;
 import com.linkvault.repository.UserRepository;
+import com.linkvault.search.TrigramIndex;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.List;
+
 @Configuration
 public class DataLoader {
     @Bean
-    CommandLineRunner init(LinkRepository linkRepository, UserRepository userRepository) {
+    CommandLineRunner init(LinkRepository linkRepository, UserRepository userRepository, TrigramIndex trigramIndex) {
         return args -> {
             User user = new User("eddie", "password123");
             userRepository.save(user);
@@ -23,6 +27,10 @@ public class DataLoader {
 
             linkRepository.save(link1);
             linkRepository.save(link2);
+            // Saved past the service, so the fuzzy search index is filled here
+            trigramIndex.linksCreated(user.getId(), List.of(
+                LinkMapper.toResponse(link1), LinkMapper.toResponse(link2)
+            ));
         };
     }
 }
@@ -1,10 +1,18 @@
 package com.linkvault.config;
 
+import com.linkvault.constants.apiPaths.AdminEndpoints;
+import com.linkvault.model.Role;
 import com.linkvault.repository.UserRepository;
+import com.linkvault.security.CalibratedPasswordEncoderFactory;
 import com.linkvault.security.JwtAuthenticationFilter;
 import com.linkvault.security.JwtUtils;
+import com.linkvault.security.TokenRevocationList;
+import com.linkvault.security.UserDetailsCache;
+import com.linkvault.security.VerifiedTokenCache;
 import com.linkvault.service.CustomUserDetailsService;
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -13,39 +21,51 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.core.userdetails.User;
-import org.springframework.security.core.userdetails.UserDetailsService;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
-import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
 @Configuration
 @EnableWebSecurity
 public class SecurityConfig {
+    @Bean
+    public VerifiedTokenCache verifiedTokenCache(
+        @Value("${jwt.cache.max-size:10000}") long maximumSize
+    ) {
+        return new VerifiedTokenCache(maximumSize);
+    }
+
     @Bean
     public JwtAuthenticationFilter jwtAuthenticationFilter(
-        JwtUtils jwtUtils, UserDetailsService userDetailsService
+        JwtUtils jwtUtils,
+        VerifiedTokenCache verifiedTokenCache,
+        TokenRevocationList tokenRevocationList
     ) {
-        return new JwtAuthenticationFilter(jwtUtils, userDetailsService);
+        return new JwtAuthenticationFilter(jwtUtils, verifiedTokenCache, tokenRevocationList);
     }
 
+    // Typed as the concrete class so the authentication manager also picks it up as
+    // the UserDetailsPasswordService that upgrades outdated hashes on login.
     @Bean
-    public UserDetailsService userDetailsService(UserRepository userRepository) {
-        return new CustomUserDetailsService(userRepository);
+    public CustomUserDetailsService userDetailsService(
+        UserRepository userRepository, UserDetailsCache userDetailsCache
+    ) {
+        return new CustomUserDetailsService(userRepository, userDetailsCache);
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+        @Value("${security.password-hashing.target-millis:250}") long targetMillis,
+        @Value("${security.password-hashing.min-strength:10}") int minStrength,
+        @Value("${security.password-hashing.max-strength:16}") int maxStrength
+    ) {
+        return CalibratedPasswordEncoderFactory.create(targetMillis, minStrength, maxStrength);
     }
 
     @Bean
     public SecurityFilterChain securityFilterChain(
         HttpSecurity http,
-        JwtUtils jwtUtils,
-        UserDetailsService userDetailsService
+        JwtAuthenticationFilter jwtAuthenticationFilter
     ) throws Exception {
         http
             .csrf(AbstractHttpConfigurer::disable)
@@ -59,11 +79,15 @@ public class SecurityConfig {
                     ) ->
                     response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "Unauthorized")))
             .authorizeHttpRequests(auth -> auth
+                // Async dispatches resume a request that was already authorized, and the
+                // stateless JWT context is not carried over to them.
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                 .requestMatchers("/api/auth/**").permitAll()
+                .requestMatchers(AdminEndpoints.BASE_ADMIN + "/**").hasAuthority(Role.ADMIN.name())
                 .anyRequest().authenticated()
             )
             .addFilterBefore(
-                jwtAuthenticationFilter(jwtUtils, userDetailsService),
+                jwtAuthenticationFilter,
                 UsernamePasswordAuthenticationFilter.class
             );
 
@@ -0,0 +1,14 @@
+package com.linkvault.constants;
+
+public class PageLimits {
+    public static final String DEFAULT_LIMIT = "50";
+    public static final int MAX_LIMIT = 500;
+    public static final String DEFAULT_SEARCH_LIMIT = "20";
+    public static final int MAX_SEARCH_LIMIT = 100;
+    public static final int MAX_QUERY_LENGTH = 256;
+    // Every candidate costs query length times text length to rank
+    public static final int MAX_FUZZY_QUERY_LENGTH = 64;
+    public static final String DEFAULT_COMPLETION_LIMIT = "10";
+    public static final int MAX_COMPLETION_LIMIT = 50;
+    public static final int MAX_PREFIX_LENGTH = 100;
+}
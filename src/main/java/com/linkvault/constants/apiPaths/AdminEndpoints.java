@@ -0,0 +1,6 @@
+package com.linkvault.constants.apiPaths;
+
+public class AdminEndpoints {
+    public static final String BASE_ADMIN = "/api/admin";
+    public static final String USERS_BULK = "/users/bulk";
+}
@@ -4,4 +4,6 @@ public class AuthEndpoints {
     public static final String BASE_AUTH = "/api/auth";
     public static final String LOGIN = "/login";
     public static final String REGISTER = "/register";
+    public static final String REFRESH = "/refresh";
+    public static final String LOGOUT = "/logout";
 }
@@ -4,4 +4,13 @@ public class LinkEndpoints {
     public static final String BASE_LINKS = "/api/links";
     public static final String BY_USER = "/user/{userId}";
     public static final String BY_LINK_ID = "/{linkId}";
+    public static final String EXPORT = "/export";
+    public static final String SEARCH = "/search";
+    public static final String FUZZY_SEARCH = "/search/fuzzy";
+    public static final String COMPLETE_TITLES = "/complete";
+    public static final String TAGGED = "/tagged";
+    public static final String TAG = "/tags/{tag}";
+    public static final String UNTAG = "/tags/{tag}/remove";
+    public static final String BULK = "/bulk";
+    public static final String BULK_DELETE = "/bulk/delete";
 }
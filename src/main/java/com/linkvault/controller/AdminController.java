@@ -0,0 +1,40 @@
+package com.linkvault.controller;
+
+import com.linkvault.constants.apiPaths.AdminEndpoints;
+import com.linkvault.dto.BulkRegisterRequest;
+import com.linkvault.dto.BulkRegisterResponse;
+import com.linkvault.service.UserService;
+import jakarta.validation.Valid;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import static com.linkvault.util.LogUtils.info;
+
+@Validated
+@Slf4j
+@RestController
+@RequestMapping(AdminEndpoints.BASE_ADMIN)
+public class AdminController {
+    private final UserService userService;
+
+    public AdminController(UserService userService) {
+        this.userService = userService;
+    }
+
+    @PostMapping(AdminEndpoints.USERS_BULK)
+    public ResponseEntity<BulkRegisterResponse> provisionUsers(
+        @Valid @RequestBody BulkRegisterRequest request
+    ) {
+        info(log, "Provisioning {} users", request.getUsers().size());
+        BulkRegisterResponse response = userService.provisionUsers(request.getUsers());
+
+        info(log, "Provisioned {} users, skipped {}", response.created(), response.skippedUsernames().size());
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+}
@@ -3,15 +3,21 @@ package com.linkvault.controller;
 import com.linkvault.constants.apiPaths.AuthEndpoints;
 import com.linkvault.dto.AuthResponse;
 import com.linkvault.dto.LoginRequest;
+import com.linkvault.dto.RefreshTokenRequest;
 import com.linkvault.dto.RegisterRequest;
-import com.linkvault.security.JwtUtils;
+import com.linkvault.security.LoginThrottle;
+import com.linkvault.security.PasswordHashingExecutor;
+import com.linkvault.security.SecurityUser;
+import com.linkvault.service.RefreshTokenService;
 import com.linkvault.service.UserServiceImpl;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -19,6 +25,8 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.concurrent.CompletableFuture;
+
 import static com.linkvault.util.LogUtils.info;
 
 @Validated
@@ -27,42 +35,73 @@ import static com.linkvault.util.LogUtils.info;
 @RequestMapping(AuthEndpoints.BASE_AUTH)
 public class AuthController {
     private final AuthenticationManager authenticationManager;
-    private final JwtUtils jwtUtils;
+    private final RefreshTokenService refreshTokenService;
     private final UserServiceImpl userServiceImpl;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+    private final LoginThrottle loginThrottle;
 
     public AuthController(
         AuthenticationManager authenticationManager,
-        JwtUtils jwtUtils,
-        UserServiceImpl userServiceImpl
+        RefreshTokenService refreshTokenService,
+        UserServiceImpl userServiceImpl,
+        PasswordHashingExecutor passwordHashingExecutor,
+        LoginThrottle loginThrottle
     ) {
         this.authenticationManager = authenticationManager;
-        this.jwtUtils = jwtUtils;
+        this.refreshTokenService = refreshTokenService;
         this.userServiceImpl = userServiceImpl;
+        this.passwordHashingExecutor = passwordHashingExecutor;
+        this.loginThrottle = loginThrottle;
     }
 
     @PostMapping(AuthEndpoints.LOGIN)
-    public ResponseEntity<?> login(@Valid @RequestBody LoginRequest loginRequest) {
+    public CompletableFuture<ResponseEntity<?>> login(
+        @Valid @RequestBody LoginRequest loginRequest,
+        HttpServletRequest request
+    ) {
+        info(log, "Logging in user: {}", loginRequest.getUsername());
+        loginThrottle.acquire(loginRequest.getUsername(), request.getRemoteAddr());
+
+        return passwordHashingExecutor.submit(() -> authenticate(loginRequest));
+    }
+
+    @PostMapping(AuthEndpoints.REGISTER)
+    public CompletableFuture<ResponseEntity<?>> register(@Valid @RequestBody RegisterRequest request) {
+        return passwordHashingExecutor.submit(() -> {
+            userServiceImpl.registerUser(request.getUsername(), request.getPassword());
+            return ResponseEntity.ok("User registered successfully");
+        });
+    }
+
+    @PostMapping(AuthEndpoints.REFRESH)
+    public ResponseEntity<AuthResponse> refresh(@Valid @RequestBody RefreshTokenRequest request) {
+        return ResponseEntity.ok(refreshTokenService.rotate(request.getRefreshToken()));
+    }
+
+    @PostMapping(AuthEndpoints.LOGOUT)
+    public ResponseEntity<Void> logout(@Valid @RequestBody RefreshTokenRequest request) {
+        refreshTokenService.revoke(request.getRefreshToken());
+        return ResponseEntity.noContent().build();
+    }
+
+    private ResponseEntity<?> authenticate(LoginRequest loginRequest) {
         try {
-            info(log, "Logging in user: {}", loginRequest.getUsername());
-            authenticationManager.authenticate(
+            Authentication authentication = authenticationManager.authenticate(
                 new UsernamePasswordAuthenticationToken(
                     loginRequest.getUsername(),
                     loginRequest.getPassword()
                 )
             );
 
-            String token = jwtUtils.generateToken(loginRequest.getUsername());
+            SecurityUser user = (SecurityUser) authentication.getPrincipal();
+            AuthResponse tokens = refreshTokenService.startSession(
+                user.getId(), user.getUsername(), user.getRole()
+            );
 
             info(log, "Login successful for user: {}", loginRequest.getUsername());
-            return ResponseEntity.ok(new AuthResponse(token));
+            return ResponseEntity.ok(tokens);
         } catch (AuthenticationException ex) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Invalid username or password");
         }
     }
-
-    @PostMapping(AuthEndpoints.REGISTER)
-    public ResponseEntity<?> register(@Valid @RequestBody RegisterRequest request) {
-        userServiceImpl.registerUser(request.getUsername(), request.getPassword());
-        return ResponseEntity.ok("User registered successfully");
-    }
 }
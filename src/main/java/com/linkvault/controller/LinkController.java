@@ -1,21 +1,51 @@
 package com.linkvault.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.linkvault.constants.PageLimits;
 import com.linkvault.constants.apiPaths.LinkEndpoints;
+import com.linkvault.dto.BulkLinkRequest;
+import com.linkvault.dto.BulkLinkResponse;
+import com.linkvault.dto.CreatedLinkResponse;
+import com.linkvault.dto.LinkFuzzyMatch;
+import com.linkvault.dto.LinkIdsRequest;
+import com.linkvault.dto.LinkPageResponse;
+import com.linkvault.dto.LinkPatchRequest;
 import com.linkvault.dto.LinkRequest;
 import com.linkvault.dto.LinkResponse;
+import com.linkvault.dto.LinkSearchResult;
+import com.linkvault.dto.LinkTitleCompletion;
+import com.linkvault.dto.LinksDeletedResponse;
+import com.linkvault.dto.LinksTaggedResponse;
+import com.linkvault.dto.TaggedLinksResponse;
+import com.linkvault.dto.VersionedLinkResponse;
+import com.linkvault.exception.LinkVersionMismatchException;
+import com.linkvault.exception.PreconditionRequiredException;
+import com.linkvault.model.Tag;
+import com.linkvault.security.CurrentUserId;
 import com.linkvault.service.LinkService;
-import com.linkvault.service.UserService;
+import com.linkvault.util.ETags;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.Optional;
 
 import static com.linkvault.util.LogUtils.*;
 
@@ -24,86 +54,239 @@ import static com.linkvault.util.LogUtils.*;
 @RestController
 @RequestMapping(LinkEndpoints.BASE_LINKS)
 public class LinkController {
+    private static final byte NEWLINE = '\n';
+    // Clients may keep responses but must revalidate them with the ETag before reuse.
+    // Setting it here also stops Spring Security from writing no-store.
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
     private final LinkService linkService;
-    private final UserService userService;
+    private final ObjectMapper objectMapper;
 
-    public LinkController(LinkService linkService, UserService userService) {
+    public LinkController(LinkService linkService, ObjectMapper objectMapper) {
         this.linkService = linkService;
-        this.userService = userService;
+        this.objectMapper = objectMapper;
     }
 
+    /**
+     * The ETag is the user's id and link collection version, read before the page so
+     * a concurrent write can only make the body newer than its tag, never older. A
+     * matching If-None-Match is answered with 304 before any link is queried.
+     */
     @GetMapping
-    public ResponseEntity<List<LinkResponse>> getAllLinksForUser(
-        @AuthenticationPrincipal UserDetails userDetails
+    public ResponseEntity<LinkPageResponse> getAllLinksForUser(
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = PageLimits.DEFAULT_LIMIT) @Min(1) @Max(PageLimits.MAX_LIMIT) int limit,
+        @CurrentUserId Long userId,
+        WebRequest webRequest
     ) {
-        Long userId = getCurrentUserId(userDetails);
+        info(log, "Getting links page for user ID: {}", userId);
+        String etag = ETags.ofCollection(userId, linkService.getLinksVersion(userId));
+        if (webRequest.checkNotModified(etag)) {
+            return notModified(etag);
+        }
+
+        return ResponseEntity.ok()
+            .eTag(etag)
+            .cacheControl(REVALIDATE)
+            .varyBy(HttpHeaders.AUTHORIZATION)
+            .body(linkService.getLinksPage(userId, cursor, limit));
+    }
 
-        info(log, "Getting all links for user ID: {}", userId);
-        return ResponseEntity.ok(linkService.getAllLinksForUser(userId));
+    @GetMapping(LinkEndpoints.EXPORT)
+    public ResponseEntity<StreamingResponseBody> exportLinks(@CurrentUserId Long userId) {
+        info(log, "Exporting links for user ID: {}", userId);
+
+        StreamingResponseBody body = outputStream -> linkService.exportLinks(userId, link -> {
+            try {
+                outputStream.write(objectMapper.writeValueAsBytes(link));
+                outputStream.write(NEWLINE);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .header(
+                HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename("links.ndjson").build().toString()
+            )
+            .body(body);
+    }
+
+    @GetMapping(LinkEndpoints.SEARCH)
+    public ResponseEntity<List<LinkSearchResult>> searchLinks(
+        @RequestParam @NotBlank @Size(max = PageLimits.MAX_QUERY_LENGTH) String q,
+        @RequestParam(defaultValue = PageLimits.DEFAULT_SEARCH_LIMIT) @Min(1) @Max(PageLimits.MAX_SEARCH_LIMIT) int limit,
+        @CurrentUserId Long userId
+    ) {
+        info(log, "Searching links for user ID: {}", userId);
+        return ResponseEntity.ok(linkService.searchLinks(userId, q, limit));
+    }
+
+    @GetMapping(LinkEndpoints.FUZZY_SEARCH)
+    public ResponseEntity<List<LinkFuzzyMatch>> fuzzySearchLinks(
+        @RequestParam @NotBlank @Size(max = PageLimits.MAX_FUZZY_QUERY_LENGTH) String q,
+        @RequestParam(defaultValue = PageLimits.DEFAULT_SEARCH_LIMIT) @Min(1) @Max(PageLimits.MAX_SEARCH_LIMIT) int limit,
+        @CurrentUserId Long userId
+    ) {
+        info(log, "Fuzzy searching links for user ID: {}", userId);
+        return ResponseEntity.ok(linkService.fuzzySearchLinks(userId, q, limit));
+    }
+
+    @GetMapping(LinkEndpoints.COMPLETE_TITLES)
+    public ResponseEntity<List<LinkTitleCompletion>> completeTitles(
+        @RequestParam @NotBlank @Size(max = PageLimits.MAX_PREFIX_LENGTH) String prefix,
+        @RequestParam(defaultValue = PageLimits.DEFAULT_COMPLETION_LIMIT) @Min(1) @Max(PageLimits.MAX_COMPLETION_LIMIT) int limit,
+        @CurrentUserId Long userId
+    ) {
+        return ResponseEntity.ok(linkService.completeTitles(userId, prefix, limit));
+    }
+
+    @GetMapping(LinkEndpoints.TAGGED)
+    public ResponseEntity<TaggedLinksResponse> findLinksByTags(
+        @RequestParam @NotBlank @Size(max = PageLimits.MAX_QUERY_LENGTH) String expr,
+        @RequestParam(defaultValue = PageLimits.DEFAULT_LIMIT) @Min(1) @Max(PageLimits.MAX_LIMIT) int limit,
+        @CurrentUserId Long userId
+    ) {
+        info(log, "Filtering links by tags for user ID: {}", userId);
+        return ResponseEntity.ok(linkService.findLinksByTags(userId, expr, limit));
     }
 
     @GetMapping(LinkEndpoints.BY_LINK_ID)
     public ResponseEntity<LinkResponse> getLinkById(
         @PathVariable @Min(1) Long linkId,
-        @AuthenticationPrincipal UserDetails userDetails
+        @CurrentUserId Long userId,
+        WebRequest webRequest
     ) {
-        Long userId = getCurrentUserId(userDetails);
-
         info(log, "Getting link by ID: {}", linkId);
-        return ResponseEntity.ok(linkService.getLinkById(linkId, userId));
+        if (webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null) {
+            Optional<String> current = linkService.getLinkVersion(linkId, userId).map(ETags::of);
+            if (current.isPresent() && webRequest.checkNotModified(current.get())) {
+                return notModified(current.get());
+            }
+        }
+
+        VersionedLinkResponse response = linkService.getLinkById(linkId, userId);
+        return ResponseEntity.ok()
+            .eTag(ETags.of(response.version()))
+            .cacheControl(REVALIDATE)
+            .varyBy(HttpHeaders.AUTHORIZATION)
+            .body(response.link());
     }
 
+    /**
+     * Saves a link. A link whose canonical URL is already saved is rejected with 409,
+     * or, with {@code returnExisting=true}, the saved one is returned with 200.
+     */
     @PostMapping
     public ResponseEntity<LinkResponse> createLink(
         @Valid @RequestBody LinkRequest linkRequest,
-        @AuthenticationPrincipal UserDetails userDetails
+        @RequestParam(defaultValue = "false") boolean returnExisting,
+        @CurrentUserId Long userId
     ) {
-        Long userId = getCurrentUserId(userDetails);
-
         info(log, "Creating link for user ID: {}", userId);
-        LinkResponse response = linkService.createLink(userId, linkRequest);
+        CreatedLinkResponse response = linkService.createLink(userId, linkRequest, returnExisting);
+
+        HttpStatus status = response.created() ? HttpStatus.CREATED : HttpStatus.OK;
+        return ResponseEntity.status(status).body(response.link());
+    }
+
+    @PostMapping(LinkEndpoints.BULK)
+    public ResponseEntity<BulkLinkResponse> createLinks(
+        @Valid @RequestBody BulkLinkRequest bulkLinkRequest,
+        @CurrentUserId Long userId
+    ) {
+        info(log, "Bulk creating links for user ID: {}", userId);
+        BulkLinkResponse response = linkService.createLinks(userId, bulkLinkRequest.getLinks());
 
-        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        HttpStatus status = response.rejected().isEmpty() ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS;
+        return ResponseEntity.status(status).body(response);
     }
 
     @PutMapping(LinkEndpoints.BY_LINK_ID)
     public ResponseEntity<LinkResponse> updateLink(
         @PathVariable @Min(1) Long linkId,
         @Valid @RequestBody LinkRequest linkRequest,
-        @AuthenticationPrincipal UserDetails userDetails
+        @CurrentUserId Long userId
     ) {
-        Long userId = getCurrentUserId(userDetails);
-
         info(log, "Updating link by ID: {}", linkId);
         return ResponseEntity.ok(linkService.updateLink(linkId, linkRequest, userId));
     }
 
+    @PatchMapping(LinkEndpoints.BY_LINK_ID)
+    public ResponseEntity<LinkResponse> patchLink(
+        @PathVariable @Min(1) Long linkId,
+        @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+        @Valid @RequestBody LinkPatchRequest patchRequest,
+        @CurrentUserId Long userId
+    ) {
+        info(log, "Patching link by ID: {}", linkId);
+        if (ifMatch == null) {
+            throw new PreconditionRequiredException(HttpHeaders.IF_MATCH);
+        }
+        long expectedVersion = ETags.parse(ifMatch)
+            .orElseThrow(() -> new LinkVersionMismatchException(linkId));
+
+        VersionedLinkResponse response = linkService.patchLink(linkId, patchRequest, expectedVersion, userId);
+        return ResponseEntity.ok()
+            .eTag(ETags.of(response.version()))
+            .body(response.link());
+    }
+
     @DeleteMapping(LinkEndpoints.BY_LINK_ID)
     public ResponseEntity<Void> deleteLink(
         @PathVariable @Min(1) Long linkId,
-        @AuthenticationPrincipal UserDetails userDetails
+        @CurrentUserId Long userId
     ) {
-        Long userId = getCurrentUserId(userDetails);
-
         info(log, "Deleting link by ID: {}", linkId);
 
         linkService.deleteLink(linkId, userId);
         return ResponseEntity.noContent().build();
     }
 
-    @DeleteMapping
-    public ResponseEntity<Void> deleteAllLinksByUser(
-        @AuthenticationPrincipal UserDetails userDetails
+    @PostMapping(LinkEndpoints.BULK_DELETE)
+    public ResponseEntity<LinksDeletedResponse> deleteLinks(
+        @Valid @RequestBody LinkIdsRequest linkIdsRequest,
+        @CurrentUserId Long userId
     ) {
-        Long userId = getCurrentUserId(userDetails);
+        info(log, "Bulk deleting links for user ID: {}", userId);
+        return ResponseEntity.ok(linkService.deleteLinks(userId, linkIdsRequest.getIds()));
+    }
+
+    @PostMapping(LinkEndpoints.TAG)
+    public ResponseEntity<LinksTaggedResponse> tagLinks(
+        @PathVariable @Pattern(regexp = Tag.NAME_PATTERN) String tag,
+        @Valid @RequestBody LinkIdsRequest linkIdsRequest,
+        @CurrentUserId Long userId
+    ) {
+        info(log, "Bulk tagging links for user ID: {}", userId);
+        return ResponseEntity.ok(linkService.tagLinks(userId, tag, linkIdsRequest.getIds()));
+    }
+
+    @PostMapping(LinkEndpoints.UNTAG)
+    public ResponseEntity<LinksTaggedResponse> untagLinks(
+        @PathVariable @Pattern(regexp = Tag.NAME_PATTERN) String tag,
+        @Valid @RequestBody LinkIdsRequest linkIdsRequest,
+        @CurrentUserId Long userId
+    ) {
+        info(log, "Bulk untagging links for user ID: {}", userId);
+        return ResponseEntity.ok(linkService.untagLinks(userId, tag, linkIdsRequest.getIds()));
+    }
 
+    @DeleteMapping
+    public ResponseEntity<LinksDeletedResponse> deleteAllLinksByUser(
+        @CurrentUserId Long userId
+    ) {
         info(log, "Deleting links by user ID: {}", userId);
-        linkService.deleteAllLinksByUser(userId);
-        return ResponseEntity.noContent().build();
+        return ResponseEntity.ok(linkService.deleteAllLinksByUser(userId));
     }
 
-    private Long getCurrentUserId(UserDetails userDetails) {
-        String username = userDetails.getUsername();
-        return userService.getUserIdByUsername(username);
+    private static <T> ResponseEntity<T> notModified(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+            .eTag(etag)
+            .cacheControl(REVALIDATE)
+            .varyBy(HttpHeaders.AUTHORIZATION)
+            .build();
     }
 }
@@ -7,4 +7,5 @@ import lombok.Getter;
 @Getter
 public class AuthResponse {
     private String token;
+    private String refreshToken;
 }
@@ -0,0 +1,8 @@
+package com.linkvault.dto;
+
+import java.util.List;
+
+public record BulkLinkError(
+    int index,
+    List<String> messages
+) {}
@@ -0,0 +1,26 @@
+package com.linkvault.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * Items are deliberately not {@code @Valid}: each link is validated by the service so
+ * one bad entry is reported against its index instead of rejecting the whole request.
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+public class BulkLinkRequest {
+    public static final int MAX_LINKS = 5_000;
+
+    @NotEmpty(message = "At least one link is required")
+    @Size(max = MAX_LINKS, message = "At most " + MAX_LINKS + " links can be created per request")
+    private List<LinkRequest> links;
+}
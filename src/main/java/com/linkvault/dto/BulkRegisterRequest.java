@@ -0,0 +1,23 @@
+package com.linkvault.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+public class BulkRegisterRequest {
+    public static final int MAX_USERS = 10_000;
+
+    @NotEmpty(message = "At least one user is required")
+    @Size(max = MAX_USERS, message = "At most " + MAX_USERS + " users can be provisioned per request")
+    private List<@Valid RegisterRequest> users;
+}
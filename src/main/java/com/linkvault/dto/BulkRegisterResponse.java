@@ -0,0 +1,8 @@
+package com.linkvault.dto;
+
+import java.util.List;
+
+public record BulkRegisterResponse(
+    int created,
+    List<String> skippedUsernames
+) {}
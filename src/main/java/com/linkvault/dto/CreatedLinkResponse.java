@@ -0,0 +1,10 @@
+package com.linkvault.dto;
+
+/**
+ * The link a create request ended up with: the new one, or the one already saved
+ * under the same canonical URL when the caller asked for it instead of a conflict.
+ */
+public record CreatedLinkResponse(
+    LinkResponse link,
+    boolean created
+) {}
@@ -0,0 +1,6 @@
+package com.linkvault.dto;
+
+public record LinkFuzzyMatch(
+    LinkResponse link,
+    int distance
+) {}
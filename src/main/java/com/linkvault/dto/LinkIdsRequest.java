@@ -0,0 +1,23 @@
+package com.linkvault.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+public class LinkIdsRequest {
+    public static final int MAX_IDS = 5_000;
+
+    @NotEmpty(message = "At least one link ID is required")
+    @Size(max = MAX_IDS, message = "At most " + MAX_IDS + " link IDs can be sent per request")
+    private List<@NotNull Long> ids;
+}
@@ -0,0 +1,12 @@
+package com.linkvault.dto;
+
+import java.util.List;
+
+/**
+ * One page of links, oldest first. {@code next} is an opaque cursor for the
+ * following page, or null on the last page.
+ */
+public record LinkPageResponse(
+    List<LinkResponse> items,
+    String next
+) {}
@@ -0,0 +1,20 @@
+package com.linkvault.dto;
+
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+
+/**
+ * Sparse update for a link. A null field is left unchanged.
+ */
+public record LinkPatchRequest(
+    @Pattern(regexp = "^https?://.*", message = "URL must start with http:// or https://")
+    @Size(max = 255, message = "URL must be at most 255 characters")
+    String url,
+
+    @Pattern(regexp = ".*\\S.*", message = "Title must not be blank")
+    @Size(max = 100, message = "Title must be at most 100 characters")
+    String title,
+
+    @Size(max = 255, message = "Description must be at most 255 characters")
+    String description
+) {}
@@ -0,0 +1,20 @@
+package com.linkvault.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projection used by the paged list query: the response fields plus the creation time
+ * needed to build the next cursor.
+ */
+public record LinkRow(
+    Long id,
+    String url,
+    String title,
+    String description,
+    Long userId,
+    LocalDateTime createdAt
+) {
+    public LinkResponse toResponse() {
+        return new LinkResponse(id, url, title, description, userId);
+    }
+}
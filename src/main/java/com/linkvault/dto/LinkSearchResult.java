@@ -0,0 +1,6 @@
+package com.linkvault.dto;
+
+public record LinkSearchResult(
+    LinkResponse link,
+    double score
+) {}
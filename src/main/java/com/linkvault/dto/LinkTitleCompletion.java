@@ -0,0 +1,6 @@
+package com.linkvault.dto;
+
+public record LinkTitleCompletion(
+    Long linkId,
+    String title
+) {}
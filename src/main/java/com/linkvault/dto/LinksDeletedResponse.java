@@ -0,0 +1,5 @@
+package com.linkvault.dto;
+
+public record LinksDeletedResponse(
+    int deleted
+) {}
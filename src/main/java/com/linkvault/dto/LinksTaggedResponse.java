@@ -0,0 +1,6 @@
+package com.linkvault.dto;
+
+public record LinksTaggedResponse(
+    String tag,
+    int changed
+) {}
@@ -0,0 +1,8 @@
+package com.linkvault.dto;
+
+import java.util.List;
+
+public record TaggedLinksResponse(
+    int total,
+    List<LinkResponse> links
+) {}
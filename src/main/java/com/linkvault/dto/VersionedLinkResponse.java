@@ -0,0 +1,17 @@
+package com.linkvault.dto;
+
+/**
+ * A link together with its optimistic-lock version, which controllers expose as the
+ * ETag.
+ */
+public record VersionedLinkResponse(
+    LinkResponse link,
+    long version
+) {
+    // Flat constructor so JPQL constructor expressions can select into this record
+    public VersionedLinkResponse(
+        Long id, String url, String title, String description, Long userId, Long version
+    ) {
+        this(new LinkResponse(id, url, title, description, userId), version);
+    }
+}
@@ -0,0 +1,33 @@
+package com.linkvault.exception;
+
+import com.linkvault.dto.LinkResponse;
+import lombok.Getter;
+
+/**
+ * The user already has a link with the same canonical URL. {@code existing} is null
+ * when the duplicate was only caught by the unique index, after the pre-check, and
+ * {@code url} is null as well when that happened somewhere in a bulk insert.
+ */
+@Getter
+public class DuplicateLinkException extends RuntimeException {
+    private final String url;
+    private final LinkResponse existing;
+
+    public DuplicateLinkException(String url, LinkResponse existing) {
+        super(String.format(ExceptionMessages.DUPLICATE_LINK, url));
+        this.url = url;
+        this.existing = existing;
+    }
+
+    public DuplicateLinkException(String url, Throwable cause) {
+        super(String.format(ExceptionMessages.DUPLICATE_LINK, url), cause);
+        this.url = url;
+        this.existing = null;
+    }
+
+    public DuplicateLinkException(Throwable cause) {
+        super(ExceptionMessages.DUPLICATE_SAVED_CONCURRENTLY, cause);
+        this.url = null;
+        this.existing = null;
+    }
+}
@@ -8,6 +8,16 @@ public class ExceptionMessages {
     public static final String LINK_SAVE_FAILED = "Failed to save link ID: %d for user ID: %d";
     public static final String LINK_DELETE_FAILED = "Failed to delete link ID: %d for user ID: %d";
     public static final String LINKS_DELETE_FAILED = "Failed to delete all links for user ID: %d";
+    public static final String LINKS_SAVE_FAILED = "Failed to save links for user ID: %d";
+    public static final String LINK_REQUIRED = "Link must not be null";
+    public static final String LINK_VERSION_MISMATCH =
+        "Link with ID %d has been modified since it was read. Fetch it again and retry.";
+    public static final String DUPLICATE_LINK = "A link to %s is already saved";
+    public static final String DUPLICATE_OF_EXISTING_LINK = "url: duplicate of a saved link";
+    public static final String DUPLICATE_IN_BATCH = "url: duplicate of the link at index %d";
+    public static final String DUPLICATE_SAVED_CONCURRENTLY =
+        "A link in the batch was saved concurrently; retry to see which";
+    public static final String PRECONDITION_REQUIRED = "The %s header is required for this request";
 
     public static final String DATABASE_FAILURE = "Simulated database failure";
 
@@ -17,6 +27,17 @@ public class ExceptionMessages {
         "User not authorized to delete this link with user ID: %d";
 
     public static final String INVALID_FIELDS = "One or more fields are invalid";
+    public static final String INVALID_CURSOR = "Invalid page cursor: %s";
+    public static final String INVALID_TAG_EXPRESSION = "Invalid tag expression at position %d: %s";
+
+    public static final String SERVICE_OVERLOADED =
+        "Authentication service is busy, please retry shortly";
+    public static final String SEARCH_OVERLOADED =
+        "Search is busy, please retry shortly";
+    public static final String TOO_MANY_LOGIN_ATTEMPTS =
+        "Too many login attempts, please retry later";
+    public static final String DATA_CONFLICT = "Request conflicts with existing data";
+    public static final String INVALID_REFRESH_TOKEN = "Refresh token is invalid or expired";
 
     public static final String METHOD_URI_MESSAGE_FORMAT = "{} {} - {}";
     public static final String FAILED_TO_CREATE_USER_FORMAT = "Failed to create user: {} {} - {}";
@@ -1,9 +1,14 @@
 package com.linkvault.exception;
 
+import com.linkvault.model.Link;
+import com.linkvault.model.Tag;
+import com.linkvault.model.User;
 import com.linkvault.util.LogMessages;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -11,6 +16,7 @@ import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 
 import java.time.Instant;
+import java.util.Locale;
 
 import static com.linkvault.util.LogUtils.*;
 import java.util.List;
@@ -18,6 +24,12 @@ import java.util.List;
 @Slf4j
 @ControllerAdvice
 public class GlobalExceptionHandler {
+    private static final List<String> UNIQUE_CONSTRAINTS = List.of(
+        User.USERNAME_CONSTRAINT,
+        Link.URL_HASH_CONSTRAINT,
+        Tag.NAME_CONSTRAINT
+    );
+
     @ExceptionHandler(UserNotFoundException.class)
     public ResponseEntity<ApiErrorResponse> handleUserNotFound(
         UserNotFoundException ex, HttpServletRequest request
@@ -135,6 +147,26 @@ public class GlobalExceptionHandler {
         );
     }
 
+    @ExceptionHandler(LinksSaveException.class)
+    public ResponseEntity<ApiErrorResponse> handleLinksSave(
+        LinksSaveException ex, HttpServletRequest request
+    ) {
+        warn(
+            log,
+            ExceptionMessages.METHOD_URI_MESSAGE_FORMAT,
+            request.getMethod(),
+            request.getRequestURI(),
+            ex.getMessage()
+        );
+        error(log, LogMessages.STACK_TRACE, ex);
+
+        return buildErrorResponse(
+            HttpStatus.INTERNAL_SERVER_ERROR,
+            ex.getMessage(),
+            request
+        );
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ApiErrorResponse> handleGeneric(
         Exception ex, HttpServletRequest request
@@ -174,6 +206,25 @@ public class GlobalExceptionHandler {
         );
     }
 
+    @ExceptionHandler(InvalidRefreshTokenException.class)
+    public ResponseEntity<ApiErrorResponse> handleInvalidRefreshToken(
+        InvalidRefreshTokenException ex, HttpServletRequest request
+    ) {
+        warn(
+            log,
+            ExceptionMessages.METHOD_URI_MESSAGE_FORMAT,
+            request.getMethod(),
+            request.getRequestURI(),
+            ex.getMessage()
+        );
+
+        return buildErrorResponse(
+            HttpStatus.UNAUTHORIZED,
+            ex.getMessage(),
+            request
+        );
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ApiErrorResponse> handleValidationErrors(
         MethodArgumentNotValidException ex, HttpServletRequest request
@@ -249,6 +300,124 @@ public class GlobalExceptionHandler {
         );
     }
 
+    @ExceptionHandler(LinkVersionMismatchException.class)
+    public ResponseEntity<ApiErrorResponse> handleLinkVersionMismatch(
+        LinkVersionMismatchException ex, HttpServletRequest request
+    ) {
+        warn(
+            log,
+            ExceptionMessages.METHOD_URI_MESSAGE_FORMAT,
+            request.getMethod(),
+            request.getRequestURI(),
+            ex.getMessage()
+        );
+
+        return buildErrorResponse(
+            HttpStatus.PRECONDITION_FAILED,
+            ex.getMessage(),
+            request
+        );
+    }
+
+    @ExceptionHandler(DuplicateLinkException.class)
+    public ResponseEntity<ApiErrorResponse> handleDuplicateLink(
+        DuplicateLinkException ex, HttpServletRequest request
+    ) {
+        warn(
+            log,
+            ExceptionMessages.METHOD_URI_MESSAGE_FORMAT,
+            request.getMethod(),
+            request.getRequestURI(),
+            ex.getMessage()
+        );
+
+        return buildErrorResponse(
+            HttpStatus.CONFLICT,
+            ex.getMessage(),
+            request
+        );
+    }
+
+    @ExceptionHandler(PreconditionRequiredException.class)
+    public ResponseEntity<ApiErrorResponse> handlePreconditionRequired(
+        PreconditionRequiredException ex, HttpServletRequest request
+    ) {
+        warn(
+            log,
+            ExceptionMessages.METHOD_URI_MESSAGE_FORMAT,
+            request.getMethod(),
+            request.getRequestURI(),
+            ex.getMessage()
+        );
+
+        return buildErrorResponse(
+            HttpStatus.PRECONDITION_REQUIRED,
+            ex.getMessage(),
+            request
+        );
+    }
+
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<ApiErrorResponse> handleInvalidCursor(
+        InvalidCursorException ex, HttpServletRequest request
+    ) {
+        warn(
+            log,
+            ExceptionMessages.METHOD_URI_MESSAGE_FORMAT,
+            request.getMethod(),
+            request.getRequestURI(),
+            ex.getMessage()
+        );
+
+        return buildErrorResponse(
+            HttpStatus.BAD_REQUEST,
+            ex.getMessage(),
+            request
+        );
+    }
+
+    @ExceptionHandler(InvalidTagExpressionException.class)
+    public ResponseEntity<ApiErrorResponse> handleInvalidTagExpression(
+        InvalidTagExpressionException ex, HttpServletRequest request
+    ) {
+        warn(
+            log,
+            ExceptionMessages.METHOD_URI_MESSAGE_FORMAT,
+            request.getMethod(),
+            request.getRequestURI(),
+            ex.getMessage()
+        );
+
+        return buildErrorResponse(
+            HttpStatus.BAD_REQUEST,
+            ex.getMessage(),
+            request
+        );
+    }
+
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<ApiErrorResponse> handleDataIntegrityViolation(
+        DataIntegrityViolationException ex, HttpServletRequest request
+    ) {
+        if (!isUniqueViolation(ex)) {
+            return handleGeneric(ex, request);
+        }
+
+        warn(
+            log,
+            ExceptionMessages.METHOD_URI_MESSAGE_FORMAT,
+            request.getMethod(),
+            request.getRequestURI(),
+            ex.getMostSpecificCause().getMessage()
+        );
+
+        return buildErrorResponse(
+            HttpStatus.CONFLICT,
+            ExceptionMessages.DATA_CONFLICT,
+            request
+        );
+    }
+
     @ExceptionHandler(RegistrationFailedException.class)
     public ResponseEntity<ApiErrorResponse> handleRegistrationFailure(
         RegistrationFailedException ex, HttpServletRequest request
@@ -269,6 +438,75 @@ public class GlobalExceptionHandler {
         );
     }
 
+    @ExceptionHandler(ServiceOverloadedException.class)
+    public ResponseEntity<ApiErrorResponse> handleServiceOverloaded(
+        ServiceOverloadedException ex, HttpServletRequest request
+    ) {
+        warn(
+            log,
+            ExceptionMessages.METHOD_URI_MESSAGE_FORMAT,
+            request.getMethod(),
+            request.getRequestURI(),
+            ex.getMessage()
+        );
+
+        return buildRetryAfterResponse(
+            HttpStatus.SERVICE_UNAVAILABLE,
+            ex.getRetryAfterSeconds(),
+            ex.getMessage(),
+            request
+        );
+    }
+
+    @ExceptionHandler(TooManyLoginAttemptsException.class)
+    public ResponseEntity<ApiErrorResponse> handleTooManyLoginAttempts(
+        TooManyLoginAttemptsException ex, HttpServletRequest request
+    ) {
+        warn(
+            log,
+            ExceptionMessages.METHOD_URI_MESSAGE_FORMAT,
+            request.getMethod(),
+            request.getRequestURI(),
+            ex.getMessage()
+        );
+
+        return buildRetryAfterResponse(
+            HttpStatus.TOO_MANY_REQUESTS,
+            ex.getRetryAfterSeconds(),
+            ex.getMessage(),
+            request
+        );
+    }
+
+    // Only a known unique constraint means the request clashed with existing data;
+    // not-null, foreign-key and check failures are bugs and stay 500s. Hibernate names
+    // the constraint; a JDBC batch only carries it in the driver's message.
+    private static boolean isUniqueViolation(DataIntegrityViolationException ex) {
+        String constraint = ex.getCause() instanceof org.hibernate.exception.ConstraintViolationException violation
+            ? violation.getConstraintName()
+            : ex.getMostSpecificCause().getMessage();
+        if (constraint == null) {
+            return false;
+        }
+        String name = constraint.toLowerCase(Locale.ROOT);
+        return UNIQUE_CONSTRAINTS.stream().anyMatch(name::contains);
+    }
+
+    private ResponseEntity<ApiErrorResponse> buildRetryAfterResponse(
+        HttpStatus status, long retryAfterSeconds, String message, HttpServletRequest request
+    ) {
+        return ResponseEntity.status(status)
+            .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+            .body(new ApiErrorResponse(
+                status.value(),
+                message,
+                null,
+                Instant.now().toString(),
+                request.getRequestURI()
+            )
+        );
+    }
+
     private ResponseEntity<ApiErrorResponse> buildErrorResponse(
         HttpStatus status, String message, HttpServletRequest request
     ) {
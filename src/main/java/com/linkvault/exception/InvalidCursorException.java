@@ -0,0 +1,7 @@
+package com.linkvault.exception;
+
+public class InvalidCursorException extends RuntimeException {
+    public InvalidCursorException(String cursor) {
+        super(String.format(ExceptionMessages.INVALID_CURSOR, cursor));
+    }
+}
@@ -0,0 +1,7 @@
+package com.linkvault.exception;
+
+public class InvalidRefreshTokenException extends RuntimeException {
+    public InvalidRefreshTokenException() {
+        super(ExceptionMessages.INVALID_REFRESH_TOKEN);
+    }
+}
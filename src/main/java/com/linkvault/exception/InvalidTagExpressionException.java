@@ -0,0 +1,7 @@
+package com.linkvault.exception;
+
+public class InvalidTagExpressionException extends RuntimeException {
+    public InvalidTagExpressionException(int position, String reason) {
+        super(String.format(ExceptionMessages.INVALID_TAG_EXPRESSION, position, reason));
+    }
+}
@@ -0,0 +1,7 @@
+package com.linkvault.exception;
+
+public class LinkVersionMismatchException extends RuntimeException {
+    public LinkVersionMismatchException(Long linkId) {
+        super(String.format(ExceptionMessages.LINK_VERSION_MISMATCH, linkId));
+    }
+}
@@ -0,0 +1,7 @@
+package com.linkvault.exception;
+
+public class LinksSaveException extends RuntimeException {
+    public LinksSaveException(Long userId, Throwable cause) {
+        super(String.format(ExceptionMessages.LINKS_SAVE_FAILED, userId), cause);
+    }
+}
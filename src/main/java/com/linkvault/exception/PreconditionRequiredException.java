@@ -0,0 +1,7 @@
+package com.linkvault.exception;
+
+public class PreconditionRequiredException extends RuntimeException {
+    public PreconditionRequiredException(String header) {
+        super(String.format(ExceptionMessages.PRECONDITION_REQUIRED, header));
+    }
+}
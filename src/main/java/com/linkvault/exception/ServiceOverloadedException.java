@@ -0,0 +1,17 @@
+package com.linkvault.exception;
+
+import lombok.Getter;
+
+@Getter
+public class ServiceOverloadedException extends RuntimeException {
+    private final long retryAfterSeconds;
+
+    public ServiceOverloadedException(long retryAfterSeconds, Throwable cause) {
+        this(ExceptionMessages.SERVICE_OVERLOADED, retryAfterSeconds, cause);
+    }
+
+    public ServiceOverloadedException(String message, long retryAfterSeconds, Throwable cause) {
+        super(message, cause);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,13 @@
+package com.linkvault.exception;
+
+import lombok.Getter;
+
+@Getter
+public class TooManyLoginAttemptsException extends RuntimeException {
+    private final long retryAfterSeconds;
+
+    public TooManyLoginAttemptsException(long retryAfterSeconds) {
+        super(ExceptionMessages.TOO_MANY_LOGIN_ATTEMPTS);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
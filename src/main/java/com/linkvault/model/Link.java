@@ -1,14 +1,17 @@
 package com.linkvault.model;
 
 import com.fasterxml.jackson.annotation.JsonBackReference;
+import com.linkvault.util.UrlCanonicalizer;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDateTime;
 
@@ -17,17 +20,34 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
+@DynamicUpdate
+@Table(
+    indexes = @Index(name = "idx_link_user_created_id", columnList = "user_id, created_at, id"),
+    uniqueConstraints = @UniqueConstraint(name = Link.URL_HASH_CONSTRAINT, columnNames = {"user_id", "url_hash"})
+)
 public class Link {
+    public static final String URL_HASH_CONSTRAINT = "uk_link_user_url_hash";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "link_seq")
+    @SequenceGenerator(name = "link_seq", sequenceName = "link_seq", allocationSize = 50)
     private Long id;
     private String url;
+    // Hash of the canonical URL, kept in step by setUrl. The URL itself is stored as
+    // entered; only the hash is unique per user, so a duplicate check is one probe.
+    @Setter(AccessLevel.NONE)
+    @Column(name = "url_hash", nullable = false, length = UrlCanonicalizer.HASH_LENGTH)
+    private byte[] urlHash;
     private String title;
     private String description;
+    @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
+    @Version
+    @Column(nullable = false)
+    private Long version;
 
     public Link(String url, String title, String description, User user) {
-        this.url = url;
+        setUrl(url);
         this.title = title;
         this.description = description;
         this.user = user;
@@ -38,6 +58,11 @@ public class Link {
     @JsonBackReference
     private User user;
 
+    public void setUrl(String url) {
+        this.url = url;
+        this.urlHash = UrlCanonicalizer.hash(url);
+    }
+
     @PrePersist
     protected void onCreate() {
         this.createdAt = LocalDateTime.now();
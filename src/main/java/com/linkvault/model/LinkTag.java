@@ -0,0 +1,48 @@
+package com.linkvault.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.io.Serializable;
+
+/**
+ * Join row between a link and a tag. Rows are written and removed in bulk with
+ * plain SQL, and the database drops them together with either side.
+ */
+@Getter
+@NoArgsConstructor
+@Entity
+@IdClass(LinkTag.Key.class)
+@Table(name = "link_tag", indexes = @Index(name = "idx_link_tag_tag_link", columnList = "tag_id, link_id"))
+public class LinkTag {
+    @Id
+    @Column(name = "link_id")
+    private Long linkId;
+    @Id
+    @Column(name = "tag_id")
+    private Long tagId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "link_id", insertable = false, updatable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Link link;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "tag_id", insertable = false, updatable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Tag tag;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private Long linkId;
+        private Long tagId;
+    }
+}
@@ -0,0 +1,52 @@
+package com.linkvault.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.io.Serializable;
+
+/**
+ * One trigram of a link's title or URL, the persisted index behind fuzzy search.
+ * The owner is copied onto every row so candidates are found with a single seek on
+ * (user_id, trigram). Rows are removed by the database together with their link,
+ * including by the bulk deletes, which never load the links.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@IdClass(LinkTrigram.Key.class)
+@Table(
+    name = "link_trigram",
+    indexes = @Index(name = "idx_link_trigram_user_trigram", columnList = "user_id, trigram, link_id")
+)
+public class LinkTrigram {
+    @Id
+    @Column(name = "link_id")
+    private Long linkId;
+    // Three code points, each up to two UTF-16 units
+    @Id
+    @Column(length = 6)
+    private String trigram;
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "link_id", insertable = false, updatable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Link link;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private Long linkId;
+        private String trigram;
+    }
+}
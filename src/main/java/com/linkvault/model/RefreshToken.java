@@ -0,0 +1,46 @@
+package com.linkvault.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+/**
+ * Persisted refresh token. Only the SHA-256 digest of the token is stored, so a leaked
+ * table cannot be replayed; every token issued for one login shares a session id.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+@Table(
+    name = "refresh_token",
+    indexes = @Index(name = "idx_refresh_token_session", columnList = "session_id")
+)
+public class RefreshToken {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    @Column(name = "token_hash", nullable = false, unique = true, length = 44)
+    private String tokenHash;
+    @Column(name = "session_id", nullable = false, length = 36)
+    private String sessionId;
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+    @Column(name = "rotated_at")
+    private Instant rotatedAt;
+    @Column(name = "revoked_at")
+    private Instant revokedAt;
+
+    public RefreshToken(String tokenHash, String sessionId, Long userId, Instant expiresAt) {
+        this.tokenHash = tokenHash;
+        this.sessionId = sessionId;
+        this.userId = userId;
+        this.expiresAt = expiresAt;
+    }
+}
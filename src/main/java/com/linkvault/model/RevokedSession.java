@@ -0,0 +1,29 @@
+package com.linkvault.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * A revoked login session. Rows only need to outlive the access tokens issued for the
+ * session, so the table stays small and expired rows are pruned.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "revoked_session")
+public class RevokedSession {
+
+    @Id
+    @Column(name = "session_id", length = 36)
+    private String sessionId;
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+}
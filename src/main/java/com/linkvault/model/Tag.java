@@ -0,0 +1,37 @@
+package com.linkvault.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+/**
+ * A user's label for links. Names are stored lower-case and are unique per user;
+ * rows are created on first use and removed by the database with their owner.
+ */
+@Getter
+@NoArgsConstructor
+@Entity
+@Table(
+    name = "tag",
+    uniqueConstraints = @UniqueConstraint(name = Tag.NAME_CONSTRAINT, columnNames = {"user_id", "name"})
+)
+public class Tag {
+    public static final String NAME_CONSTRAINT = "uk_tag_user_name";
+    public static final int MAX_NAME_LENGTH = 50;
+    public static final String NAME_PATTERN = "[A-Za-z0-9][A-Za-z0-9._-]{0,49}";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+    @Column(nullable = false, length = MAX_NAME_LENGTH)
+    private String name;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", insertable = false, updatable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private User user;
+}
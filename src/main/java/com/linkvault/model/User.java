@@ -6,6 +6,11 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -15,16 +20,31 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "app_user")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "user")
+@NaturalIdCache(region = "user-natural-id")
+@Table(
+    name = "app_user",
+    uniqueConstraints = @UniqueConstraint(name = User.USERNAME_CONSTRAINT, columnNames = "username")
+)
 public class User {
+    public static final String USERNAME_CONSTRAINT = "uk_app_user_username";
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
+    @NaturalId
+    @Column(nullable = false)
     private String username;
     private String password;
     @Enumerated(EnumType.STRING)
     private Role role = Role.USER;
+    // Bumped by every link write; the link list ETag is derived from it. The column
+    // default covers users inserted through UserBatchRepository. Only ever written
+    // through UserLinksVersionRepository and read by query, so the copy held here
+    // (and in the second-level cache) is not kept current.
+    @ColumnDefault("0")
+    @Column(nullable = false, insertable = false, updatable = false)
+    private long linksVersion;
 
     public User(String username, String password) {
         this.username = username;
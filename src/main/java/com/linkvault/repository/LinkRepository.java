@@ -1,10 +1,154 @@
 package com.linkvault.repository;
 
+import com.linkvault.dto.LinkResponse;
+import com.linkvault.dto.LinkRow;
+import com.linkvault.dto.LinkTitleCompletion;
+import com.linkvault.dto.VersionedLinkResponse;
 import com.linkvault.model.Link;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
+/**
+ * Read queries select straight into response records, so no Link entities, lazy User
+ * proxies or dirty-checking snapshots are created on the read paths. Link has no
+ * second-level cache region, so the {@code @Modifying} statements evict nothing.
+ */
 public interface LinkRepository extends JpaRepository<Link, Long> {
-    List<Link> findByUserId(Long userId);
+
+    @Query("""
+        select new com.linkvault.dto.LinkResponse(l.id, l.url, l.title, l.description, l.user.id)
+        from Link l
+        where l.user.id = :userId
+        order by l.createdAt, l.id
+        """)
+    List<LinkResponse> findResponsesByUserId(@Param("userId") Long userId);
+
+    @Query("""
+        select new com.linkvault.dto.LinkResponse(l.id, l.url, l.title, l.description, l.user.id)
+        from Link l
+        where l.user.id = :userId and l.id in :ids
+        """)
+    List<LinkResponse> findResponsesByUserIdAndIdIn(
+        @Param("userId") Long userId, @Param("ids") Collection<Long> ids
+    );
+
+    @Query("select l.id from Link l where l.user.id = :userId order by l.id")
+    List<Long> findIdsByUserId(@Param("userId") Long userId);
+
+    @Query("""
+        select new com.linkvault.dto.LinkTitleCompletion(l.id, l.title)
+        from Link l
+        where l.user.id = :userId
+        """)
+    List<LinkTitleCompletion> findTitlesByUserId(@Param("userId") Long userId);
+
+    // Owner-scoped single-row operations: a miss means the link is absent or belongs
+    // to someone else, and callers check existence only on that path.
+    @Query("""
+        select new com.linkvault.dto.VersionedLinkResponse(
+            l.id, l.url, l.title, l.description, l.user.id, l.version
+        )
+        from Link l
+        where l.id = :id and l.user.id = :userId
+        """)
+    Optional<VersionedLinkResponse> findResponseByIdAndUserId(@Param("id") Long id, @Param("userId") Long userId);
+
+    Optional<Link> findByIdAndUserId(Long id, Long userId);
+
+    // Both lookups below are probes of the unique (user_id, url_hash) index
+    @Query("""
+        select new com.linkvault.dto.LinkResponse(l.id, l.url, l.title, l.description, l.user.id)
+        from Link l
+        where l.user.id = :userId and l.urlHash = :urlHash
+        """)
+    Optional<LinkResponse> findResponseByUserIdAndUrlHash(
+        @Param("userId") Long userId, @Param("urlHash") byte[] urlHash
+    );
+
+    @Query("select l.urlHash from Link l where l.user.id = :userId and l.urlHash in :urlHashes")
+    List<byte[]> findUrlHashesByUserIdAndUrlHashIn(
+        @Param("userId") Long userId, @Param("urlHashes") Collection<byte[]> urlHashes
+    );
+
+    @Query("select l.version from Link l where l.id = :id and l.user.id = :userId")
+    Optional<Long> findVersionByIdAndUserId(@Param("id") Long id, @Param("userId") Long userId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+        update Link l
+        set l.url = :url, l.urlHash = :urlHash, l.title = :title, l.description = :description, l.version = l.version + 1
+        where l.id = :id and l.user.id = :userId
+        """)
+    int updateByIdAndUserId(
+        @Param("id") Long id,
+        @Param("userId") Long userId,
+        @Param("url") String url,
+        @Param("urlHash") byte[] urlHash,
+        @Param("title") String title,
+        @Param("description") String description
+    );
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Link l where l.id = :id and l.user.id = :userId")
+    int deleteByIdAndUserId(@Param("id") Long id, @Param("userId") Long userId);
+
+    /**
+     * Forward-only cursor over a user's links. Must be consumed inside a transaction
+     * and closed; rows are pulled from the driver in fetch-size chunks.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("""
+        select new com.linkvault.dto.LinkResponse(l.id, l.url, l.title, l.description, l.user.id)
+        from Link l
+        where l.user.id = :userId
+        order by l.createdAt, l.id
+        """)
+    Stream<LinkResponse> streamByUserId(@Param("userId") Long userId);
+
+    @Query("""
+        select new com.linkvault.dto.LinkRow(l.id, l.url, l.title, l.description, l.user.id, l.createdAt)
+        from Link l
+        where l.user.id = :userId
+        order by l.createdAt, l.id
+        """)
+    List<LinkRow> findFirstPage(@Param("userId") Long userId, Limit limit);
+
+    // The leading createdAt >= bound lets the (user_id, created_at, id) index seek
+    // straight to the cursor, so every page costs the same as the first.
+    @Query("""
+        select new com.linkvault.dto.LinkRow(l.id, l.url, l.title, l.description, l.user.id, l.createdAt)
+        from Link l
+        where l.user.id = :userId
+          and l.createdAt >= :createdAt
+          and (l.createdAt > :createdAt or l.id > :id)
+        order by l.createdAt, l.id
+        """)
+    List<LinkRow> findPageAfter(
+        @Param("userId") Long userId,
+        @Param("createdAt") LocalDateTime createdAt,
+        @Param("id") Long id,
+        Limit limit
+    );
+
+    // Bulk deletes run as one statement and bypass the persistence context, so it is
+    // flushed first and cleared afterwards to avoid handing out deleted entities.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Link l where l.user.id = :userId")
+    int deleteAllByUserId(@Param("userId") Long userId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Link l where l.user.id = :userId and l.id in :ids")
+    int deleteByUserIdAndIdIn(@Param("userId") Long userId, @Param("ids") Collection<Long> ids);
 }
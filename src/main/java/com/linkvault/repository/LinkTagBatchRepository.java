@@ -0,0 +1,9 @@
+package com.linkvault.repository;
+
+import java.util.Collection;
+
+public interface LinkTagBatchRepository {
+    long findOrCreateTag(Long userId, String name);
+    int tagLinks(Long userId, long tagId, Collection<Long> linkIds);
+    int untagLinks(long tagId, Collection<Long> linkIds);
+}
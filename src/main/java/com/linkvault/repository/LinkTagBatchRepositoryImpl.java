@@ -0,0 +1,95 @@
+package com.linkvault.repository;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Plain JDBC for tagging. Tagging and untagging any number of links is a single
+ * set-based statement, and nothing passes through the persistence context.
+ */
+public class LinkTagBatchRepositoryImpl implements LinkTagBatchRepository {
+    private static final String INSERT_TAG = "insert into tag (user_id, name) values (?, ?)";
+    // SQLSTATE of a unique constraint violation
+    private static final String UNIQUE_VIOLATION = "23505";
+    private static final String SELECT_TAG_ID =
+        "select id from tag where user_id = :userId and name = :name";
+    // Ownership and duplicates are checked in the same statement: ids of other users'
+    // links, and links already carrying the tag, are skipped.
+    private static final String TAG_LINKS = """
+        insert into link_tag (link_id, tag_id)
+        select l.id, :tagId
+        from link l
+        where l.user_id = :userId
+          and l.id in (:linkIds)
+          and not exists (select 1 from link_tag lt where lt.link_id = l.id and lt.tag_id = :tagId)
+        """;
+    private static final String UNTAG_LINKS =
+        "delete from link_tag where tag_id = :tagId and link_id in (:linkIds)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    public LinkTagBatchRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+    }
+
+    @Override
+    public long findOrCreateTag(Long userId, String name) {
+        Map<String, Object> params = Map.of("userId", userId, "name", name);
+        List<Long> existing = namedJdbcTemplate.queryForList(SELECT_TAG_ID, params, Long.class);
+        if (!existing.isEmpty()) {
+            return existing.getFirst();
+        }
+
+        insertTagUnlessTaken(userId, name);
+        return namedJdbcTemplate.queryForObject(SELECT_TAG_ID, params, Long.class);
+    }
+
+    // Two first uses of a tag can both miss it above; the later insert then fails on
+    // uk_tag_user_name once the earlier one commits, and the select after it finds
+    // that row. The savepoint undoes only the failed insert, so the caller's
+    // transaction stays usable on databases that abort it after any error.
+    private void insertTagUnlessTaken(Long userId, String name) {
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            Savepoint savepoint = connection.getAutoCommit() ? null : connection.setSavepoint();
+            try (PreparedStatement insert = connection.prepareStatement(INSERT_TAG)) {
+                insert.setLong(1, userId);
+                insert.setString(2, name);
+                insert.executeUpdate();
+            } catch (SQLException e) {
+                if (!UNIQUE_VIOLATION.equals(e.getSQLState())) {
+                    throw e;
+                }
+                if (savepoint != null) {
+                    connection.rollback(savepoint);
+                }
+                return null;
+            }
+
+            if (savepoint != null) {
+                connection.releaseSavepoint(savepoint);
+            }
+            return null;
+        });
+    }
+
+    @Override
+    public int tagLinks(Long userId, long tagId, Collection<Long> linkIds) {
+        return namedJdbcTemplate.update(TAG_LINKS, Map.of("userId", userId, "tagId", tagId, "linkIds", linkIds));
+    }
+
+    // A tag id already belongs to one user, and only that user's links can carry it
+    @Override
+    public int untagLinks(long tagId, Collection<Long> linkIds) {
+        return namedJdbcTemplate.update(UNTAG_LINKS, Map.of("tagId", tagId, "linkIds", linkIds));
+    }
+}
@@ -0,0 +1,18 @@
+package com.linkvault.repository;
+
+import com.linkvault.model.LinkTag;
+import com.linkvault.search.TagAssignment;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface LinkTagRepository extends JpaRepository<LinkTag, LinkTag.Key>, LinkTagBatchRepository {
+    @Query("""
+        select new com.linkvault.search.TagAssignment(lt.linkId, t.name)
+        from LinkTag lt join lt.tag t
+        where t.userId = :userId
+        """)
+    List<TagAssignment> findAssignmentsByUserId(@Param("userId") Long userId);
+}
@@ -0,0 +1,9 @@
+package com.linkvault.repository;
+
+import com.linkvault.model.LinkTrigram;
+
+import java.util.List;
+
+public interface LinkTrigramBatchRepository {
+    int batchInsert(List<LinkTrigram> trigrams);
+}
@@ -0,0 +1,45 @@
+package com.linkvault.repository;
+
+import com.linkvault.model.LinkTrigram;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+/**
+ * Plain JDBC inserts for trigram rows. A link yields dozens of them, and going
+ * through the persistence context would snapshot every one for dirty checking.
+ */
+public class LinkTrigramBatchRepositoryImpl implements LinkTrigramBatchRepository {
+    private static final String INSERT_TRIGRAM =
+        "insert into link_trigram (link_id, trigram, user_id) values (?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+
+    public LinkTrigramBatchRepositoryImpl(
+        JdbcTemplate jdbcTemplate,
+        @Value("${links.fuzzy-search.batch-size:1000}") int batchSize
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public int batchInsert(List<LinkTrigram> trigrams) {
+        int[][] counts = jdbcTemplate.batchUpdate(INSERT_TRIGRAM, trigrams, batchSize, (ps, trigram) -> {
+            ps.setLong(1, trigram.getLinkId());
+            ps.setString(2, trigram.getTrigram());
+            ps.setLong(3, trigram.getUserId());
+        });
+
+        int inserted = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                // Some drivers report SUCCESS_NO_INFO (-2) instead of a row count.
+                inserted += count < 0 ? 1 : count;
+            }
+        }
+        return inserted;
+    }
+}
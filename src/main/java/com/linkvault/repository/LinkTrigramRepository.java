@@ -0,0 +1,44 @@
+package com.linkvault.repository;
+
+import com.linkvault.model.LinkTrigram;
+import com.linkvault.search.TrigramCandidate;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.SpecHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface LinkTrigramRepository extends JpaRepository<LinkTrigram, LinkTrigram.Key>, LinkTrigramBatchRepository {
+    /**
+     * Links of the user sharing at least {@code minShared} of the given trigrams, most
+     * shared first. Served from the (user_id, trigram, link_id) index alone; the
+     * timeout caps how long a pathological query can hold a connection.
+     */
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_QUERY_TIMEOUT, value = "500"))
+    @Query("""
+        select new com.linkvault.search.TrigramCandidate(t.linkId, count(t))
+        from LinkTrigram t
+        where t.userId = :userId and t.trigram in :trigrams
+        group by t.linkId
+        having count(t) >= :minShared
+        order by count(t) desc, t.linkId
+        """)
+    List<TrigramCandidate> findCandidates(
+        @Param("userId") Long userId,
+        @Param("trigrams") Collection<String> trigrams,
+        @Param("minShared") long minShared,
+        Limit limit
+    );
+
+    // Flushes first so links created in this transaction exist before their rows
+    // are inserted again with JDBC.
+    @Modifying(flushAutomatically = true)
+    @Query("delete from LinkTrigram t where t.linkId in :linkIds")
+    int deleteByLinkIdIn(@Param("linkIds") Collection<Long> linkIds);
+}
@@ -0,0 +1,34 @@
+package com.linkvault.repository;
+
+import com.linkvault.model.RefreshToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Optional;
+
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
+
+    @Modifying
+    @Query("""
+        update RefreshToken r set r.rotatedAt = :now
+        where r.id = :id and r.rotatedAt is null and r.revokedAt is null
+        """)
+    int markRotated(@Param("id") Long id, @Param("now") Instant now);
+
+    @Modifying
+    @Query("""
+        update RefreshToken r set r.revokedAt = :now
+        where r.sessionId = :sessionId and r.revokedAt is null
+        """)
+    int revokeSession(@Param("sessionId") String sessionId, @Param("now") Instant now);
+
+    @Transactional
+    @Modifying
+    @Query("delete from RefreshToken r where r.expiresAt < :now")
+    int deleteExpired(@Param("now") Instant now);
+}
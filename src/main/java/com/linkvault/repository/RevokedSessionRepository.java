@@ -0,0 +1,20 @@
+package com.linkvault.repository;
+
+import com.linkvault.model.RevokedSession;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface RevokedSessionRepository extends JpaRepository<RevokedSession, String> {
+    List<RevokedSession> findByExpiresAtAfter(Instant now);
+
+    @Transactional
+    @Modifying
+    @Query("delete from RevokedSession r where r.expiresAt < :now")
+    int deleteExpired(@Param("now") Instant now);
+}
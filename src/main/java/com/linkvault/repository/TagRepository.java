@@ -0,0 +1,13 @@
+package com.linkvault.repository;
+
+import com.linkvault.model.Tag;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface TagRepository extends JpaRepository<Tag, Long> {
+    @Query("select t.id from Tag t where t.userId = :userId and t.name = :name")
+    Optional<Long> findIdByUserIdAndName(@Param("userId") Long userId, @Param("name") String name);
+}
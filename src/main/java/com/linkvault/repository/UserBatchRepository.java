@@ -0,0 +1,12 @@
+package com.linkvault.repository;
+
+import com.linkvault.model.User;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+public interface UserBatchRepository {
+    Set<String> findExistingUsernames(Collection<String> usernames);
+    int batchInsert(List<User> users);
+}
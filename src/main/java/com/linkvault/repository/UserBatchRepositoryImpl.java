@@ -0,0 +1,71 @@
+package com.linkvault.repository;
+
+import com.linkvault.model.User;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Plain JDBC for bulk user writes. User ids are IDENTITY generated, which stops
+ * Hibernate from batching inserts, so these go through JdbcTemplate instead.
+ */
+public class UserBatchRepositoryImpl implements UserBatchRepository {
+    private static final String INSERT_USER =
+        "insert into app_user (username, password, role) values (?, ?, ?)";
+    private static final String SELECT_EXISTING =
+        "select username from app_user where username in (:usernames)";
+    // Keeps the IN list well under common database bind-parameter limits.
+    private static final int LOOKUP_CHUNK_SIZE = 1_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final int batchSize;
+
+    public UserBatchRepositoryImpl(
+        JdbcTemplate jdbcTemplate,
+        @Value("${security.user-provisioning.batch-size:500}") int batchSize
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public Set<String> findExistingUsernames(Collection<String> usernames) {
+        List<String> all = List.copyOf(usernames);
+        Set<String> existing = new HashSet<>();
+
+        for (int from = 0; from < all.size(); from += LOOKUP_CHUNK_SIZE) {
+            List<String> chunk = all.subList(from, Math.min(all.size(), from + LOOKUP_CHUNK_SIZE));
+            existing.addAll(namedJdbcTemplate.queryForList(
+                SELECT_EXISTING, Map.of("usernames", chunk), String.class
+            ));
+        }
+
+        return existing;
+    }
+
+    @Override
+    public int batchInsert(List<User> users) {
+        int[][] counts = jdbcTemplate.batchUpdate(INSERT_USER, users, batchSize, (ps, user) -> {
+            ps.setString(1, user.getUsername());
+            ps.setString(2, user.getPassword());
+            ps.setString(3, user.getRole().name());
+        });
+
+        int inserted = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                // Some drivers report SUCCESS_NO_INFO (-2) instead of a row count.
+                inserted += count < 0 ? 1 : count;
+            }
+        }
+        return inserted;
+    }
+}
@@ -0,0 +1,5 @@
+package com.linkvault.repository;
+
+public interface UserLinksVersionRepository {
+    long incrementLinksVersion(Long userId);
+}
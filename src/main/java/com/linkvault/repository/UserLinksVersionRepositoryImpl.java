@@ -0,0 +1,33 @@
+package com.linkvault.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Bumps the link list version with plain JDBC. The same statement as a JPQL bulk
+ * update would make Hibernate evict the whole user cache region on every link write;
+ * the column is never read from the entity, so there is nothing cached to invalidate.
+ */
+public class UserLinksVersionRepositoryImpl implements UserLinksVersionRepository {
+    private static final String INCREMENT_LINKS_VERSION =
+        "update app_user set links_version = links_version + 1 where id = ?";
+    private static final String SELECT_LINKS_VERSION =
+        "select links_version from app_user where id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public UserLinksVersionRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // Also row-locks the user until commit, so concurrent link writes for one user
+    // are serialized, no increment is lost and each commit gets its own version, in
+    // commit order. Returns the new version, or 0 when the user does not exist.
+    @Override
+    public long incrementLinksVersion(Long userId) {
+        if (jdbcTemplate.update(INCREMENT_LINKS_VERSION, userId) == 0) {
+            return 0;
+        }
+        Long version = jdbcTemplate.queryForObject(SELECT_LINKS_VERSION, Long.class, userId);
+        return version != null ? version : 0;
+    }
+}
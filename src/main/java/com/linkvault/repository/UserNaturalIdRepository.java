@@ -0,0 +1,11 @@
+package com.linkvault.repository;
+
+import com.linkvault.model.User;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+public interface UserNaturalIdRepository {
+    @Transactional(readOnly = true)
+    Optional<User> findByUsername(String username);
+}
@@ -0,0 +1,27 @@
+package com.linkvault.repository;
+
+import com.linkvault.model.User;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+
+import java.util.Optional;
+
+/**
+ * Username lookups through Hibernate's natural-id API. A derived query would always
+ * hit the database; this resolves the username from the natural-id cache region and
+ * the user from the entity region when both are warm.
+ */
+public class UserNaturalIdRepositoryImpl implements UserNaturalIdRepository {
+    private final EntityManager entityManager;
+
+    public UserNaturalIdRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public Optional<User> findByUsername(String username) {
+        return entityManager.unwrap(Session.class)
+            .bySimpleNaturalId(User.class)
+            .loadOptional(username);
+    }
+}
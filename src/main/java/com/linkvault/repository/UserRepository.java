@@ -2,10 +2,21 @@ package com.linkvault.repository;
 
 import com.linkvault.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
-public interface UserRepository extends JpaRepository<User, Long> {
-    boolean existsByUsername(String username);
-    Optional<User> findByUsername(String username);
+public interface UserRepository extends JpaRepository<User, Long>, UserBatchRepository,
+    UserNaturalIdRepository, UserLinksVersionRepository {
+
+    @Transactional
+    @Modifying
+    @Query("update User u set u.password = :password where u.username = :username")
+    int updatePassword(@Param("username") String username, @Param("password") String password);
+
+    @Query("select u.linksVersion from User u where u.id = :userId")
+    Optional<Long> findLinksVersion(@Param("userId") Long userId);
 }
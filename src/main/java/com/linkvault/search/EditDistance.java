@@ -0,0 +1,50 @@
+package com.linkvault.search;
+
+/**
+ * Levenshtein distance from a pattern to its best-matching substring of a text, so
+ * "kubernets" is one edit away from "kubernetes in action". The text may be entered
+ * and left anywhere at no cost, which makes it the distance fuzzy matches are ranked by.
+ */
+public final class EditDistance {
+    private EditDistance() {
+    }
+
+    /**
+     * Returns the distance, or {@code max + 1} as soon as it is certain to exceed
+     * {@code max}, so hopeless candidates cost only a few rows of the table.
+     */
+    public static int substring(String pattern, String text, int max) {
+        int n = text.length();
+        int[] previous = new int[n + 1];
+        int[] current = new int[n + 1];
+
+        // Row 0 is all zeros: the match may start at any position of the text
+        for (int i = 1; i <= pattern.length(); i++) {
+            char p = pattern.charAt(i - 1);
+            current[0] = i;
+            int rowMin = i;
+
+            for (int j = 1; j <= n; j++) {
+                int substitution = previous[j - 1] + (p == text.charAt(j - 1) ? 0 : 1);
+                int cost = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+                current[j] = cost;
+                rowMin = Math.min(rowMin, cost);
+            }
+
+            // Costs never decrease from one row to the next
+            if (rowMin > max) {
+                return max + 1;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+
+        // ... and it may end at any position too
+        int best = pattern.length();
+        for (int j = 0; j <= n; j++) {
+            best = Math.min(best, previous[j]);
+        }
+        return Math.min(best, max + 1);
+    }
+}
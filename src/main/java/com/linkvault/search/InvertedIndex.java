@@ -0,0 +1,236 @@
+package com.linkvault.search;
+
+import com.linkvault.dto.LinkResponse;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Inverted index over one user's links, ranked with BM25.
+ *
+ * Each indexed link gets an ordinal, and every term maps to a {@link PostingList}
+ * of ordinals. Updates never rewrite postings in place: the old ordinal is marked
+ * deleted and the link is appended under a new one. Once deleted ordinals outnumber
+ * live ones, all lists are rewritten without them. Until then deleted postings still
+ * count towards document frequencies, which only nudges idf, as in Lucene.
+ *
+ * Upserts and removes are idempotent, so a change applied to an index that was
+ * already built from the changed rows leaves it the same. Searches share a read
+ * lock; changes take the write lock.
+ */
+public class InvertedIndex {
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    // A title term counts as this many occurrences, so title matches outrank the rest
+    private static final int TITLE_WEIGHT = 2;
+    private static final int MIN_DELETED_BEFORE_COMPACTION = 1_024;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, PostingList> postings = new HashMap<>();
+    private final Map<Long, Integer> ordinalsByLinkId = new HashMap<>();
+    private final BitSet deleted = new BitSet();
+    private long[] linkIds = new long[16];
+    private int[] lengths = new int[16];
+    private int ordinalCount;
+    private long liveLength;
+
+    public static InvertedIndex of(List<LinkResponse> links) {
+        InvertedIndex index = new InvertedIndex();
+        links.forEach(index::upsert);
+        index.postings.values().forEach(PostingList::trim);
+        return index;
+    }
+
+    public void upsert(LinkResponse link) {
+        Map<String, Integer> frequencies = termFrequencies(link);
+        int length = frequencies.values().stream().mapToInt(Integer::intValue).sum();
+
+        lock.writeLock().lock();
+        try {
+            removeOrdinal(link.id());
+
+            int ordinal = ordinalCount++;
+            if (ordinal == linkIds.length) {
+                linkIds = Arrays.copyOf(linkIds, ordinal * 2);
+                lengths = Arrays.copyOf(lengths, ordinal * 2);
+            }
+            linkIds[ordinal] = link.id();
+            lengths[ordinal] = length;
+            liveLength += length;
+            ordinalsByLinkId.put(link.id(), ordinal);
+
+            frequencies.forEach((term, frequency) ->
+                postings.computeIfAbsent(term, t -> new PostingList()).add(ordinal, frequency));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long linkId) {
+        lock.writeLock().lock();
+        try {
+            removeOrdinal(linkId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the best {@code limit} links for the query, highest score first. Query
+     * terms are ORed; a link matching more of them, or rarer ones, scores higher.
+     */
+    public List<SearchHit> search(String query, int limit) {
+        Set<String> terms = new LinkedHashSet<>(LinkTokenizer.tokenize(query));
+
+        lock.readLock().lock();
+        try {
+            int live = ordinalsByLinkId.size();
+            if (live == 0 || terms.isEmpty()) {
+                return List.of();
+            }
+
+            double averageLength = Math.max(1.0, (double) liveLength / live);
+            double[] scores = new double[ordinalCount];
+            int[] docLengths = lengths;
+
+            for (String term : terms) {
+                PostingList list = postings.get(term);
+                if (list == null) {
+                    continue;
+                }
+
+                // Deleted postings can push the count past the live total; idf must stay positive
+                int df = Math.min(list.docCount(), live);
+                double idf = Math.log(1 + (live - df + 0.5) / (df + 0.5));
+                list.forEach((ordinal, tf) -> {
+                    double norm = K1 * (1 - B + B * docLengths[ordinal] / averageLength);
+                    scores[ordinal] += idf * tf * (K1 + 1) / (tf + norm);
+                });
+            }
+
+            return topHits(scores, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return ordinalsByLinkId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Rough object and String overheads; only the relative weights matter
+    public int estimatedBytes() {
+        lock.readLock().lock();
+        try {
+            long bytes = 64L + 12L * linkIds.length + 64L * ordinalsByLinkId.size();
+            for (Map.Entry<String, PostingList> entry : postings.entrySet()) {
+                bytes += 96 + 2L * entry.getKey().length() + entry.getValue().sizeInBytes();
+            }
+            return (int) Math.min(bytes, Integer.MAX_VALUE);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<SearchHit> topHits(double[] scores, int limit) {
+        Comparator<Integer> byScore = Comparator.<Integer>comparingDouble(ordinal -> scores[ordinal])
+            .thenComparing(ordinal -> linkIds[ordinal], Comparator.reverseOrder());
+        PriorityQueue<Integer> best = new PriorityQueue<>(limit + 1, byScore);
+
+        for (int ordinal = 0; ordinal < scores.length; ordinal++) {
+            if (scores[ordinal] <= 0 || deleted.get(ordinal)) {
+                continue;
+            }
+            if (best.size() < limit) {
+                best.add(ordinal);
+            } else if (byScore.compare(ordinal, best.peek()) > 0) {
+                best.poll();
+                best.add(ordinal);
+            }
+        }
+
+        List<SearchHit> hits = new ArrayList<>(best.size());
+        while (!best.isEmpty()) {
+            int ordinal = best.poll();
+            hits.add(new SearchHit(linkIds[ordinal], scores[ordinal]));
+        }
+        return hits.reversed();
+    }
+
+    private void removeOrdinal(long linkId) {
+        Integer ordinal = ordinalsByLinkId.remove(linkId);
+        if (ordinal == null) {
+            return;
+        }
+
+        deleted.set(ordinal);
+        liveLength -= lengths[ordinal];
+
+        int deletedCount = ordinalCount - ordinalsByLinkId.size();
+        if (deletedCount >= MIN_DELETED_BEFORE_COMPACTION && deletedCount > ordinalsByLinkId.size()) {
+            compact();
+        }
+    }
+
+    // Renumbers live ordinals densely and drops deleted postings and empty terms
+    private void compact() {
+        int[] newOrdinals = new int[ordinalCount];
+        int next = 0;
+        for (int ordinal = 0; ordinal < ordinalCount; ordinal++) {
+            if (deleted.get(ordinal)) {
+                newOrdinals[ordinal] = -1;
+            } else {
+                linkIds[next] = linkIds[ordinal];
+                lengths[next] = lengths[ordinal];
+                newOrdinals[ordinal] = next++;
+            }
+        }
+
+        Iterator<Map.Entry<String, PostingList>> entries = postings.entrySet().iterator();
+        while (entries.hasNext()) {
+            Map.Entry<String, PostingList> entry = entries.next();
+            PostingList remapped = entry.getValue().remap(newOrdinals);
+            if (remapped.docCount() == 0) {
+                entries.remove();
+            } else {
+                entry.setValue(remapped);
+            }
+        }
+
+        ordinalsByLinkId.replaceAll((linkId, ordinal) -> newOrdinals[ordinal]);
+        int capacity = Math.max(16, next);
+        linkIds = Arrays.copyOf(linkIds, capacity);
+        lengths = Arrays.copyOf(lengths, capacity);
+        deleted.clear();
+        ordinalCount = next;
+    }
+
+    private static Map<String, Integer> termFrequencies(LinkResponse link) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        for (String term : LinkTokenizer.tokenize(link.title())) {
+            frequencies.merge(term, TITLE_WEIGHT, Integer::sum);
+        }
+        for (String term : LinkTokenizer.tokenize(link.description())) {
+            frequencies.merge(term, 1, Integer::sum);
+        }
+        for (String term : LinkTokenizer.tokenizeUrl(link.url())) {
+            frequencies.merge(term, 1, Integer::sum);
+        }
+        return frequencies;
+    }
+}
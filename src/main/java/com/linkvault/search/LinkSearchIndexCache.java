@@ -0,0 +1,90 @@
+package com.linkvault.search;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.linkvault.dto.LinkResponse;
+import com.linkvault.util.TransactionalUserCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.NonNull;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * One {@link InvertedIndex} per user, built on the first search and dropped after
+ * the user has not searched for {@code idleTimeout}. The total is bounded by an
+ * estimate of the indexes' heap size.
+ *
+ * Writers hand their changes over once the transaction commits, tagged with the
+ * links version of their commit, see {@link TransactionalUserCache}. Upserts and
+ * removals set a link's state, so replaying them over an index that already holds
+ * it changes nothing.
+ */
+@Component
+public class LinkSearchIndexCache implements MeterBinder {
+    public static final String CACHE_NAME = "links.search-index";
+
+    private final TransactionalUserCache<Long, InvertedIndex> cache;
+
+    public LinkSearchIndexCache(
+        @Value("${links.search.max-weight:128MB}") DataSize maximumWeight,
+        @Value("${links.search.idle-timeout:30m}") Duration idleTimeout
+    ) {
+        this.cache = new TransactionalUserCache<>(CACHE_NAME, Caffeine.newBuilder()
+            .maximumWeight(maximumWeight.toBytes())
+            .expireAfterAccess(idleTimeout)
+            .recordStats(), InvertedIndex::estimatedBytes);
+    }
+
+    /**
+     * Returns the user's index, building it from the loader on a miss. Must be called
+     * inside the transaction that should see the links; the links version is read
+     * first.
+     */
+    public InvertedIndex get(Long userId, LongSupplier version, Supplier<List<LinkResponse>> loader) {
+        return cache.get(userId, id -> version.getAsLong(), id -> InvertedIndex.of(loader.get()));
+    }
+
+    public void linksSaved(Long userId, long version, Collection<LinkResponse> links) {
+        cache.updateAfterCommit(userId, version, index -> {
+            links.forEach(index::upsert);
+            return index;
+        });
+    }
+
+    public void linksRemoved(Long userId, long version, Collection<Long> linkIds) {
+        cache.updateAfterCommit(userId, version, index -> {
+            linkIds.forEach(index::remove);
+            return index;
+        });
+    }
+
+    /**
+     * Records a committed write that left the user's titles and URLs unchanged.
+     */
+    public void linksUnchanged(Long userId, long version) {
+        cache.advanceAfterCommit(userId, version);
+    }
+
+    /**
+     * Drops the user's index, for changes too broad to apply one link at a time.
+     */
+    public void invalidate(Long userId) {
+        cache.invalidate(userId);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        cache.bindTo(registry);
+    }
+}
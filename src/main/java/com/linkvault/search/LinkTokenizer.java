@@ -0,0 +1,54 @@
+package com.linkvault.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Splits text into lower-case runs of letters and digits. URLs fall apart on their
+ * punctuation, so "https://docs.spring.io/boot" yields https, docs, spring, io, boot.
+ */
+public final class LinkTokenizer {
+    // Longer runs are almost always ids or encoded blobs, not words anyone searches for
+    private static final int MAX_TOKEN_LENGTH = 64;
+    // Scheme and host prefixes appear in nearly every URL and would only add noise
+    private static final Set<String> URL_STOP_WORDS = Set.of("http", "https", "www");
+
+    private LinkTokenizer() {
+    }
+
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+
+        StringBuilder token = new StringBuilder();
+        for (int i = 0; i < text.length(); ) {
+            int codePoint = text.codePointAt(i);
+            i += Character.charCount(codePoint);
+
+            if (Character.isLetterOrDigit(codePoint)) {
+                token.appendCodePoint(codePoint);
+            } else {
+                flush(token, tokens);
+            }
+        }
+        flush(token, tokens);
+        return tokens;
+    }
+
+    public static List<String> tokenizeUrl(String url) {
+        List<String> tokens = tokenize(url);
+        tokens.removeIf(URL_STOP_WORDS::contains);
+        return tokens;
+    }
+
+    private static void flush(StringBuilder token, List<String> tokens) {
+        if (!token.isEmpty() && token.length() <= MAX_TOKEN_LENGTH) {
+            tokens.add(token.toString().toLowerCase(Locale.ROOT));
+        }
+        token.setLength(0);
+    }
+}
@@ -0,0 +1,107 @@
+package com.linkvault.search;
+
+import java.util.Arrays;
+
+/**
+ * Document ordinals and term frequencies for one term, stored as variable-length
+ * integers. Ordinals only ever grow, so each is written as the gap from the previous
+ * one, and most postings fit in two bytes.
+ */
+final class PostingList {
+    private byte[] data;
+    private int size;
+    private int docCount;
+    private int lastOrdinal;
+
+    PostingList() {
+        this.data = new byte[8];
+    }
+
+    private PostingList(int capacity) {
+        this.data = new byte[Math.max(capacity, 1)];
+    }
+
+    void add(int ordinal, int frequency) {
+        ensureCapacity(10);
+        writeVarInt(ordinal - lastOrdinal);
+        writeVarInt(frequency);
+        lastOrdinal = ordinal;
+        docCount++;
+    }
+
+    void forEach(Visitor visitor) {
+        int position = 0;
+        int ordinal = 0;
+
+        while (position < size) {
+            int gap = 0;
+            for (int shift = 0; ; shift += 7) {
+                byte b = data[position++];
+                gap |= (b & 0x7F) << shift;
+                if (b >= 0) {
+                    break;
+                }
+            }
+            int frequency = 0;
+            for (int shift = 0; ; shift += 7) {
+                byte b = data[position++];
+                frequency |= (b & 0x7F) << shift;
+                if (b >= 0) {
+                    break;
+                }
+            }
+
+            ordinal += gap;
+            visitor.accept(ordinal, frequency);
+        }
+    }
+
+    /**
+     * Copies the list with every ordinal replaced by {@code newOrdinals[ordinal]},
+     * dropping those mapped to -1. The mapping must preserve order.
+     */
+    PostingList remap(int[] newOrdinals) {
+        PostingList remapped = new PostingList(size);
+        forEach((ordinal, frequency) -> {
+            int newOrdinal = newOrdinals[ordinal];
+            if (newOrdinal >= 0) {
+                remapped.add(newOrdinal, frequency);
+            }
+        });
+        remapped.trim();
+        return remapped;
+    }
+
+    void trim() {
+        if (data.length > size) {
+            data = Arrays.copyOf(data, Math.max(size, 1));
+        }
+    }
+
+    int docCount() {
+        return docCount;
+    }
+
+    int sizeInBytes() {
+        return data.length;
+    }
+
+    private void ensureCapacity(int extra) {
+        if (size + extra > data.length) {
+            data = Arrays.copyOf(data, Math.max(data.length * 2, size + extra));
+        }
+    }
+
+    private void writeVarInt(int value) {
+        while ((value & ~0x7F) != 0) {
+            data[size++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        data[size++] = (byte) value;
+    }
+
+    @FunctionalInterface
+    interface Visitor {
+        void accept(int ordinal, int frequency);
+    }
+}
@@ -0,0 +1,4 @@
+package com.linkvault.search;
+
+public record SearchHit(long linkId, double score) {
+}
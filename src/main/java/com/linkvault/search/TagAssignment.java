@@ -0,0 +1,3 @@
+package com.linkvault.search;
+
+public record TagAssignment(long linkId, String tag) {}
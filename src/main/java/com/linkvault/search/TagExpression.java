@@ -0,0 +1,146 @@
+package com.linkvault.search;
+
+import com.linkvault.exception.InvalidTagExpressionException;
+import com.linkvault.model.Tag;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.Locale;
+import java.util.function.Function;
+
+/**
+ * A boolean filter over tags, such as {@code java & (spring | kotlin) & !archived}.
+ * NOT binds tightest, then AND, then OR; parentheses group. Tag names are matched
+ * case-insensitively and may contain letters, digits, '.', '_' and '-'.
+ */
+public sealed interface TagExpression {
+    /**
+     * Evaluates the expression to a new or shared bitmap that callers must not
+     * modify. {@code universe} holds every live ordinal, the base NOT subtracts from.
+     */
+    RoaringBitmap evaluate(Function<String, RoaringBitmap> tags, RoaringBitmap universe);
+
+    static TagExpression parse(String expression) {
+        return new Parser(expression).parse();
+    }
+
+    static String normalizeTag(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    record HasTag(String name) implements TagExpression {
+        @Override
+        public RoaringBitmap evaluate(Function<String, RoaringBitmap> tags, RoaringBitmap universe) {
+            RoaringBitmap bitmap = tags.apply(name);
+            return bitmap == null ? new RoaringBitmap() : bitmap;
+        }
+    }
+
+    record Not(TagExpression operand) implements TagExpression {
+        @Override
+        public RoaringBitmap evaluate(Function<String, RoaringBitmap> tags, RoaringBitmap universe) {
+            return RoaringBitmap.andNot(universe, operand.evaluate(tags, universe));
+        }
+    }
+
+    record And(TagExpression left, TagExpression right) implements TagExpression {
+        @Override
+        public RoaringBitmap evaluate(Function<String, RoaringBitmap> tags, RoaringBitmap universe) {
+            // "a & !b" is a difference, which spares building the complement of b
+            if (right instanceof Not(TagExpression excluded)) {
+                return RoaringBitmap.andNot(left.evaluate(tags, universe), excluded.evaluate(tags, universe));
+            }
+            return RoaringBitmap.and(left.evaluate(tags, universe), right.evaluate(tags, universe));
+        }
+    }
+
+    record Or(TagExpression left, TagExpression right) implements TagExpression {
+        @Override
+        public RoaringBitmap evaluate(Function<String, RoaringBitmap> tags, RoaringBitmap universe) {
+            return RoaringBitmap.or(left.evaluate(tags, universe), right.evaluate(tags, universe));
+        }
+    }
+
+    // Recursive descent over: or := and ('|' and)*, and := unary ('&' unary)*,
+    // unary := '!' unary | '(' or ')' | name
+    final class Parser {
+        private final String input;
+        private int position;
+
+        private Parser(String input) {
+            this.input = input;
+        }
+
+        private TagExpression parse() {
+            TagExpression expression = or();
+            skipWhitespace();
+            if (position < input.length()) {
+                throw new InvalidTagExpressionException(position, "unexpected '" + input.charAt(position) + "'");
+            }
+            return expression;
+        }
+
+        private TagExpression or() {
+            TagExpression expression = and();
+            while (accept('|')) {
+                expression = new Or(expression, and());
+            }
+            return expression;
+        }
+
+        private TagExpression and() {
+            TagExpression expression = unary();
+            while (accept('&')) {
+                expression = new And(expression, unary());
+            }
+            return expression;
+        }
+
+        private TagExpression unary() {
+            if (accept('!')) {
+                return new Not(unary());
+            }
+            if (accept('(')) {
+                TagExpression expression = or();
+                if (!accept(')')) {
+                    throw new InvalidTagExpressionException(position, "expected ')'");
+                }
+                return expression;
+            }
+            return name();
+        }
+
+        private TagExpression name() {
+            skipWhitespace();
+            int start = position;
+            while (position < input.length() && isNameChar(input.charAt(position))) {
+                position++;
+            }
+            if (position == start) {
+                throw new InvalidTagExpressionException(position, "expected a tag name");
+            }
+            if (position - start > Tag.MAX_NAME_LENGTH) {
+                throw new InvalidTagExpressionException(start, "tag name is too long");
+            }
+            return new HasTag(normalizeTag(input.substring(start, position)));
+        }
+
+        private boolean accept(char symbol) {
+            skipWhitespace();
+            if (position < input.length() && input.charAt(position) == symbol) {
+                position++;
+                return true;
+            }
+            return false;
+        }
+
+        private void skipWhitespace() {
+            while (position < input.length() && Character.isWhitespace(input.charAt(position))) {
+                position++;
+            }
+        }
+
+        private static boolean isNameChar(char c) {
+            return c < 128 && (Character.isLetterOrDigit(c) || c == '.' || c == '_' || c == '-');
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.linkvault.search;
+
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Tag memberships of one user's links as compressed bitmaps.
+ *
+ * Each link gets an ordinal, in id order when the index is built and appended
+ * after that, and every tag maps to a {@link RoaringBitmap} of the ordinals
+ * carrying it. A filter is evaluated with bitmap operations only, and its matches
+ * come out oldest first. Removed links leave their ordinal unused; once unused
+ * ordinals outnumber live ones the index asks to be rebuilt.
+ *
+ * All changes are idempotent and ignore links the index does not know. Filters
+ * share a read lock; changes take the write lock.
+ */
+public class TagIndex {
+    private static final int MIN_UNUSED_BEFORE_REBUILD = 1_024;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, RoaringBitmap> bitmaps = new HashMap<>();
+    private final Map<Long, Integer> ordinalsByLinkId = new HashMap<>();
+    private final RoaringBitmap live = new RoaringBitmap();
+    private long[] linkIds = new long[16];
+    private int ordinalCount;
+
+    public static TagIndex of(List<Long> linkIds, List<TagAssignment> assignments) {
+        TagIndex index = new TagIndex();
+        index.linksAdded(linkIds.stream().sorted().toList());
+        for (TagAssignment assignment : assignments) {
+            Integer ordinal = index.ordinalsByLinkId.get(assignment.linkId());
+            if (ordinal != null) {
+                index.bitmaps.computeIfAbsent(assignment.tag(), tag -> new RoaringBitmap()).add(ordinal);
+            }
+        }
+        index.bitmaps.values().forEach(RoaringBitmap::runOptimize);
+        return index;
+    }
+
+    public void linksAdded(Collection<Long> ids) {
+        lock.writeLock().lock();
+        try {
+            for (Long linkId : ids) {
+                if (ordinalsByLinkId.containsKey(linkId)) {
+                    continue;
+                }
+                int ordinal = ordinalCount++;
+                if (ordinal == linkIds.length) {
+                    linkIds = Arrays.copyOf(linkIds, ordinal * 2);
+                }
+                linkIds[ordinal] = linkId;
+                ordinalsByLinkId.put(linkId, ordinal);
+                live.add(ordinal);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void linksRemoved(Collection<Long> ids) {
+        RoaringBitmap removed = new RoaringBitmap();
+        lock.writeLock().lock();
+        try {
+            for (Long linkId : ids) {
+                Integer ordinal = ordinalsByLinkId.remove(linkId);
+                if (ordinal != null) {
+                    removed.add(ordinal);
+                }
+            }
+            if (removed.isEmpty()) {
+                return;
+            }
+
+            live.andNot(removed);
+            bitmaps.values().removeIf(bitmap -> {
+                bitmap.andNot(removed);
+                return bitmap.isEmpty();
+            });
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void tagged(String tag, Collection<Long> ids) {
+        lock.writeLock().lock();
+        try {
+            RoaringBitmap ordinals = ordinalsOf(ids);
+            if (!ordinals.isEmpty()) {
+                bitmaps.computeIfAbsent(tag, t -> new RoaringBitmap()).or(ordinals);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void untagged(String tag, Collection<Long> ids) {
+        lock.writeLock().lock();
+        try {
+            RoaringBitmap bitmap = bitmaps.get(tag);
+            if (bitmap != null) {
+                bitmap.andNot(ordinalsOf(ids));
+                if (bitmap.isEmpty()) {
+                    bitmaps.remove(tag);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns how many links match the filter, and the ids of the first
+     * {@code limit} of them, oldest first.
+     */
+    public TagMatches filter(TagExpression expression, int limit) {
+        lock.readLock().lock();
+        try {
+            RoaringBitmap matches = expression.evaluate(bitmaps::get, live);
+            List<Long> ids = new ArrayList<>(Math.min(limit, matches.getCardinality()));
+            IntIterator ordinals = matches.getIntIterator();
+            while (ordinals.hasNext() && ids.size() < limit) {
+                ids.add(linkIds[ordinals.next()]);
+            }
+            return new TagMatches(matches.getCardinality(), ids);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean needsRebuild() {
+        lock.readLock().lock();
+        try {
+            int unused = ordinalCount - ordinalsByLinkId.size();
+            return unused >= MIN_UNUSED_BEFORE_REBUILD && unused > ordinalsByLinkId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Rough map and array overheads; only the relative weights matter
+    public int estimatedBytes() {
+        lock.readLock().lock();
+        try {
+            long bytes = 64L + 8L * linkIds.length + 64L * ordinalsByLinkId.size() + live.getSizeInBytes();
+            for (Map.Entry<String, RoaringBitmap> entry : bitmaps.entrySet()) {
+                bytes += 96 + 2L * entry.getKey().length() + entry.getValue().getSizeInBytes();
+            }
+            return (int) Math.min(bytes, Integer.MAX_VALUE);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private RoaringBitmap ordinalsOf(Collection<Long> ids) {
+        RoaringBitmap ordinals = new RoaringBitmap();
+        for (Long linkId : ids) {
+            Integer ordinal = ordinalsByLinkId.get(linkId);
+            if (ordinal != null) {
+                ordinals.add(ordinal);
+            }
+        }
+        return ordinals;
+    }
+
+    public record TagMatches(int total, List<Long> linkIds) {}
+}
@@ -0,0 +1,95 @@
+package com.linkvault.search;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.linkvault.util.TransactionalUserCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.NonNull;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * One {@link TagIndex} per user, built on the first tag filter and dropped after the
+ * user has not filtered for {@code idleTimeout}. Changes are applied after commit,
+ * in links-version order, through {@link TransactionalUserCache}. An index that
+ * reports too many unused ordinals is dropped instead and rebuilt on the next filter.
+ */
+@Component
+public class TagIndexCache implements MeterBinder {
+    public static final String CACHE_NAME = "links.tag-index";
+
+    private final TransactionalUserCache<Long, TagIndex> cache;
+
+    public TagIndexCache(
+        @Value("${links.tags.max-weight:64MB}") DataSize maximumWeight,
+        @Value("${links.tags.idle-timeout:30m}") Duration idleTimeout
+    ) {
+        this.cache = new TransactionalUserCache<>(CACHE_NAME, Caffeine.newBuilder()
+            .maximumWeight(maximumWeight.toBytes())
+            .expireAfterAccess(idleTimeout)
+            .recordStats(), TagIndex::estimatedBytes);
+    }
+
+    /**
+     * Returns the user's index, building it from the loader on a miss. Must be called
+     * inside the transaction that should see the links and their tags; the links
+     * version is read first.
+     */
+    public TagIndex get(Long userId, LongSupplier version, Supplier<TagIndex> loader) {
+        return cache.get(userId, id -> version.getAsLong(), id -> loader.get());
+    }
+
+    public void linksAdded(Long userId, long version, Collection<Long> linkIds) {
+        afterCommit(userId, version, index -> index.linksAdded(linkIds.stream().sorted().toList()));
+    }
+
+    public void linksRemoved(Long userId, long version, Collection<Long> linkIds) {
+        afterCommit(userId, version, index -> index.linksRemoved(linkIds));
+    }
+
+    public void linksTagged(Long userId, long version, String tag, Collection<Long> linkIds) {
+        afterCommit(userId, version, index -> index.tagged(tag, linkIds));
+    }
+
+    public void linksUntagged(Long userId, long version, String tag, Collection<Long> linkIds) {
+        afterCommit(userId, version, index -> index.untagged(tag, linkIds));
+    }
+
+    /**
+     * Records a committed link write that left the user's tags unchanged.
+     */
+    public void linksUnchanged(Long userId, long version) {
+        cache.advanceAfterCommit(userId, version);
+    }
+
+    /**
+     * Drops the user's index, for changes too broad to apply one link at a time.
+     */
+    public void invalidate(Long userId) {
+        cache.invalidate(userId);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        cache.bindTo(registry);
+    }
+
+    private void afterCommit(Long userId, long version, Consumer<TagIndex> change) {
+        cache.updateAfterCommit(userId, version, index -> {
+            change.accept(index);
+            return index.needsRebuild() ? null : index;
+        });
+    }
+}
@@ -0,0 +1,84 @@
+package com.linkvault.search;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.linkvault.dto.LinkResponse;
+import com.linkvault.dto.LinkTitleCompletion;
+import com.linkvault.util.TransactionalUserCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.NonNull;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * One {@link TitleCompletions} per user, built on the first autocomplete request
+ * and dropped after the user has not typed for {@code idleTimeout}. The total is
+ * bounded by an estimate of the snapshots' heap size.
+ *
+ * Writers hand their changes over once the transaction commits, and each change
+ * swaps in a new snapshot through {@link TransactionalUserCache}. Keystrokes only
+ * ever read a finished snapshot.
+ */
+@Component
+public class TitleCompletionCache implements MeterBinder {
+    public static final String CACHE_NAME = "links.title-completions";
+
+    private final TransactionalUserCache<Long, TitleCompletions> cache;
+
+    public TitleCompletionCache(
+        @Value("${links.completion.max-weight:64MB}") DataSize maximumWeight,
+        @Value("${links.completion.idle-timeout:30m}") Duration idleTimeout
+    ) {
+        this.cache = new TransactionalUserCache<>(CACHE_NAME, Caffeine.newBuilder()
+            .maximumWeight(maximumWeight.toBytes())
+            .expireAfterAccess(idleTimeout)
+            .recordStats(), TitleCompletions::estimatedBytes);
+    }
+
+    public TitleCompletions get(Long userId, LongSupplier version, Supplier<List<LinkTitleCompletion>> loader) {
+        return cache.get(userId, id -> version.getAsLong(), id -> TitleCompletions.of(loader.get()));
+    }
+
+    public void linksSaved(Long userId, long version, Collection<LinkResponse> links) {
+        List<LinkTitleCompletion> titles = links.stream()
+            .map(link -> new LinkTitleCompletion(link.id(), link.title()))
+            .toList();
+        cache.updateAfterCommit(userId, version, completions -> completions.with(titles, Set.of()));
+    }
+
+    public void linksRemoved(Long userId, long version, Collection<Long> linkIds) {
+        Set<Long> removedIds = Set.copyOf(linkIds);
+        cache.updateAfterCommit(userId, version, completions -> completions.with(List.of(), removedIds));
+    }
+
+    /**
+     * Records a committed write that left the user's titles unchanged.
+     */
+    public void linksUnchanged(Long userId, long version) {
+        cache.advanceAfterCommit(userId, version);
+    }
+
+    /**
+     * Drops the user's snapshot, for changes too broad to apply one link at a time.
+     */
+    public void invalidate(Long userId) {
+        cache.invalidate(userId);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        cache.bindTo(registry);
+    }
+}
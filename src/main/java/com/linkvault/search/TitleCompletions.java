@@ -0,0 +1,220 @@
+package com.linkvault.search;
+
+import com.linkvault.dto.LinkTitleCompletion;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Immutable prefix index over one user's link titles.
+ *
+ * Every title is stored under a normalized key for each word it contains, starting
+ * at that word, so "Spring Boot docs" is found by "spr", "boot" and "doc". Keys live
+ * in one sorted array with the link ids and titles in parallel arrays, and a prefix
+ * is answered with two binary searches and a scan of at most the matching range.
+ * Matches on the start of a title come before matches on a later word.
+ *
+ * Changes return a new instance built by merging, so readers never need a lock.
+ */
+public final class TitleCompletions {
+    private static final TitleCompletions EMPTY =
+        new TitleCompletions(new String[0], new long[0], new String[0], new boolean[0], 64);
+
+    private final String[] keys;
+    private final long[] linkIds;
+    private final String[] titles;
+    private final boolean[] titleStarts;
+    private final long weight;
+
+    private TitleCompletions(String[] keys, long[] linkIds, String[] titles, boolean[] titleStarts, long weight) {
+        this.keys = keys;
+        this.linkIds = linkIds;
+        this.titles = titles;
+        this.titleStarts = titleStarts;
+        this.weight = weight;
+    }
+
+    public static TitleCompletions of(Collection<LinkTitleCompletion> links) {
+        return EMPTY.with(links, Set.of());
+    }
+
+    /**
+     * Returns a copy with {@code removedIds} dropped and {@code saved} added, replacing
+     * any earlier title of the same links. Applying the same change twice is harmless.
+     *
+     * New entries are placed by binary search, and the pass over the existing ones
+     * reads only ids, so a change costs array copies rather than string comparisons.
+     */
+    public TitleCompletions with(Collection<LinkTitleCompletion> saved, Collection<Long> removedIds) {
+        Set<Long> replacedIds = new HashSet<>(removedIds);
+        saved.forEach(link -> replacedIds.add(link.linkId()));
+        long[] replaced = replacedIds.stream().mapToLong(Long::longValue).sorted().toArray();
+
+        List<Entry> added = new ArrayList<>();
+        for (LinkTitleCompletion link : saved) {
+            if (!removedIds.contains(link.linkId())) {
+                entries(link, added);
+            }
+        }
+        added.sort(null);
+
+        int capacity = keys.length + added.size();
+        String[] newKeys = new String[capacity];
+        long[] newLinkIds = new long[capacity];
+        String[] newTitles = new String[capacity];
+        boolean[] newTitleStarts = new boolean[capacity];
+        long newWeight = weight;
+
+        int size = 0;
+        int next = 0;
+        int position = added.isEmpty() ? keys.length : insertionPoint(added.getFirst());
+        for (int i = 0; i <= keys.length; i++) {
+            while (position == i && next < added.size()) {
+                Entry entry = added.get(next++);
+                newKeys[size] = entry.key();
+                newLinkIds[size] = entry.linkId();
+                newTitles[size] = entry.title();
+                newTitleStarts[size++] = entry.titleStart();
+                newWeight += weigh(entry.key(), entry.title(), entry.titleStart());
+                position = next < added.size() ? insertionPoint(added.get(next)) : keys.length + 1;
+            }
+            if (i == keys.length) {
+                break;
+            }
+
+            if (replaced.length > 0 && Arrays.binarySearch(replaced, linkIds[i]) >= 0) {
+                newWeight -= weigh(keys[i], titles[i], titleStarts[i]);
+            } else {
+                newKeys[size] = keys[i];
+                newLinkIds[size] = linkIds[i];
+                newTitles[size] = titles[i];
+                newTitleStarts[size++] = titleStarts[i];
+            }
+        }
+
+        return new TitleCompletions(
+            Arrays.copyOf(newKeys, size),
+            Arrays.copyOf(newLinkIds, size),
+            Arrays.copyOf(newTitles, size),
+            Arrays.copyOf(newTitleStarts, size),
+            newWeight
+        );
+    }
+
+    /**
+     * Up to {@code limit} distinct titles completing the prefix: title starts first,
+     * then later words, each in alphabetical order.
+     */
+    public List<LinkTitleCompletion> complete(String prefix, int limit) {
+        String key = normalize(prefix);
+        if (key.isEmpty()) {
+            return List.of();
+        }
+
+        int from = lowerBound(key);
+        int to = upperBound(key, from);
+        Set<String> seen = new HashSet<>();
+        List<LinkTitleCompletion> completions = new ArrayList<>(limit);
+
+        for (boolean titleStart : new boolean[] {true, false}) {
+            for (int i = from; i < to && completions.size() < limit; i++) {
+                if (titleStarts[i] == titleStart && seen.add(titles[i])) {
+                    completions.add(new LinkTitleCompletion(linkIds[i], titles[i]));
+                }
+            }
+        }
+        return completions;
+    }
+
+    public int size() {
+        return keys.length;
+    }
+
+    public int estimatedBytes() {
+        return (int) Math.min(weight, Integer.MAX_VALUE);
+    }
+
+    // Lower-cased, with runs of anything but letters and digits reduced to one space
+    private static String normalize(String text) {
+        return String.join(" ", LinkTokenizer.tokenize(text));
+    }
+
+    private int lowerBound(String key) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid].compareTo(key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private int upperBound(String key, int from) {
+        int low = from;
+        int high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid].startsWith(key)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // First index whose entry sorts at or after the given one
+    private int insertionPoint(Entry entry) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (entry.compareTo(keys[mid], linkIds[mid]) > 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // Rough array, object and String overheads; a title is counted with its first
+    // entry, the later ones share it. Only the relative weights matter.
+    private static long weigh(String key, String title, boolean titleStart) {
+        return 72 + key.length() + (titleStart ? 48 + title.length() : 0);
+    }
+
+    private static void entries(LinkTitleCompletion link, List<Entry> entries) {
+        String key = normalize(link.title());
+        if (key.isEmpty()) {
+            return;
+        }
+
+        int start = 0;
+        while (start >= 0) {
+            entries.add(new Entry(key.substring(start), link.linkId(), link.title(), start == 0));
+            int space = key.indexOf(' ', start);
+            start = space < 0 ? -1 : space + 1;
+        }
+    }
+
+    private record Entry(String key, long linkId, String title, boolean titleStart) implements Comparable<Entry> {
+        @Override
+        public int compareTo(Entry other) {
+            return compareTo(other.key, other.linkId);
+        }
+
+        int compareTo(String otherKey, long otherLinkId) {
+            int byKey = key.compareTo(otherKey);
+            return byKey != 0 ? byKey : Long.compare(linkId, otherLinkId);
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package com.linkvault.search;
+
+/**
+ * A link sharing {@code sharedTrigrams} distinct trigrams with the query.
+ */
+public record TrigramCandidate(long linkId, long sharedTrigrams) {}
@@ -0,0 +1,161 @@
+package com.linkvault.search;
+
+import com.linkvault.dto.LinkFuzzyMatch;
+import com.linkvault.dto.LinkResponse;
+import com.linkvault.exception.ExceptionMessages;
+import com.linkvault.exception.ServiceOverloadedException;
+import com.linkvault.model.LinkTrigram;
+import com.linkvault.repository.LinkRepository;
+import com.linkvault.repository.LinkTrigramRepository;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Typo-tolerant search over link titles and URLs, backed by the link_trigram table.
+ *
+ * A query first selects candidates by the number of trigrams they share with it,
+ * which only touches the (user_id, trigram) index and at most {@code candidateLimit}
+ * links. The candidates are then ranked by {@link EditDistance#substring} against
+ * the title and the URL, whichever is closer. Trigram rows are written in the same
+ * transaction as their link, so the index is never behind the links it covers.
+ */
+@Component
+public class TrigramIndex {
+    // A timed-out candidate query is a load problem; clients may retry shortly
+    private static final long RETRY_AFTER_SECONDS = 1;
+
+    private final LinkTrigramRepository linkTrigramRepository;
+    private final LinkRepository linkRepository;
+    private final EntityManager entityManager;
+    private final int candidateLimit;
+    private final double minSimilarity;
+
+    public TrigramIndex(
+        LinkTrigramRepository linkTrigramRepository,
+        LinkRepository linkRepository,
+        EntityManager entityManager,
+        @Value("${links.fuzzy-search.candidates:200}") int candidateLimit,
+        @Value("${links.fuzzy-search.min-similarity:0.3}") double minSimilarity
+    ) {
+        this.linkTrigramRepository = linkTrigramRepository;
+        this.linkRepository = linkRepository;
+        this.entityManager = entityManager;
+        this.candidateLimit = candidateLimit;
+        this.minSimilarity = minSimilarity;
+    }
+
+    @Transactional
+    public void linksCreated(Long userId, Collection<LinkResponse> links) {
+        // The rows reference links that may still be pending in the persistence context
+        entityManager.flush();
+        linkTrigramRepository.batchInsert(rows(userId, links));
+    }
+
+    @Transactional
+    public void linkUpdated(Long userId, LinkResponse link) {
+        linkTrigramRepository.deleteByLinkIdIn(List.of(link.id()));
+        linkTrigramRepository.batchInsert(rows(userId, List.of(link)));
+    }
+
+    /**
+     * Returns up to {@code limit} links closest to the query, fewest edits first.
+     * Ties go to the link sharing more trigrams with the query. Links needing more
+     * than one edit per three characters of the query are left out.
+     */
+    @Transactional(readOnly = true)
+    public List<LinkFuzzyMatch> search(Long userId, String query, int limit) {
+        List<String> tokens = LinkTokenizer.tokenize(query);
+        Set<String> trigrams = Trigrams.of(query);
+        if (trigrams.isEmpty()) {
+            return List.of();
+        }
+
+        long minShared = Math.max(1, (long) Math.ceil(minSimilarity * trigrams.size()));
+        List<TrigramCandidate> candidates;
+        try {
+            candidates = linkTrigramRepository.findCandidates(
+                userId, trigrams, minShared, Limit.of(candidateLimit)
+            );
+        } catch (QueryTimeoutException e) {
+            throw new ServiceOverloadedException(ExceptionMessages.SEARCH_OVERLOADED, RETRY_AFTER_SECONDS, e);
+        }
+        if (candidates.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, LinkResponse> links = linkRepository
+            .findResponsesByUserIdAndIdIn(userId, candidates.stream().map(TrigramCandidate::linkId).toList())
+            .stream()
+            .collect(Collectors.toMap(LinkResponse::id, Function.identity()));
+
+        String pattern = Trigrams.normalize(tokens);
+        return rank(pattern, candidates, links, limit);
+    }
+
+    // Candidates arrive most shared trigrams first, so a later one only displaces a
+    // kept match with strictly fewer edits; the running worst bounds each distance.
+    private static List<LinkFuzzyMatch> rank(
+        String pattern, List<TrigramCandidate> candidates, Map<Long, LinkResponse> links, int limit
+    ) {
+        Comparator<Ranked> worstFirst = Comparator.comparingInt(Ranked::distance)
+            .thenComparingInt(Ranked::order)
+            .reversed();
+        PriorityQueue<Ranked> best = new PriorityQueue<>(limit + 1, worstFirst);
+        int max = (pattern.length() + 2) / 3;
+
+        for (int order = 0; order < candidates.size(); order++) {
+            LinkResponse link = links.get(candidates.get(order).linkId());
+            if (link == null) {
+                continue;
+            }
+
+            int bound = best.size() < limit ? max : best.peek().distance() - 1;
+            int distance = distance(pattern, link, bound);
+            if (distance <= bound) {
+                best.add(new Ranked(link, distance, order));
+                if (best.size() > limit) {
+                    best.poll();
+                }
+            }
+        }
+
+        List<LinkFuzzyMatch> matches = new ArrayList<>(best.size());
+        while (!best.isEmpty()) {
+            Ranked ranked = best.poll();
+            matches.add(new LinkFuzzyMatch(ranked.link(), ranked.distance()));
+        }
+        return matches.reversed();
+    }
+
+    private static int distance(String pattern, LinkResponse link, int max) {
+        int title = EditDistance.substring(pattern, Trigrams.normalize(LinkTokenizer.tokenize(link.title())), max);
+        int url = EditDistance.substring(pattern, Trigrams.normalize(LinkTokenizer.tokenizeUrl(link.url())), title);
+        return Math.min(title, url);
+    }
+
+    private static List<LinkTrigram> rows(Long userId, Collection<LinkResponse> links) {
+        List<LinkTrigram> rows = new ArrayList<>();
+        for (LinkResponse link : links) {
+            for (String trigram : Trigrams.of(link)) {
+                rows.add(new LinkTrigram(link.id(), trigram, userId, null));
+            }
+        }
+        return rows;
+    }
+
+    private record Ranked(LinkResponse link, int distance, int order) {}
+}
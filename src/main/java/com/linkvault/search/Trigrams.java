@@ -0,0 +1,45 @@
+package com.linkvault.search;
+
+import com.linkvault.dto.LinkResponse;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Trigram extraction in the style of PostgreSQL's pg_trgm. Text is tokenized with
+ * {@link LinkTokenizer}, and each word is padded with two spaces in front and one
+ * behind, so "git" yields "  g", " gi", "git" and "it ". The padding lets short
+ * words and word starts carry more weight than their middles.
+ */
+public final class Trigrams {
+    private Trigrams() {
+    }
+
+    public static Set<String> of(String text) {
+        return of(LinkTokenizer.tokenize(text));
+    }
+
+    // Title and URL are indexed together; the description is left to full-text search
+    public static Set<String> of(LinkResponse link) {
+        Set<String> trigrams = of(LinkTokenizer.tokenize(link.title()));
+        trigrams.addAll(of(LinkTokenizer.tokenizeUrl(link.url())));
+        return trigrams;
+    }
+
+    // Words joined by single spaces, the form edit distances are measured on
+    public static String normalize(List<String> tokens) {
+        return String.join(" ", tokens);
+    }
+
+    private static Set<String> of(List<String> words) {
+        Set<String> trigrams = new LinkedHashSet<>();
+        for (String word : words) {
+            int[] padded = ("  " + word + " ").codePoints().toArray();
+            for (int i = 0; i + 3 <= padded.length; i++) {
+                trigrams.add(new String(padded, i, 3));
+            }
+        }
+        return trigrams;
+    }
+}
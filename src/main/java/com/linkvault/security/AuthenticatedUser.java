@@ -0,0 +1,57 @@
+package com.linkvault.security;
+
+import com.linkvault.model.Role;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.MalformedJwtException;
+import org.springframework.security.core.AuthenticatedPrincipal;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Principal built straight from verified JWT claims, so authenticated requests
+ * never have to load the user from the database. The session id ties the token to
+ * the login it came from so the session can be revoked.
+ */
+public record AuthenticatedUser(
+    Long id,
+    String username,
+    Role role,
+    String sessionId
+) implements AuthenticatedPrincipal {
+    private static final Map<Role, List<GrantedAuthority>> AUTHORITIES = new EnumMap<>(Role.class);
+
+    static {
+        for (Role role : Role.values()) {
+            AUTHORITIES.put(role, List.of(new SimpleGrantedAuthority(role.name())));
+        }
+    }
+
+    public static AuthenticatedUser fromClaims(Claims claims) {
+        Long userId = claims.get(JwtUtils.USER_ID_CLAIM, Long.class);
+        String role = claims.get(JwtUtils.ROLE_CLAIM, String.class);
+        String sessionId = claims.get(JwtUtils.SESSION_ID_CLAIM, String.class);
+
+        if (userId == null || role == null || sessionId == null || claims.getSubject() == null) {
+            throw new MalformedJwtException("Token is missing required claims");
+        }
+
+        return new AuthenticatedUser(userId, claims.getSubject(), Role.valueOf(role), sessionId);
+    }
+
+    public static List<GrantedAuthority> authoritiesFor(Role role) {
+        return AUTHORITIES.get(role);
+    }
+
+    public List<GrantedAuthority> authorities() {
+        return authoritiesFor(role);
+    }
+
+    @Override
+    public String getName() {
+        return username;
+    }
+}
@@ -0,0 +1,66 @@
+package com.linkvault.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.Arrays;
+import java.util.Map;
+
+import static com.linkvault.util.LogUtils.info;
+
+/**
+ * Builds the application's password encoder with a BCrypt cost picked for the
+ * hardware it runs on. Hashes are stored with an {bcrypt} id prefix so the
+ * encoder can tell when a stored hash is weaker than the current cost and should
+ * be upgraded on the next successful login.
+ */
+@Slf4j
+public class CalibratedPasswordEncoderFactory {
+    public static final String BCRYPT_ID = "bcrypt";
+
+    private static final int SAMPLES = 3;
+    private static final String SAMPLE_PASSWORD = "calibration-Password1@";
+
+    public static PasswordEncoder create(long targetMillis, int minStrength, int maxStrength) {
+        int strength = calibrate(targetMillis, minStrength, maxStrength);
+
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(
+            BCRYPT_ID, Map.of(BCRYPT_ID, new BCryptPasswordEncoder(strength))
+        );
+        // Hashes written before the id prefix was introduced are plain BCrypt.
+        encoder.setDefaultPasswordEncoderForMatches(new BCryptPasswordEncoder(strength));
+        return encoder;
+    }
+
+    /**
+     * Returns the highest strength, within bounds, whose hash time stays under the
+     * target. Only the minimum strength is measured; each extra BCrypt round
+     * doubles the work, so higher strengths are extrapolated.
+     */
+    public static int calibrate(long targetMillis, int minStrength, int maxStrength) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(minStrength);
+        // Warm up so the measurement is not dominated by JIT compilation.
+        encoder.encode(SAMPLE_PASSWORD);
+
+        long[] samples = new long[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            long start = System.nanoTime();
+            encoder.encode(SAMPLE_PASSWORD);
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        double estimatedMillis = samples[SAMPLES / 2] / 1_000_000.0;
+
+        int strength = minStrength;
+        while (strength < maxStrength && estimatedMillis * 2 <= targetMillis) {
+            strength++;
+            estimatedMillis *= 2;
+        }
+
+        info(log, "Calibrated BCrypt strength {} (~{} ms per hash, target {} ms)",
+            strength, Math.round(estimatedMillis), targetMillis);
+        return strength;
+    }
+}
@@ -9,8 +9,6 @@ import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
@@ -20,11 +18,17 @@ import static com.linkvault.util.LogUtils.info;
 @Slf4j
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final JwtUtils jwtUtils;
-    private final UserDetailsService userDetailsService;
+    private final VerifiedTokenCache tokenCache;
+    private final TokenRevocationList revocationList;
 
-    public JwtAuthenticationFilter(JwtUtils jwtUtils, UserDetailsService userDetailsService) {
+    public JwtAuthenticationFilter(
+        JwtUtils jwtUtils,
+        VerifiedTokenCache tokenCache,
+        TokenRevocationList revocationList
+    ) {
         this.jwtUtils = jwtUtils;
-        this.userDetailsService = userDetailsService;
+        this.tokenCache = tokenCache;
+        this.revocationList = revocationList;
     }
 
     @Override
@@ -35,18 +39,21 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     ) throws ServletException, IOException {
         try {
             String token = getJwtToken(request);
-            if (token != null && jwtUtils.validateToken(token)) {
-                String username = jwtUtils.extractUsername(token);
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+            if (token != null) {
+                AuthenticatedUser user = tokenCache.get(token, jwtUtils::parseClaims);
 
-                UsernamePasswordAuthenticationToken authentication =
-                    new UsernamePasswordAuthenticationToken(
-                        userDetails,
-                        null,
-                        userDetails.getAuthorities()
-                    );
+                if (revocationList.isRevoked(user.sessionId())) {
+                    info(log, "Rejected token for revoked session of user: {}", user.username());
+                } else {
+                    UsernamePasswordAuthenticationToken authentication =
+                        new UsernamePasswordAuthenticationToken(
+                            user,
+                            null,
+                            user.authorities()
+                        );
 
-                SecurityContextHolder.getContext().setAuthentication(authentication);
+                    SecurityContextHolder.getContext().setAuthentication(authentication);
+                }
             }
         } catch (ExpiredJwtException e) {
             info(log, "JWT expired: {}", e.getMessage());
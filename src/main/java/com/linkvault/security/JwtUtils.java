@@ -1,6 +1,7 @@
 package com.linkvault.security;
 
 
+import com.linkvault.model.Role;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
@@ -13,8 +14,14 @@ import io.jsonwebtoken.security.Keys;
 
 @Component
 public class JwtUtils {
+    public static final String USER_ID_CLAIM = "uid";
+    public static final String ROLE_CLAIM = "role";
+    public static final String SESSION_ID_CLAIM = "sid";
+
     private final long expirationTime;
     private final SecretKey key;
+    // JwtParser is immutable and thread-safe, so one instance serves every request.
+    private final JwtParser parser;
 
     public JwtUtils(
         @Value("${jwt.secret}") String secret,
@@ -22,13 +29,23 @@ public class JwtUtils {
     ) {
         this.key = Keys.hmacShaKeyFor(Base64.getDecoder().decode(secret));
         this.expirationTime = expirationTime;
+        this.parser = Jwts.parser()
+            .verifyWith(key)
+            .build();
     }
 
-    public String generateToken(String username) {
+    public long getExpirationTime() {
+        return expirationTime;
+    }
+
+    public String generateToken(Long userId, String username, Role role, String sessionId) {
         Date now = new Date();
         Date expiryDate = new Date(System.currentTimeMillis() + expirationTime);
         JwtBuilder builder = Jwts.builder()
             .claim("sub", username)
+            .claim(USER_ID_CLAIM, userId)
+            .claim(ROLE_CLAIM, role.name())
+            .claim(SESSION_ID_CLAIM, sessionId)
             .issuedAt(now)
             .expiration(expiryDate)
             .signWith(key);
@@ -36,27 +53,13 @@ public class JwtUtils {
         return builder.compact();
     }
 
-    public String extractUsername(String token) {
-        JwtParser parser = Jwts.parser()
-            .verifyWith(key)
-            .build();
-
-        Jws<Claims> jwt = parser.parseSignedClaims(token);
-
-        return jwt.getPayload().get("sub", String.class);
-    }
-
-    public boolean validateToken(String token) {
-        try {
-            JwtParser parser = Jwts.parser()
-                .verifyWith(key)
-                .build();
-
-            parser.parseSignedClaims(token);
-
-            return true;
-        } catch (JwtException | IllegalArgumentException ex) {
-            return false;
-        }
+    /**
+     * Parses the token and verifies its signature and expiry in a single pass.
+     *
+     * @throws JwtException if the token is malformed, expired or badly signed
+     * @throws IllegalArgumentException if the token is null or blank
+     */
+    public Claims parseClaims(String token) {
+        return parser.parseSignedClaims(token).getPayload();
     }
 }
@@ -0,0 +1,132 @@
+package com.linkvault.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.linkvault.exception.TooManyLoginAttemptsException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * In-memory login throttle that runs before any password hashing.
+ *
+ * Each username and each client address gets a token bucket. Buckets are kept as a
+ * single "theoretical arrival time" (the GCRA form of a token bucket), so taking a
+ * token is one CAS on an AtomicLong and never blocks. The bucket maps are bounded
+ * and drop entries that have been idle long enough to be full again.
+ */
+@Component
+public class LoginThrottle {
+    private final Cache<String, Bucket> usernameBuckets;
+    private final Cache<String, Bucket> addressBuckets;
+    private final Policy usernamePolicy;
+    private final Policy addressPolicy;
+    private final LongSupplier nanoTime;
+
+    @Autowired
+    public LoginThrottle(
+        @Value("${security.login-throttle.username-capacity:5}") int usernameCapacity,
+        @Value("${security.login-throttle.username-refill-interval:12s}") Duration usernameRefillInterval,
+        @Value("${security.login-throttle.address-capacity:20}") int addressCapacity,
+        @Value("${security.login-throttle.address-refill-interval:1s}") Duration addressRefillInterval,
+        @Value("${security.login-throttle.max-entries:100000}") long maxEntries,
+        @Value("${security.login-throttle.idle-timeout:15m}") Duration idleTimeout
+    ) {
+        this(
+            new Policy(usernameCapacity, usernameRefillInterval),
+            new Policy(addressCapacity, addressRefillInterval),
+            maxEntries,
+            idleTimeout,
+            System::nanoTime
+        );
+    }
+
+    public LoginThrottle(
+        Policy usernamePolicy,
+        Policy addressPolicy,
+        long maxEntries,
+        Duration idleTimeout,
+        LongSupplier nanoTime
+    ) {
+        this.usernamePolicy = usernamePolicy;
+        this.addressPolicy = addressPolicy;
+        this.nanoTime = nanoTime;
+        this.usernameBuckets = newBucketCache(maxEntries, idleTimeout);
+        this.addressBuckets = newBucketCache(maxEntries, idleTimeout);
+    }
+
+    /**
+     * Takes one token from the client address bucket and one from the username bucket.
+     *
+     * @throws TooManyLoginAttemptsException if either bucket is empty
+     */
+    public void acquire(String username, String clientAddress) {
+        long now = nanoTime.getAsLong();
+
+        if (clientAddress != null) {
+            consume(addressBuckets.get(clientAddress, key -> new Bucket()), addressPolicy, now);
+        }
+        consume(
+            usernameBuckets.get(username.toLowerCase(Locale.ROOT), key -> new Bucket()),
+            usernamePolicy,
+            now
+        );
+    }
+
+    private static void consume(Bucket bucket, Policy policy, long now) {
+        long waitNanos = bucket.tryConsume(now, policy);
+
+        if (waitNanos > 0) {
+            long retryAfterSeconds = Math.max(1L, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+            throw new TooManyLoginAttemptsException(retryAfterSeconds);
+        }
+    }
+
+    private static Cache<String, Bucket> newBucketCache(long maxEntries, Duration idleTimeout) {
+        return Caffeine.newBuilder()
+            .maximumSize(maxEntries)
+            .expireAfterAccess(idleTimeout)
+            .build();
+    }
+
+    /**
+     * Allows {@code capacity} attempts in a burst, then one attempt per refill interval.
+     */
+    public record Policy(int capacity, Duration refillInterval) {
+        long intervalNanos() {
+            return refillInterval.toNanos();
+        }
+
+        long burstToleranceNanos() {
+            return intervalNanos() * (capacity - 1);
+        }
+    }
+
+    static final class Bucket {
+        private final AtomicLong theoreticalArrival = new AtomicLong(Long.MIN_VALUE);
+
+        /**
+         * Returns 0 if a token was taken, otherwise the nanoseconds until one is free.
+         */
+        long tryConsume(long now, Policy policy) {
+            while (true) {
+                long current = theoreticalArrival.get();
+                long base = Math.max(current, now);
+                long waitNanos = base - now - policy.burstToleranceNanos();
+
+                if (waitNanos > 0) {
+                    return waitNanos;
+                }
+                if (theoreticalArrival.compareAndSet(current, base + policy.intervalNanos())) {
+                    return 0L;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.linkvault.security;
+
+import com.linkvault.model.Role;
+import lombok.Getter;
+import org.springframework.security.core.userdetails.User;
+
+/**
+ * UserDetails returned to the login flow. Carries the id and role so a token
+ * can be issued without a second user lookup.
+ */
+@Getter
+public class SecurityUser extends User {
+    private final Long id;
+    private final Role role;
+
+    public SecurityUser(Long id, String username, String password, Role role) {
+        super(username, password, AuthenticatedUser.authoritiesFor(role));
+        this.id = id;
+        this.role = role;
+    }
+}
@@ -0,0 +1,139 @@
+package com.linkvault.security;
+
+import com.linkvault.model.RevokedSession;
+import com.linkvault.repository.RevokedSessionRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static com.linkvault.util.LogUtils.debug;
+
+/**
+ * In-memory view of the revoked_session table used by the JWT filter.
+ *
+ * Lookups never touch the database: a bloom filter answers almost every request
+ * with a definite "not revoked", and only its positives are checked against the
+ * exact id map. The view is rebuilt from the table on a schedule, which also drops
+ * sessions whose access tokens have all expired and picks up revocations made by
+ * other instances.
+ *
+ * A revocation enters the view only once its row has committed, so a rollback leaves
+ * nothing behind. Revocations applied while a reload runs are carried over into the
+ * rebuilt view, since its query may have missed their rows.
+ *
+ * Reloads hold a ReentrantLock rather than a monitor, since they block on JDBC and a
+ * synchronized block would pin the carrier thread when running on virtual threads.
+ */
+@Slf4j
+@Component
+public class TokenRevocationList {
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    private final RevokedSessionRepository repository;
+    private final int expectedEntries;
+    private final ReentrantLock reloadLock = new ReentrantLock();
+    // Revocations applied since the current or last reload started
+    private final Map<String, Long> recentlyRevoked = new ConcurrentHashMap<>();
+    private volatile Snapshot snapshot;
+
+    public TokenRevocationList(
+        RevokedSessionRepository repository,
+        @Value("${jwt.revocation.expected-entries:10000}") int expectedEntries
+    ) {
+        this.repository = repository;
+        this.expectedEntries = expectedEntries;
+        this.snapshot = new Snapshot(expectedEntries);
+    }
+
+    public boolean isRevoked(String sessionId) {
+        Snapshot current = snapshot;
+        if (!current.filter().mightContain(sessionId)) {
+            return false;
+        }
+
+        Long expiresAt = current.expiries().get(sessionId);
+        return expiresAt != null && expiresAt > System.currentTimeMillis();
+    }
+
+    /**
+     * Records the session as revoked until {@code expiresAt}, which should be no earlier
+     * than the expiry of the last access token issued for it.
+     */
+    public void revoke(String sessionId, Instant expiresAt) {
+        repository.save(new RevokedSession(sessionId, expiresAt));
+        long expiresAtMillis = expiresAt.toEpochMilli();
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(sessionId, expiresAtMillis);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(sessionId, expiresAtMillis);
+            }
+        });
+    }
+
+    @PostConstruct
+    @Scheduled(
+        fixedDelayString = "${jwt.revocation.reload-interval:PT1M}",
+        initialDelayString = "${jwt.revocation.reload-interval:PT1M}"
+    )
+    public void reload() {
+        reloadLock.lock();
+        try {
+            // Anything applied before this point has committed and is read below
+            recentlyRevoked.clear();
+            Instant now = Instant.now();
+            int pruned = repository.deleteExpired(now);
+            List<RevokedSession> active = repository.findByExpiresAtAfter(now);
+
+            Snapshot fresh = new Snapshot(Math.max(expectedEntries, active.size() * 2));
+            for (RevokedSession session : active) {
+                fresh.add(session.getSessionId(), session.getExpiresAt().toEpochMilli());
+            }
+            snapshot = fresh;
+            // Revocations applied from now on see the fresh snapshot; earlier ones are
+            // in recentlyRevoked
+            recentlyRevoked.forEach(fresh::add);
+
+            debug(log, "Loaded {} revoked sessions, pruned {}", active.size(), pruned);
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    // Recorded before the snapshot is read, so a concurrent reload either carries the
+    // entry over or has already published the snapshot it is added to
+    private void apply(String sessionId, long expiresAtMillis) {
+        recentlyRevoked.put(sessionId, expiresAtMillis);
+        snapshot.add(sessionId, expiresAtMillis);
+    }
+
+    private record Snapshot(ConcurrentBloomFilter filter, Map<String, Long> expiries) {
+        Snapshot(int expectedEntries) {
+            this(
+                new ConcurrentBloomFilter(expectedEntries, FALSE_POSITIVE_RATE),
+                new ConcurrentHashMap<>()
+            );
+        }
+
+        void add(String sessionId, long expiresAtMillis) {
+            // Publish to the exact map first so a filter hit always finds the entry.
+            expiries.put(sessionId, expiresAtMillis);
+            filter.put(sessionId);
+        }
+    }
+}
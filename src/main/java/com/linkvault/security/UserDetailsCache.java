@@ -0,0 +1,71 @@
+package com.linkvault.security;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.linkvault.model.Role;
+import com.linkvault.util.TransactionalUserCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.NonNull;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Size-bounded, TTL-based cache of resolved users keyed by username.
+ *
+ * Entries are immutable snapshots and a fresh SecurityUser is handed out on every
+ * read, because the authentication manager erases credentials on the instance it
+ * returns and must not wipe the cached password hash.
+ *
+ * Services that write users evict them, now and again once their transaction
+ * completes. Loads run outside Caffeine's compute, and one that an eviction
+ * overtook is not kept, so a login that read the old row before the commit cannot
+ * leave it cached. See {@link TransactionalUserCache}.
+ */
+@Component
+public class UserDetailsCache implements MeterBinder {
+    public static final String CACHE_NAME = "security.user-details";
+
+    private final TransactionalUserCache<String, CachedUser> cache;
+
+    public UserDetailsCache(
+        @Value("${security.user-cache.max-size:10000}") long maximumSize,
+        @Value("${security.user-cache.ttl:10m}") Duration timeToLive
+    ) {
+        this.cache = new TransactionalUserCache<>(CACHE_NAME, Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(timeToLive)
+            .recordStats());
+    }
+
+    /**
+     * Returns the user from the cache, calling the loader on a miss. Users the
+     * loader cannot find are not cached.
+     */
+    public Optional<SecurityUser> get(String username, Function<String, Optional<CachedUser>> loader) {
+        CachedUser cached = cache.get(username, name -> loader.apply(name).orElse(null));
+        return Optional.ofNullable(cached).map(CachedUser::toSecurityUser);
+    }
+
+    public void evict(String username) {
+        cache.invalidate(username);
+    }
+
+    public void evictAll() {
+        cache.invalidateAll();
+    }
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        cache.bindTo(registry);
+    }
+
+    public record CachedUser(Long id, String username, String passwordHash, Role role) {
+        SecurityUser toSecurityUser() {
+            return new SecurityUser(id, username, passwordHash, role);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.linkvault.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.jsonwebtoken.Claims;
+import lombok.NonNull;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Bounded cache of already-verified bearer tokens, keyed by the SHA-256 digest of
+ * the token. Entries expire at the token's own exp claim and are held through soft
+ * references so the GC can reclaim them under memory pressure.
+ */
+public class VerifiedTokenCache implements MeterBinder {
+    public static final String CACHE_NAME = "jwt.verified-tokens";
+
+    private final Cache<String, CachedToken> cache;
+
+    public VerifiedTokenCache(long maximumSize) {
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfter(new TokenExpiry())
+            .softValues()
+            .recordStats()
+            .build();
+    }
+
+    /**
+     * Returns the principal for the token, running the verifier only on a cache miss.
+     * Exceptions thrown by the verifier propagate and nothing is cached.
+     */
+    public AuthenticatedUser get(String token, Function<String, Claims> verifier) {
+        CachedToken cached = cache.get(TokenDigests.sha256(token), key -> {
+            Claims claims = verifier.apply(token);
+            Date expiration = claims.getExpiration();
+
+            return new CachedToken(
+                AuthenticatedUser.fromClaims(claims),
+                expiration != null ? expiration.getTime() : 0L
+            );
+        });
+
+        return cached.user();
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME);
+    }
+
+    private record CachedToken(AuthenticatedUser user, long expiresAtMillis) {}
+
+    private static class TokenExpiry implements Expiry<String, CachedToken> {
+        @Override
+        public long expireAfterCreate(String key, CachedToken value, long currentTime) {
+            long remainingMillis = value.expiresAtMillis() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0L, remainingMillis));
+        }
+
+        @Override
+        public long expireAfterUpdate(
+            String key, CachedToken value, long currentTime, long currentDuration
+        ) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(
+            String key, CachedToken value, long currentTime, long currentDuration
+        ) {
+            return currentDuration;
+        }
+    }
+}
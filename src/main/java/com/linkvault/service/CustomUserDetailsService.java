@@ -1,30 +1,64 @@
 package com.linkvault.service;
 
-import com.linkvault.model.Role;
 import com.linkvault.repository.UserRepository;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import com.linkvault.security.SecurityUser;
+import com.linkvault.security.UserDetailsCache;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 
-import java.util.List;
+import java.util.Optional;
 
-public class CustomUserDetailsService implements UserDetailsService {
+import static com.linkvault.util.LogUtils.info;
+
+@Slf4j
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
     private final UserRepository userRepository;
+    private final UserDetailsCache userDetailsCache;
 
-    public CustomUserDetailsService(UserRepository userRepository) {
+    public CustomUserDetailsService(
+        UserRepository userRepository, UserDetailsCache userDetailsCache
+    ) {
         this.userRepository = userRepository;
+        this.userDetailsCache = userDetailsCache;
     }
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+        return userDetailsCache.get(username, this::loadFromRepository)
+            .orElseThrow(() -> new UsernameNotFoundException("User not found"));
+    }
+
+    /**
+     * Called by the authentication provider after a successful login when the stored
+     * hash uses an outdated encoding or cost. The cached entry is evicted once the
+     * update has committed.
+     */
+    @Override
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        info(log, "Upgrading password hash for user: {}", user.getUsername());
+        userRepository.updatePassword(user.getUsername(), newPassword);
+        userDetailsCache.evict(user.getUsername());
+
+        SecurityUser securityUser = (SecurityUser) user;
+        return new SecurityUser(
+            securityUser.getId(),
+            securityUser.getUsername(),
+            newPassword,
+            securityUser.getRole()
+        );
+    }
+
+    private Optional<UserDetailsCache.CachedUser> loadFromRepository(String username) {
         return userRepository.findByUsername(username)
-            .map(user -> new org.springframework.security.core.userdetails.User(
+            .map(user -> new UserDetailsCache.CachedUser(
+                user.getId(),
                 user.getUsername(),
                 user.getPassword(),
-                List.of(new SimpleGrantedAuthority(Role.USER.toString()))
-            ))
-            .orElseThrow(() -> new UsernameNotFoundException("User not found"));
+                user.getRole()
+            ));
     }
 
 }
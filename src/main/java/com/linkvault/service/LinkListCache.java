@@ -0,0 +1,96 @@
+package com.linkvault.service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.linkvault.dto.LinkRow;
+import com.linkvault.util.TransactionalUserCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.NonNull;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.IntFunction;
+
+/**
+ * Each user's links in (createdAt, id) order, bounded by an estimate of their heap
+ * size rather than by entry count.
+ *
+ * Accounts with more than {@code maxLinksPerUser} links are cached as a small
+ * "too large" marker so readers go straight to the keyset queries instead of
+ * loading the full list on every request.
+ *
+ * Writers invalidate through {@link TransactionalUserCache}, which drops the entry
+ * again once their transaction completes. A load that raced a commit is therefore
+ * dropped rather than kept as a stale entry.
+ */
+@Component
+public class LinkListCache implements MeterBinder {
+    public static final String CACHE_NAME = "links.by-user";
+
+    private final TransactionalUserCache<Long, CachedLinks> cache;
+    private final int maxLinksPerUser;
+
+    public LinkListCache(
+        @Value("${links.cache.max-weight:64MB}") DataSize maximumWeight,
+        @Value("${links.cache.max-links-per-user:1000}") int maxLinksPerUser,
+        @Value("${links.cache.ttl:10m}") Duration timeToLive
+    ) {
+        this.maxLinksPerUser = maxLinksPerUser;
+        this.cache = new TransactionalUserCache<>(CACHE_NAME, Caffeine.newBuilder()
+            .maximumWeight(maximumWeight.toBytes())
+            .expireAfterWrite(timeToLive)
+            .recordStats(), CachedLinks::estimatedBytes);
+    }
+
+    /**
+     * Returns the cached list, calling the loader on a miss with the number of rows
+     * to fetch. Must be called inside the transaction that should see the rows.
+     */
+    public CachedLinks get(Long userId, IntFunction<List<LinkRow>> loader) {
+        return cache.get(userId, id -> {
+            List<LinkRow> rows = loader.apply(maxLinksPerUser + 1);
+            return rows.size() > maxLinksPerUser ? CachedLinks.TOO_LARGE : new CachedLinks(List.copyOf(rows), true);
+        });
+    }
+
+    /**
+     * Drops the user's entry now, and again when the surrounding transaction
+     * completes. The second pass removes anything reloaded from uncommitted or
+     * pre-commit state in between.
+     */
+    public void invalidate(Long userId) {
+        cache.invalidate(userId);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        cache.bindTo(registry);
+    }
+
+    public record CachedLinks(List<LinkRow> rows, boolean complete) {
+        static final CachedLinks TOO_LARGE = new CachedLinks(List.of(), false);
+
+        // Rough object and String overheads; only the relative weights matter
+        private static final int ENTRY_OVERHEAD_BYTES = 64;
+        private static final int ROW_OVERHEAD_BYTES = 160;
+
+        int estimatedBytes() {
+            long bytes = ENTRY_OVERHEAD_BYTES;
+            for (LinkRow row : rows) {
+                bytes += ROW_OVERHEAD_BYTES + length(row.url()) + length(row.title()) + length(row.description());
+            }
+            return (int) Math.min(bytes, Integer.MAX_VALUE);
+        }
+
+        private static int length(String value) {
+            return value == null ? 0 : value.length();
+        }
+    }
+}
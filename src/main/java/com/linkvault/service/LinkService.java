@@ -1,15 +1,43 @@
 package com.linkvault.service;
 
+import com.linkvault.dto.BulkLinkResponse;
+import com.linkvault.dto.CreatedLinkResponse;
+import com.linkvault.dto.LinkFuzzyMatch;
+import com.linkvault.dto.LinkPageResponse;
+import com.linkvault.dto.LinkPatchRequest;
 import com.linkvault.dto.LinkRequest;
 import com.linkvault.dto.LinkResponse;
+import com.linkvault.dto.LinkSearchResult;
+import com.linkvault.dto.LinkTitleCompletion;
+import com.linkvault.dto.LinksDeletedResponse;
+import com.linkvault.dto.LinksTaggedResponse;
+import com.linkvault.dto.TaggedLinksResponse;
+import com.linkvault.dto.VersionedLinkResponse;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface LinkService {
-    List<LinkResponse> getAllLinksForUser(Long userId);
-    LinkResponse getLinkById(Long linkId, Long requestingUserId);
+    long getLinksVersion(Long userId);
+    Optional<Long> getLinkVersion(Long linkId, Long requestingUserId);
+    LinkPageResponse getLinksPage(Long userId, String cursor, int limit);
+    long exportLinks(Long userId, Consumer<LinkResponse> sink);
+    List<LinkSearchResult> searchLinks(Long userId, String query, int limit);
+    List<LinkFuzzyMatch> fuzzySearchLinks(Long userId, String query, int limit);
+    List<LinkTitleCompletion> completeTitles(Long userId, String prefix, int limit);
+    TaggedLinksResponse findLinksByTags(Long userId, String expression, int limit);
+    LinksTaggedResponse tagLinks(Long userId, String tag, List<Long> linkIds);
+    LinksTaggedResponse untagLinks(Long userId, String tag, List<Long> linkIds);
+    VersionedLinkResponse getLinkById(Long linkId, Long requestingUserId);
     LinkResponse createLink(Long userId, LinkRequest linkRequest);
+    CreatedLinkResponse createLink(Long userId, LinkRequest linkRequest, boolean returnExisting);
+    BulkLinkResponse createLinks(Long userId, List<LinkRequest> linkRequests);
     LinkResponse updateLink(Long linkId, LinkRequest linkRequest, Long requestingUserId);
+    VersionedLinkResponse patchLink(
+        Long linkId, LinkPatchRequest patchRequest, long expectedVersion, Long requestingUserId
+    );
     void deleteLink(Long linkId, Long requestingUserId);
-    void deleteAllLinksByUser(Long userId);
+    LinksDeletedResponse deleteAllLinksByUser(Long userId);
+    LinksDeletedResponse deleteLinks(Long userId, List<Long> linkIds);
 }
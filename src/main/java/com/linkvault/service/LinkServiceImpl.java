@@ -1,63 +1,329 @@
 package com.linkvault.service;
 
+import com.linkvault.dto.BulkLinkError;
+import com.linkvault.dto.BulkLinkResponse;
+import com.linkvault.dto.CreatedLinkResponse;
+import com.linkvault.dto.LinkCursor;
+import com.linkvault.dto.LinkFuzzyMatch;
+import com.linkvault.dto.LinkPageResponse;
+import com.linkvault.dto.LinkPatchRequest;
 import com.linkvault.dto.LinkRequest;
 import com.linkvault.dto.LinkResponse;
+import com.linkvault.dto.LinkRow;
+import com.linkvault.dto.LinkSearchResult;
+import com.linkvault.dto.LinkTitleCompletion;
+import com.linkvault.dto.LinksDeletedResponse;
+import com.linkvault.dto.LinksTaggedResponse;
+import com.linkvault.dto.TaggedLinksResponse;
+import com.linkvault.dto.VersionedLinkResponse;
 import com.linkvault.exception.*;
 import com.linkvault.mapper.LinkMapper;
 import com.linkvault.model.Link;
 import com.linkvault.model.User;
 import com.linkvault.repository.LinkRepository;
+import com.linkvault.repository.LinkTagRepository;
+import com.linkvault.repository.TagRepository;
 import com.linkvault.repository.UserRepository;
+import com.linkvault.search.LinkSearchIndexCache;
+import com.linkvault.search.SearchHit;
+import com.linkvault.search.TagExpression;
+import com.linkvault.search.TagIndex;
+import com.linkvault.search.TagIndexCache;
+import com.linkvault.search.TitleCompletionCache;
+import com.linkvault.search.TrigramIndex;
+import com.linkvault.service.LinkListCache.CachedLinks;
 import com.linkvault.util.LogMessages;
+import com.linkvault.util.UrlCanonicalizer;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validator;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
 
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import static com.linkvault.util.LogUtils.*;
 
 @Slf4j
 @Service
 public class LinkServiceImpl implements LinkService{
+    private static final Comparator<LinkRow> PAGE_ORDER =
+        Comparator.comparing(LinkRow::createdAt).thenComparing(LinkRow::id);
+    // Keeps the IN list of the bulk duplicate lookup within common bind-parameter limits
+    private static final int URL_HASH_LOOKUP_CHUNK = 1_000;
+
     private final LinkRepository linkRepository;
     private final UserRepository userRepository;
+    private final EntityManager entityManager;
+    private final Validator validator;
+    private final LinkListCache linkListCache;
+    private final LinkSearchIndexCache linkSearchIndexCache;
+    private final TrigramIndex trigramIndex;
+    private final TitleCompletionCache titleCompletionCache;
+    private final LinkTagRepository linkTagRepository;
+    private final TagRepository tagRepository;
+    private final TagIndexCache tagIndexCache;
+    private final TransactionOperations transactionOperations;
+    private final int batchSize;
 
-    public LinkServiceImpl(LinkRepository linkRepository, UserRepository userRepository) {
+    public LinkServiceImpl(
+        LinkRepository linkRepository,
+        UserRepository userRepository,
+        EntityManager entityManager,
+        Validator validator,
+        LinkListCache linkListCache,
+        LinkSearchIndexCache linkSearchIndexCache,
+        TrigramIndex trigramIndex,
+        TitleCompletionCache titleCompletionCache,
+        LinkTagRepository linkTagRepository,
+        TagRepository tagRepository,
+        TagIndexCache tagIndexCache,
+        TransactionOperations transactionOperations,
+        @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}") int batchSize
+    ) {
         this.linkRepository = linkRepository;
         this.userRepository = userRepository;
+        this.entityManager = entityManager;
+        this.validator = validator;
+        this.linkListCache = linkListCache;
+        this.linkSearchIndexCache = linkSearchIndexCache;
+        this.trigramIndex = trigramIndex;
+        this.titleCompletionCache = titleCompletionCache;
+        this.linkTagRepository = linkTagRepository;
+        this.tagRepository = tagRepository;
+        this.tagIndexCache = tagIndexCache;
+        this.transactionOperations = transactionOperations;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Current version of the user's link collection. Every create, update and delete
+     * below increments it in the same transaction as the write. Reading it touches
+     * only the user row, so an unchanged list can be answered with 304 without
+     * querying links.
+     */
+    @Transactional(readOnly = true)
+    public long getLinksVersion(Long userId) {
+        return userRepository.findLinksVersion(userId)
+            .orElseThrow(() -> new UserNotFoundException(userId));
     }
 
+    /**
+     * Version of a single link, read without loading the row. Empty when the link is
+     * missing or owned by someone else; the full fetch then reports which.
+     */
+    @Transactional(readOnly = true)
+    public Optional<Long> getLinkVersion(Long linkId, Long requestingUserId) {
+        return linkRepository.findVersionByIdAndUserId(linkId, requestingUserId);
+    }
+
+    // Read paths use readOnly transactions: Spring switches the Hibernate session to
+    // FlushMode.MANUAL and read-only, and the queries themselves return DTOs.
+
+    /**
+     * Returns up to {@code limit} links after the cursor, oldest first. One extra row
+     * is fetched to tell whether another page follows. Pages are sliced from the
+     * cached list when the account is small enough to be cached, and read with the
+     * keyset queries otherwise.
+     */
     @Transactional(readOnly = true)
-    public List<LinkResponse> getAllLinksForUser(Long userId) {
+    public LinkPageResponse getLinksPage(Long userId, String cursor, int limit) {
         info(log, LogMessages.FETCH_LINKS_FOR_USER, userId);
-        List<Link> links = linkRepository.findByUserId(userId);
+        LinkCursor position = cursor == null || cursor.isBlank() ? null : LinkCursor.decode(cursor);
+        Limit fetchLimit = Limit.of(limit + 1);
+        CachedLinks cached = cachedLinks(userId);
 
-        info(log, "Found {} links for user ID: {}", links.size(), userId);
-        return links.stream()
-            .map(LinkMapper::toResponse).toList();
+        List<LinkRow> links;
+        if (cached.complete()) {
+            List<LinkRow> rows = cached.rows();
+            int from = position == null ? 0 : firstAfter(rows, position);
+            links = rows.subList(from, Math.min(rows.size(), from + fetchLimit.max()));
+        } else if (position == null) {
+            links = linkRepository.findFirstPage(userId, fetchLimit);
+        } else {
+            links = linkRepository.findPageAfter(userId, position.createdAt(), position.id(), fetchLimit);
+        }
+
+        String next = null;
+        if (links.size() > limit) {
+            links = links.subList(0, limit);
+            LinkRow last = links.get(limit - 1);
+            next = new LinkCursor(last.createdAt(), last.id()).encode();
+        }
+
+        return new LinkPageResponse(links.stream().map(LinkRow::toResponse).toList(), next);
     }
 
+    /**
+     * Hands every link of the user to the sink, one at a time, without building a list.
+     * Rows are projected straight into responses, so nothing accumulates in the
+     * persistence context and heap use does not grow with the size of the account.
+     */
     @Transactional(readOnly = true)
-    public LinkResponse getLinkById(Long linkId, Long requestingUserId) {
-        info(log,"Fetching link by ID: {}", linkId);
-        Link link = linkRepository.findById(linkId)
-           .orElseThrow(() -> new LinkNotFoundException(linkId));
+    public long exportLinks(Long userId, Consumer<LinkResponse> sink) {
+        info(log, "Exporting links for user ID: {}", userId);
+        long exported = 0;
 
-        Long ownerId = link.getUser().getId();
-        info(log, "Owner ID: {}", ownerId);
+        try (Stream<LinkResponse> links = linkRepository.streamByUserId(userId)) {
+            for (LinkResponse link : (Iterable<LinkResponse>) links::iterator) {
+                sink.accept(link);
+                exported++;
+            }
+        }
 
-        info(log, LogMessages.VALIDATE_USER, requestingUserId);
-        if (!ownerId.equals(requestingUserId)) {
-            throw new UnauthorizedAccessException(
-                "User not authorized to fetch this link", requestingUserId
-            );
+        info(log, "Exported {} links for user ID: {}", exported, userId);
+        return exported;
+    }
+
+    /**
+     * Ranks the user's links against the query with the in-memory index, then loads
+     * only the matching rows. A link deleted between the two steps is left out.
+     */
+    @Transactional(readOnly = true)
+    public List<LinkSearchResult> searchLinks(Long userId, String query, int limit) {
+        info(log, "Searching links for user ID: {}", userId);
+        List<SearchHit> hits = linkSearchIndexCache
+            .get(userId, () -> currentLinksVersion(userId), () -> linkRepository.findResponsesByUserId(userId))
+            .search(query, limit);
+        if (hits.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, LinkResponse> links = linkRepository
+            .findResponsesByUserIdAndIdIn(userId, hits.stream().map(SearchHit::linkId).toList())
+            .stream()
+            .collect(Collectors.toMap(LinkResponse::id, Function.identity()));
+
+        List<LinkSearchResult> results = hits.stream()
+            .filter(hit -> links.containsKey(hit.linkId()))
+            .map(hit -> new LinkSearchResult(links.get(hit.linkId()), hit.score()))
+            .toList();
+
+        info(log, "Found {} matching links for user ID: {}", results.size(), userId);
+        return results;
+    }
+
+    @Transactional(readOnly = true)
+    public List<LinkFuzzyMatch> fuzzySearchLinks(Long userId, String query, int limit) {
+        info(log, "Fuzzy searching links for user ID: {}", userId);
+        List<LinkFuzzyMatch> matches = trigramIndex.search(userId, query, limit);
+
+        info(log, "Found {} matching links for user ID: {}", matches.size(), userId);
+        return matches;
+    }
+
+    /**
+     * Completes a title prefix from the user's cached snapshot. Called on every
+     * keystroke, so it is deliberately not transactional: a hit touches no connection,
+     * and only a miss runs the one query that builds the snapshot.
+     */
+    public List<LinkTitleCompletion> completeTitles(Long userId, String prefix, int limit) {
+        debug(log, "Completing link titles for user ID: {}", userId);
+        return titleCompletionCache
+            .get(userId, () -> currentLinksVersion(userId), () -> linkRepository.findTitlesByUserId(userId))
+            .complete(prefix, limit);
+    }
+
+    /**
+     * Filters the user's links by a tag expression on the in-memory bitmaps, then
+     * loads only the page of matches, oldest first.
+     */
+    @Transactional(readOnly = true)
+    public TaggedLinksResponse findLinksByTags(Long userId, String expression, int limit) {
+        info(log, "Filtering links by tags for user ID: {}", userId);
+        TagExpression filter = TagExpression.parse(expression);
+        TagIndex.TagMatches matches = tagIndexCache
+            .get(userId, () -> currentLinksVersion(userId), () -> TagIndex.of(
+                linkRepository.findIdsByUserId(userId), linkTagRepository.findAssignmentsByUserId(userId)
+            ))
+            .filter(filter, limit);
+
+        List<LinkResponse> links = List.of();
+        if (!matches.linkIds().isEmpty()) {
+            Map<Long, LinkResponse> byId = linkRepository
+                .findResponsesByUserIdAndIdIn(userId, matches.linkIds())
+                .stream()
+                .collect(Collectors.toMap(LinkResponse::id, Function.identity()));
+            links = matches.linkIds().stream().filter(byId::containsKey).map(byId::get).toList();
         }
 
-        info(log, LogMessages.FOUND_LINK, link.getId());
-       return LinkMapper.toResponse(link);
+        info(log, "Found {} links matching tags for user ID: {}", matches.total(), userId);
+        return new TaggedLinksResponse(matches.total(), links);
+    }
+
+    /**
+     * Adds the tag to the given links with one statement, creating the tag on first
+     * use. Ids that do not exist, belong to another user or already carry the tag
+     * are skipped, so the returned count may be lower than requested.
+     */
+    @Transactional
+    public LinksTaggedResponse tagLinks(Long userId, String tag, List<Long> linkIds) {
+        String name = TagExpression.normalizeTag(tag);
+        info(log, "Tagging {} links with '{}' for user ID: {}", linkIds.size(), name, userId);
+        long tagId = linkTagRepository.findOrCreateTag(userId, name);
+        int tagged = linkTagRepository.tagLinks(userId, tagId, linkIds);
+        if (tagged > 0) {
+            long version = tagsChanged(userId);
+            tagIndexCache.linksTagged(userId, version, name, linkIds);
+        }
+
+        info(log, "Tagged {} of {} requested links for user ID: {}", tagged, linkIds.size(), userId);
+        return new LinksTaggedResponse(name, tagged);
+    }
+
+    @Transactional
+    public LinksTaggedResponse untagLinks(Long userId, String tag, List<Long> linkIds) {
+        String name = TagExpression.normalizeTag(tag);
+        info(log, "Untagging {} links from '{}' for user ID: {}", linkIds.size(), name, userId);
+        int untagged = tagRepository.findIdByUserIdAndName(userId, name)
+            .map(tagId -> linkTagRepository.untagLinks(tagId, linkIds))
+            .orElse(0);
+        if (untagged > 0) {
+            long version = tagsChanged(userId);
+            tagIndexCache.linksUntagged(userId, version, name, linkIds);
+        }
+
+        info(log, "Untagged {} of {} requested links for user ID: {}", untagged, linkIds.size(), userId);
+        return new LinksTaggedResponse(name, untagged);
+    }
+
+    @Transactional(readOnly = true)
+    public VersionedLinkResponse getLinkById(Long linkId, Long requestingUserId) {
+        info(log,"Fetching link by ID: {}", linkId);
+        VersionedLinkResponse link = linkRepository.findResponseByIdAndUserId(linkId, requestingUserId)
+            .orElseThrow(() -> ownershipFailure(
+                linkId, requestingUserId, "User not authorized to fetch this link"
+            ));
+
+        info(log, LogMessages.FOUND_LINK, linkId);
+        return link;
     }
 
+    /**
+     * Saves a new link unless the user already has one with the same canonical URL.
+     * The pre-check is a single probe of the unique (user_id, url_hash) index, which
+     * also rejects a concurrent save that slips past it.
+     */
     @Transactional
     public LinkResponse createLink(Long userId, LinkRequest linkRequest) {
         info(log, LogMessages.FETCH_USER, userId);
@@ -65,94 +331,387 @@ public class LinkServiceImpl implements LinkService{
             .orElseThrow(() -> new UserNotFoundException(userId));
 
         Link link = new Link(linkRequest.url(), linkRequest.title(), linkRequest.description(), user);
+        rejectDuplicate(userId, null, link.getUrl(), link.getUrlHash());
 
         try {
             info(log, "Saving link for user ID: {}", userId);
             debug(log, LogMessages.FETCH_USER, link);
 
-            Link savedLink = linkRepository.save(link);
-            info(log, "Link saved successfully: ID {}", savedLink.getId());
-            return LinkMapper.toResponse(savedLink);
+            LinkResponse saved = LinkMapper.toResponse(linkRepository.save(link));
+            // Flushed here so a concurrent save of the same URL fails inside the try
+            linkRepository.flush();
+            trigramIndex.linksCreated(userId, List.of(saved));
+            long version = linksChanged(userId);
+            linkSearchIndexCache.linksSaved(userId, version, List.of(saved));
+            titleCompletionCache.linksSaved(userId, version, List.of(saved));
+            tagIndexCache.linksAdded(userId, version, List.of(saved.id()));
+            info(log, "Link saved successfully: ID {}", saved.id());
+            return saved;
         } catch (RuntimeException e) {
+            if (isUrlConflict(e)) {
+                throw new DuplicateLinkException(link.getUrl(), e);
+            }
             throw new LinkSaveException(link.getId(), userId, e);
         }
     }
 
+    /**
+     * Saves a link like {@link #createLink(Long, LinkRequest)}. With
+     * {@code returnExisting}, a duplicate answers with the link already saved under
+     * the same canonical URL instead of a conflict.
+     *
+     * Not transactional itself: a save that loses a race to the unique index leaves
+     * its transaction rollback-only, so the winner is read afterwards in a new one.
+     */
+    public CreatedLinkResponse createLink(Long userId, LinkRequest linkRequest, boolean returnExisting) {
+        try {
+            LinkResponse created = transactionOperations.execute(status -> createLink(userId, linkRequest));
+            return new CreatedLinkResponse(created, true);
+        } catch (DuplicateLinkException e) {
+            if (!returnExisting) {
+                throw e;
+            }
+            info(log, "Returning the saved link for a duplicate from user ID: {}", userId);
+            byte[] urlHash = UrlCanonicalizer.hash(linkRequest.url());
+            LinkResponse existing = Optional.ofNullable(e.getExisting())
+                .or(() -> linkRepository.findResponseByUserIdAndUrlHash(userId, urlHash))
+                .orElseThrow(() -> e);
+            return new CreatedLinkResponse(existing, false);
+        }
+    }
+
+    /**
+     * Validates every request in parallel, then persists the valid ones in a single
+     * transaction. Link ids come from a pooled sequence, so Hibernate can group the
+     * inserts into JDBC batches; the persistence context is flushed and cleared every
+     * {@code batchSize} links to keep it small. Invalid items, and links whose
+     * canonical URL is already saved or appears earlier in the batch, are returned
+     * with their index and do not stop the rest of the batch. A link saved
+     * concurrently after the duplicate lookup fails the batch with a conflict.
+     */
     @Transactional
-    public LinkResponse updateLink(Long linkId, LinkRequest linkRequest, Long requestingUserId) {
-        Link existingLink = linkRepository.findById(linkId)
-            .orElseThrow(() -> new LinkNotFoundException(linkId));
-        info(log, LogMessages.FOUND_LINK, linkId);
+    public BulkLinkResponse createLinks(Long userId, List<LinkRequest> linkRequests) {
+        info(log, "Bulk creating {} links for user ID: {}", linkRequests.size(), userId);
+        List<List<String>> violations = IntStream.range(0, linkRequests.size())
+            .parallel()
+            .mapToObj(i -> validate(linkRequests.get(i)))
+            .toList();
+
+        info(log, LogMessages.FETCH_USER, userId);
+        if (!userRepository.existsById(userId)) {
+            throw new UserNotFoundException(userId);
+        }
+        User user = userRepository.getReferenceById(userId);
 
-        Long ownerId = existingLink.getUser().getId();
-        info(log, "Owner ID: {}", ownerId);
+        Set<ByteBuffer> savedUrlHashes = savedUrlHashes(userId, linkRequests, violations);
+        Map<ByteBuffer, Integer> firstIndexByUrlHash = new HashMap<>();
+        List<LinkResponse> created = new ArrayList<>();
+        List<BulkLinkError> rejected = new ArrayList<>();
 
-        info(log, LogMessages.VALIDATE_USER, requestingUserId);
-        if (!ownerId.equals(requestingUserId)) {
-            throw new UnauthorizedAccessException(
-                ExceptionMessages.USER_NOT_AUTHORIZED_TO_UPDATE, requestingUserId
-            );
+        try {
+            for (int i = 0; i < linkRequests.size(); i++) {
+                if (!violations.get(i).isEmpty()) {
+                    rejected.add(new BulkLinkError(i, violations.get(i)));
+                    continue;
+                }
+
+                LinkRequest linkRequest = linkRequests.get(i);
+                Link link = new Link(linkRequest.url(), linkRequest.title(), linkRequest.description(), user);
+                ByteBuffer urlHash = ByteBuffer.wrap(link.getUrlHash());
+                if (savedUrlHashes.contains(urlHash)) {
+                    rejected.add(new BulkLinkError(i, List.of(ExceptionMessages.DUPLICATE_OF_EXISTING_LINK)));
+                    continue;
+                }
+                Integer first = firstIndexByUrlHash.putIfAbsent(urlHash, i);
+                if (first != null) {
+                    String duplicate = String.format(ExceptionMessages.DUPLICATE_IN_BATCH, first);
+                    rejected.add(new BulkLinkError(i, List.of(duplicate)));
+                    continue;
+                }
+                created.add(LinkMapper.toResponse(linkRepository.save(link)));
+
+                if (created.size() % batchSize == 0) {
+                    entityManager.flush();
+                    entityManager.clear();
+                }
+            }
+            entityManager.flush();
+
+            if (!created.isEmpty()) {
+                trigramIndex.linksCreated(userId, created);
+                long version = linksChanged(userId);
+                linkSearchIndexCache.linksSaved(userId, version, created);
+                titleCompletionCache.linksSaved(userId, version, created);
+                tagIndexCache.linksAdded(userId, version, created.stream().map(LinkResponse::id).toList());
+            }
+        } catch (RuntimeException e) {
+            if (isUrlConflict(e)) {
+                throw new DuplicateLinkException(e);
+            }
+            throw new LinksSaveException(userId, e);
         }
 
+        info(log, "Created {} links and rejected {} for user ID: {}", created.size(), rejected.size(), userId);
+        return new BulkLinkResponse(created, rejected);
+    }
+
+    // Canonical URL hashes of the valid requests that the user has already saved,
+    // wrapped so they compare by content
+    private Set<ByteBuffer> savedUrlHashes(
+        Long userId, List<LinkRequest> linkRequests, List<List<String>> violations
+    ) {
+        List<byte[]> urlHashes = IntStream.range(0, linkRequests.size())
+            .filter(i -> violations.get(i).isEmpty())
+            .mapToObj(i -> UrlCanonicalizer.hash(linkRequests.get(i).url()))
+            .toList();
+
+        Set<ByteBuffer> saved = new HashSet<>();
+        for (int from = 0; from < urlHashes.size(); from += URL_HASH_LOOKUP_CHUNK) {
+            List<byte[]> chunk = urlHashes.subList(from, Math.min(urlHashes.size(), from + URL_HASH_LOOKUP_CHUNK));
+            linkRepository.findUrlHashesByUserIdAndUrlHashIn(userId, chunk)
+                .forEach(urlHash -> saved.add(ByteBuffer.wrap(urlHash)));
+        }
+        return saved;
+    }
+
+    private List<String> validate(LinkRequest linkRequest) {
+        if (linkRequest == null) {
+            return List.of(ExceptionMessages.LINK_REQUIRED);
+        }
+        return validator.validate(linkRequest).stream()
+            .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+            .sorted()
+            .toList();
+    }
+
+    /**
+     * Updates the link with one statement keyed on both id and owner. The response is
+     * built from the request, so the row is never loaded.
+     */
+    @Transactional
+    public LinkResponse updateLink(Long linkId, LinkRequest linkRequest, Long requestingUserId) {
         debug(log, "Received linkRequest for update: {}", linkRequest);
-        existingLink.setUrl(linkRequest.url());
-        existingLink.setTitle(linkRequest.title());
-        existingLink.setDescription(linkRequest.description());
+        byte[] urlHash = UrlCanonicalizer.hash(linkRequest.url());
+        rejectDuplicate(requestingUserId, linkId, linkRequest.url(), urlHash);
+        int updated;
 
         try {
-            info(log, "Updating link by ID: {}", existingLink.getId());
-            debug(log, "Link to be updated: {}", existingLink);
-
-            Link updatedLink = linkRepository.save(existingLink);
-            info(log, "Link updated successfully: ID {}", existingLink.getId());
-            return LinkMapper.toResponse(updatedLink);
+            info(log, "Updating link by ID: {}", linkId);
+            updated = linkRepository.updateByIdAndUserId(
+                linkId, requestingUserId, linkRequest.url(), urlHash, linkRequest.title(), linkRequest.description()
+            );
         } catch (RuntimeException e) {
-            throw new LinkSaveException(existingLink.getId(), ownerId, e);
+            if (isUrlConflict(e)) {
+                throw new DuplicateLinkException(linkRequest.url(), e);
+            }
+            throw new LinkSaveException(linkId, requestingUserId, e);
         }
+
+        if (updated == 0) {
+            throw ownershipFailure(linkId, requestingUserId, ExceptionMessages.USER_NOT_AUTHORIZED_TO_UPDATE);
+        }
+        LinkResponse response = new LinkResponse(
+            linkId, linkRequest.url(), linkRequest.title(), linkRequest.description(), requestingUserId
+        );
+        trigramIndex.linkUpdated(requestingUserId, response);
+        long version = linksChanged(requestingUserId);
+        linkSearchIndexCache.linksSaved(requestingUserId, version, List.of(response));
+        titleCompletionCache.linksSaved(requestingUserId, version, List.of(response));
+        tagIndexCache.linksUnchanged(requestingUserId, version);
+
+        info(log, "Link updated successfully: ID {}", linkId);
+        return response;
     }
 
+    /**
+     * Applies the non-null fields of the patch if the link is still at
+     * {@code expectedVersion}. Link uses {@code @DynamicUpdate}, so the UPDATE only
+     * sets the columns that actually changed, and Hibernate adds the version to its
+     * WHERE clause. A concurrent writer therefore fails instead of being overwritten.
+     */
     @Transactional
-    public void deleteLink(Long linkId, Long requestingUserId) {
-        Link linkToDelete = linkRepository.findById(linkId)
-            .orElseThrow(() -> new LinkNotFoundException(linkId));
-        info(log, LogMessages.FOUND_LINK, linkId);
+    public VersionedLinkResponse patchLink(
+        Long linkId, LinkPatchRequest patchRequest, long expectedVersion, Long requestingUserId
+    ) {
+        Link link = linkRepository.findByIdAndUserId(linkId, requestingUserId)
+            .orElseThrow(() -> ownershipFailure(
+                linkId, requestingUserId, ExceptionMessages.USER_NOT_AUTHORIZED_TO_UPDATE
+            ));
 
-        Long ownerId = linkToDelete.getUser().getId();
-        info(log, "Owner ID: {}", ownerId);
+        if (link.getVersion() != expectedVersion) {
+            throw new LinkVersionMismatchException(linkId);
+        }
 
-        info(log, LogMessages.VALIDATE_USER, requestingUserId);
-        if (!ownerId.equals(requestingUserId)) {
-            throw new UnauthorizedAccessException(
-                "User not authorized to delete this link", requestingUserId
-            );
+        debug(log, "Received patch for link ID {}: {}", linkId, patchRequest);
+        if (patchRequest.url() != null) {
+            // Probed before the entity is dirty, so the query does not flush it early
+            rejectDuplicate(requestingUserId, linkId, patchRequest.url(), UrlCanonicalizer.hash(patchRequest.url()));
+            link.setUrl(patchRequest.url());
+        }
+        if (patchRequest.title() != null) {
+            link.setTitle(patchRequest.title());
+        }
+        if (patchRequest.description() != null) {
+            link.setDescription(patchRequest.description());
         }
 
         try {
-            info(log, "Deleting link ID: {}", linkId);
-            debug(log, "Link to be deleted: {}", linkToDelete);
+            info(log, "Patching link by ID: {}", linkId);
+            linkRepository.flush();
+        } catch (ObjectOptimisticLockingFailureException e) {
+            throw new LinkVersionMismatchException(linkId);
+        } catch (RuntimeException e) {
+            if (isUrlConflict(e)) {
+                throw new DuplicateLinkException(link.getUrl(), e);
+            }
+            throw new LinkSaveException(linkId, requestingUserId, e);
+        }
+
+        LinkResponse response = LinkMapper.toResponse(link);
+        // An empty or no-op patch leaves the row untouched and the version unchanged
+        if (link.getVersion() != expectedVersion) {
+            if (patchRequest.url() != null || patchRequest.title() != null) {
+                trigramIndex.linkUpdated(requestingUserId, response);
+            }
+            long version = linksChanged(requestingUserId);
+            linkSearchIndexCache.linksSaved(requestingUserId, version, List.of(response));
+            titleCompletionCache.linksSaved(requestingUserId, version, List.of(response));
+            tagIndexCache.linksUnchanged(requestingUserId, version);
+        }
+
+        info(log, "Link patched successfully: ID {} now at version {}", linkId, link.getVersion());
+        return new VersionedLinkResponse(response, link.getVersion());
+    }
+
+    @Transactional
+    public void deleteLink(Long linkId, Long requestingUserId) {
+        int deleted;
 
-            linkRepository.deleteById(linkId);
-            info(log, "Successfully deleted link for user ID: {}", ownerId);
+        try {
+            info(log, "Deleting link ID: {}", linkId);
+            deleted = linkRepository.deleteByIdAndUserId(linkId, requestingUserId);
         } catch (RuntimeException e) {
-            throw new LinkDeleteException(linkId, ownerId, e);
+            throw new LinkDeleteException(linkId, requestingUserId, e);
+        }
+
+        if (deleted == 0) {
+            throw ownershipFailure(linkId, requestingUserId, "User not authorized to delete this link");
+        }
+        long version = linksChanged(requestingUserId);
+        linkSearchIndexCache.linksRemoved(requestingUserId, version, List.of(linkId));
+        titleCompletionCache.linksRemoved(requestingUserId, version, List.of(linkId));
+        tagIndexCache.linksRemoved(requestingUserId, version, List.of(linkId));
+
+        info(log, "Successfully deleted link for user ID: {}", requestingUserId);
+    }
+
+    private CachedLinks cachedLinks(Long userId) {
+        return linkListCache.get(userId, rows -> linkRepository.findFirstPage(userId, Limit.of(rows)));
+    }
+
+    // Index of the first row strictly after the cursor in (createdAt, id) order
+    private static int firstAfter(List<LinkRow> rows, LinkCursor position) {
+        LinkRow key = new LinkRow(position.id(), null, null, null, null, position.createdAt());
+        int index = Collections.binarySearch(rows, key, PAGE_ORDER);
+        return index >= 0 ? index + 1 : -index - 1;
+    }
+
+    // Runs inside every writing transaction: bumps the collection version behind the
+    // list ETag and drops the cached list. The per-user indexes apply their changes in
+    // the order of the returned version, and each of them must be handed every
+    // version, even one that leaves it unchanged.
+    private long linksChanged(Long userId) {
+        long version = userRepository.incrementLinksVersion(userId);
+        linkListCache.invalidate(userId);
+        return version;
+    }
+
+    // Tag writes take a links version too, so the tag index sees them in one order
+    // with link writes. The cached list is unaffected, though its ETag changes.
+    private long tagsChanged(Long userId) {
+        long version = userRepository.incrementLinksVersion(userId);
+        linkSearchIndexCache.linksUnchanged(userId, version);
+        titleCompletionCache.linksUnchanged(userId, version);
+        return version;
+    }
+
+    // Read before an index is built from the links, see TransactionalUserCache.get.
+    // A missing user has no links, so any version will do.
+    private long currentLinksVersion(Long userId) {
+        return userRepository.findLinksVersion(userId).orElse(0L);
+    }
+
+    // Another of the user's links with the same canonical URL; the link being
+    // updated may keep its own URL or switch to an equivalent spelling of it.
+    private void rejectDuplicate(Long userId, Long linkId, String url, byte[] urlHash) {
+        Optional<LinkResponse> existing = linkRepository.findResponseByUserIdAndUrlHash(userId, urlHash)
+            .filter(link -> !link.id().equals(linkId));
+        if (existing.isPresent()) {
+            throw new DuplicateLinkException(url, existing.get());
+        }
+    }
+
+    // A write that raced past rejectDuplicate fails on the unique index. A direct
+    // flush raises Hibernate's exception as is; repository calls wrap it in Spring's.
+    private static boolean isUrlConflict(RuntimeException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation) {
+                return violation.getConstraintName() != null
+                    && violation.getConstraintName().toLowerCase(Locale.ROOT).contains(Link.URL_HASH_CONSTRAINT);
+            }
+        }
+        return false;
+    }
+
+    // Only reached when the owner-scoped statement matched nothing; one extra lookup
+    // tells a missing link (404) from someone else's (403).
+    private RuntimeException ownershipFailure(Long linkId, Long requestingUserId, String message) {
+        if (!linkRepository.existsById(linkId)) {
+            return new LinkNotFoundException(linkId);
         }
+
+        info(log, LogMessages.VALIDATE_USER, requestingUserId);
+        return new UnauthorizedAccessException(message, requestingUserId);
     }
 
     @Transactional
-    public void deleteAllLinksByUser(Long userId) {
-        info(log, LogMessages.FETCH_LINKS_FOR_USER, userId);
-        List<Link> links = linkRepository.findByUserId(userId);
+    public LinksDeletedResponse deleteAllLinksByUser(Long userId) {
+        try {
+            info(log, "Deleting all links for user ID: {}", userId);
+            int deleted = linkRepository.deleteAllByUserId(userId);
+            if (deleted > 0) {
+                linksChanged(userId);
+                linkSearchIndexCache.invalidate(userId);
+                titleCompletionCache.invalidate(userId);
+                tagIndexCache.invalidate(userId);
+            }
 
-        if (links.isEmpty()) {
-            info(log, "No links found for user ID: {}, nothing to delete", userId);
-            return;
+            info(log, "Deleted {} links for user ID: {}", deleted, userId);
+            return new LinksDeletedResponse(deleted);
+        } catch (RuntimeException e) {
+            throw new LinksDeleteException(userId, e);
         }
+    }
 
+    /**
+     * Deletes the given links in one statement. Ids that do not exist or belong to
+     * another user are ignored, so the returned count may be lower than requested.
+     */
+    @Transactional
+    public LinksDeletedResponse deleteLinks(Long userId, List<Long> linkIds) {
         try {
-            debug(log, "Number of links to be deleted: {}", links.size());
+            info(log, "Deleting {} links for user ID: {}", linkIds.size(), userId);
+            int deleted = linkRepository.deleteByUserIdAndIdIn(userId, linkIds);
+            if (deleted > 0) {
+                long version = linksChanged(userId);
+                // Ids that were not the user's are not in the index either
+                linkSearchIndexCache.linksRemoved(userId, version, linkIds);
+                titleCompletionCache.linksRemoved(userId, version, linkIds);
+                tagIndexCache.linksRemoved(userId, version, linkIds);
+            }
 
-            linkRepository.deleteAll(links);
-            info(log, "Successfully deleted all links for user ID: {}", userId);
+            info(log, "Deleted {} of {} requested links for user ID: {}", deleted, linkIds.size(), userId);
+            return new LinksDeletedResponse(deleted);
         } catch (RuntimeException e) {
             throw new LinksDeleteException(userId, e);
         }
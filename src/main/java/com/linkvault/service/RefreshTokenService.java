@@ -0,0 +1,10 @@
+package com.linkvault.service;
+
+import com.linkvault.dto.AuthResponse;
+import com.linkvault.model.Role;
+
+public interface RefreshTokenService {
+    AuthResponse startSession(Long userId, String username, Role role);
+    AuthResponse rotate(String refreshToken);
+    void revoke(String refreshToken);
+}
@@ -0,0 +1,121 @@
+package com.linkvault.service;
+
+import com.linkvault.dto.AuthResponse;
+import com.linkvault.exception.InvalidRefreshTokenException;
+import com.linkvault.model.RefreshToken;
+import com.linkvault.model.Role;
+import com.linkvault.model.User;
+import com.linkvault.repository.RefreshTokenRepository;
+import com.linkvault.repository.UserRepository;
+import com.linkvault.security.JwtUtils;
+import com.linkvault.security.TokenDigests;
+import com.linkvault.security.TokenRevocationList;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+import static com.linkvault.util.LogUtils.info;
+import static com.linkvault.util.LogUtils.warn;
+
+@Slf4j
+@Service
+@Transactional(noRollbackFor = InvalidRefreshTokenException.class)
+public class RefreshTokenServiceImpl implements RefreshTokenService {
+    private static final int TOKEN_BYTES = 32;
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final UserRepository userRepository;
+    private final JwtUtils jwtUtils;
+    private final TokenRevocationList revocationList;
+    private final Duration refreshExpiration;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    public RefreshTokenServiceImpl(
+        RefreshTokenRepository refreshTokenRepository,
+        UserRepository userRepository,
+        JwtUtils jwtUtils,
+        TokenRevocationList revocationList,
+        @Value("${jwt.refresh-expiration:14d}") Duration refreshExpiration
+    ) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.userRepository = userRepository;
+        this.jwtUtils = jwtUtils;
+        this.revocationList = revocationList;
+        this.refreshExpiration = refreshExpiration;
+    }
+
+    public AuthResponse startSession(Long userId, String username, Role role) {
+        return issueTokens(userId, username, role, UUID.randomUUID().toString());
+    }
+
+    /**
+     * Exchanges a refresh token for a new access and refresh token pair. Each refresh
+     * token works once; presenting one that was already rotated revokes the whole
+     * session, since either the client or an attacker is holding a stolen copy.
+     */
+    public AuthResponse rotate(String refreshToken) {
+        RefreshToken stored = refreshTokenRepository.findByTokenHash(TokenDigests.sha256(refreshToken))
+            .orElseThrow(InvalidRefreshTokenException::new);
+        Instant now = Instant.now();
+
+        if (stored.getRevokedAt() != null || stored.getExpiresAt().isBefore(now)) {
+            throw new InvalidRefreshTokenException();
+        }
+        if (refreshTokenRepository.markRotated(stored.getId(), now) == 0) {
+            warn(log, "Refresh token reuse detected for session: {}", stored.getSessionId());
+            revokeSession(stored.getSessionId(), now);
+            throw new InvalidRefreshTokenException();
+        }
+
+        User user = userRepository.findById(stored.getUserId())
+            .orElseThrow(InvalidRefreshTokenException::new);
+
+        return issueTokens(user.getId(), user.getUsername(), user.getRole(), stored.getSessionId());
+    }
+
+    public void revoke(String refreshToken) {
+        refreshTokenRepository.findByTokenHash(TokenDigests.sha256(refreshToken))
+            .ifPresent(stored -> {
+                revokeSession(stored.getSessionId(), Instant.now());
+                info(log, "Session revoked for user ID: {}", stored.getUserId());
+            });
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.refresh-token.cleanup-interval:PT1H}")
+    public void deleteExpiredTokens() {
+        refreshTokenRepository.deleteExpired(Instant.now());
+    }
+
+    private AuthResponse issueTokens(Long userId, String username, Role role, String sessionId) {
+        String refreshToken = newRefreshToken();
+        refreshTokenRepository.save(new RefreshToken(
+            TokenDigests.sha256(refreshToken),
+            sessionId,
+            userId,
+            Instant.now().plus(refreshExpiration)
+        ));
+
+        String accessToken = jwtUtils.generateToken(userId, username, role, sessionId);
+        return new AuthResponse(accessToken, refreshToken);
+    }
+
+    private void revokeSession(String sessionId, Instant now) {
+        refreshTokenRepository.revokeSession(sessionId, now);
+        // Access tokens already handed out stay valid for at most their own lifetime.
+        revocationList.revoke(sessionId, now.plusMillis(jwtUtils.getExpirationTime()));
+    }
+
+    private String newRefreshToken() {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+}
@@ -1,6 +1,11 @@
 package com.linkvault.service;
 
+import com.linkvault.dto.BulkRegisterResponse;
+import com.linkvault.dto.RegisterRequest;
+
+import java.util.List;
+
 public interface UserService {
     void registerUser(String username, String rawPassword);
-    Long getUserIdByUsername(String username);
+    BulkRegisterResponse provisionUsers(List<RegisterRequest> requests);
 }
@@ -1,12 +1,28 @@
 package com.linkvault.service;
 
+import com.linkvault.dto.BulkRegisterResponse;
+import com.linkvault.dto.RegisterRequest;
 import com.linkvault.exception.*;
 import com.linkvault.model.Role;
 import com.linkvault.model.User;
 import com.linkvault.repository.UserRepository;
+import com.linkvault.security.PasswordHashingExecutor;
+import com.linkvault.security.UserDetailsCache;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 import static com.linkvault.util.LogUtils.info;
 
@@ -14,33 +30,145 @@ import static com.linkvault.util.LogUtils.info;
 @Slf4j
 @Service
 public class UserServiceImpl implements UserService {
+    // A name registered while a provisioning batch is inserted fails that attempt;
+    // the next one finds the name taken and skips it.
+    private static final int MAX_PROVISIONING_ATTEMPTS = 3;
+
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+    private final UserDetailsCache userDetailsCache;
+    private final TransactionOperations transactionOperations;
+    private final int provisioningThreads;
 
-    public UserServiceImpl(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+    public UserServiceImpl(
+        UserRepository userRepository,
+        PasswordEncoder passwordEncoder,
+        PasswordHashingExecutor passwordHashingExecutor,
+        UserDetailsCache userDetailsCache,
+        TransactionOperations transactionOperations,
+        @Value("${security.user-provisioning.hashing-threads:0}") int provisioningThreads
+    ) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.passwordHashingExecutor = passwordHashingExecutor;
+        this.userDetailsCache = userDetailsCache;
+        this.transactionOperations = transactionOperations;
+        // Hashes one request keeps in flight on the shared pool. Defaults to half the
+        // cores so logins still have CPU while a bulk job runs.
+        this.provisioningThreads = provisioningThreads > 0
+            ? provisioningThreads
+            : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
     }
 
+    /**
+     * Inserts the user in one statement and lets the unique constraint on username
+     * reject duplicates, which also covers two sign-ups racing for the same name.
+     */
     public void registerUser(String username, String rawPassword) {
-        if (userRepository.existsByUsername(username)) {
-            throw new UsernameAlreadyExistsException(username);
-        }
-
         try {
             info(log, "Creating user for: {}", username);
             User user = new User(username, passwordEncoder.encode((rawPassword)));
             user.setRole(Role.USER);
-            User savedUser = userRepository.save(user);
+            User savedUser = userRepository.saveAndFlush(user);
+            userDetailsCache.evict(username);
             info(log, "User saved successfully: ID {}", savedUser.getId());
+        } catch (DataIntegrityViolationException e) {
+            if (isUsernameConflict(e)) {
+                throw new UsernameAlreadyExistsException(username);
+            }
+            throw new RegistrationFailedException(username, e);
         } catch (Exception e) {
             throw new RegistrationFailedException(username, e);
         }
     }
 
-    public Long getUserIdByUsername(String username) {
-        User user = userRepository.findByUsername(username)
-            .orElseThrow(() -> new UserNotFoundException(username));
-        return user.getId();
+    /**
+     * Creates every user whose name is not already taken. Duplicates within the
+     * request and names that already exist are skipped and reported. The rest are
+     * hashed on the shared hashing pool before any transaction starts, then written
+     * with JDBC batch inserts in one short transaction.
+     *
+     * @throws ServiceOverloadedException if the hashing pool is saturated
+     */
+    public BulkRegisterResponse provisionUsers(List<RegisterRequest> requests) {
+        Map<String, String> pending = new LinkedHashMap<>();
+        List<String> skipped = new ArrayList<>();
+
+        for (RegisterRequest request : requests) {
+            if (pending.putIfAbsent(request.getUsername(), request.getPassword()) != null) {
+                skipped.add(request.getUsername());
+            }
+        }
+
+        // Checked before hashing too, so taken names cost no hashing work
+        Set<String> existing = userRepository.findExistingUsernames(pending.keySet());
+        pending.keySet().removeAll(existing);
+        skipped.addAll(existing);
+
+        int created = pending.isEmpty() ? 0 : insertUntaken(hashAll(pending), skipped);
+        return new BulkRegisterResponse(created, skipped);
+    }
+
+    // Names taken while the passwords were hashed are skipped inside the transaction
+    private int insertUntaken(List<User> users, List<String> skipped) {
+        List<String> usernames = users.stream().map(User::getUsername).toList();
+        List<String> taken = new ArrayList<>();
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                int created = transactionOperations.execute(status -> {
+                    Set<String> existing = userRepository.findExistingUsernames(usernames);
+                    taken.clear();
+                    usernames.stream().filter(existing::contains).forEach(taken::add);
+                    List<User> untaken = users.stream()
+                        .filter(user -> !existing.contains(user.getUsername()))
+                        .toList();
+                    if (untaken.isEmpty()) {
+                        return 0;
+                    }
+                    int inserted = userRepository.batchInsert(untaken);
+                    untaken.forEach(user -> userDetailsCache.evict(user.getUsername()));
+                    return inserted;
+                });
+                skipped.addAll(taken);
+                return created;
+            } catch (DataIntegrityViolationException e) {
+                if (!isUsernameConflict(e) || attempt == MAX_PROVISIONING_ATTEMPTS) {
+                    throw e;
+                }
+                info(log, "Username registered during provisioning, retrying attempt {}", attempt + 1);
+            }
+        }
+    }
+
+    // At most provisioningThreads hashes are queued at once, so one large request
+    // cannot fill the shared queue that logins depend on
+    private List<User> hashAll(Map<String, String> rawPasswordsByUsername) {
+        List<Map.Entry<String, String>> entries = List.copyOf(rawPasswordsByUsername.entrySet());
+        List<User> users = new ArrayList<>(entries.size());
+
+        for (int from = 0; from < entries.size(); from += provisioningThreads) {
+            List<CompletableFuture<User>> window = entries
+                .subList(from, Math.min(entries.size(), from + provisioningThreads))
+                .stream()
+                .map(entry -> passwordHashingExecutor.submit(() -> {
+                    User user = new User(entry.getKey(), passwordEncoder.encode(entry.getValue()));
+                    user.setRole(Role.USER);
+                    return user;
+                }))
+                .toList();
+            window.forEach(hashed -> users.add(hashed.join()));
+        }
+        return users;
+    }
+
+    // Hibernate names the violated constraint; a JDBC batch only carries it in the
+    // driver's message
+    private static boolean isUsernameConflict(DataIntegrityViolationException e) {
+        String constraint = e.getCause() instanceof ConstraintViolationException violation
+            ? violation.getConstraintName()
+            : e.getMostSpecificCause().getMessage();
+        return constraint != null && constraint.toLowerCase(Locale.ROOT).contains(User.USERNAME_CONSTRAINT);
     }
 }
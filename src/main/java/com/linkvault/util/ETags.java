@@ -0,0 +1,47 @@
+package com.linkvault.util;
+
+import java.util.OptionalLong;
+
+/**
+ * Maps numeric versions to strong ETags of the form {@code "42"} and back, and
+ * builds the per-user ETags of link collections.
+ */
+public final class ETags {
+    private ETags() {}
+
+    public static String of(long version) {
+        return "\"" + version + "\"";
+    }
+
+    /**
+     * ETag of a collection served at the same URL to every user, such as
+     * {@code "u42-5"}. Collection versions start at zero for each user, so the owner
+     * is part of the tag and two users' lists can never share one.
+     */
+    public static String ofCollection(long ownerId, long version) {
+        return "\"u" + ownerId + "-" + version + "\"";
+    }
+
+    /**
+     * Reads the version from a single-valued If-Match header. Anything that is not one
+     * of our ETags, including {@code *} and lists, yields an empty result. If-Match
+     * uses strong comparison, so a weak tag such as {@code W/"42"} never matches and
+     * yields nothing either.
+     */
+    public static OptionalLong parse(String header) {
+        if (header == null) {
+            return OptionalLong.empty();
+        }
+
+        String tag = header.trim();
+        if (tag.length() < 3 || tag.charAt(0) != '"' || tag.charAt(tag.length() - 1) != '"') {
+            return OptionalLong.empty();
+        }
+
+        try {
+            return OptionalLong.of(Long.parseLong(tag.substring(1, tag.length() - 1)));
+        } catch (NumberFormatException e) {
+            return OptionalLong.empty();
+        }
+    }
+}
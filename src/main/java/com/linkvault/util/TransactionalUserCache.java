@@ -0,0 +1,173 @@
+package com.linkvault.util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import java.util.function.UnaryOperator;
+
+/**
+ * A per-user Caffeine cache kept in step with the writing transaction, shared by the
+ * link caches and the user-details cache.
+ *
+ * Loads run on the caller's thread outside Caffeine's per-key compute, so a miss
+ * that blocks on JDBC holds no map lock and does not pin a virtual thread's carrier.
+ * Concurrent misses of one key each load. A load is kept only if no change or
+ * invalidation of its key overtook it; the check is made against a striped
+ * generation counter inside a short compute that does no I/O.
+ *
+ * Changes are applied only once the writing transaction commits, and only to
+ * entries that exist; a rolled-back write changes nothing. Each entry records the
+ * version of the last commit it reflects. Commits of one key must carry
+ * consecutive versions, which the caller gets from a counter that its writers
+ * serialize on. A change older than the entry is skipped, and one that arrives
+ * before an earlier commit's change drops the entry, so after-commit callbacks
+ * that run out of order never leave an older state behind.
+ *
+ * Invalidation happens now and again when the transaction completes, which drops
+ * anything reloaded from pre-commit state in between.
+ */
+public class TransactionalUserCache<K, V> {
+    private static final int GENERATION_STRIPES = 64;
+
+    private final String name;
+    private final Cache<K, Entry<V>> cache;
+    // Bumped before every change and invalidation of a key in the stripe
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+
+    public TransactionalUserCache(String name, Caffeine<Object, Object> builder) {
+        this.name = name;
+        this.cache = builder.build();
+    }
+
+    public TransactionalUserCache(String name, Caffeine<Object, Object> builder, ToIntFunction<V> weigher) {
+        this.name = name;
+        this.cache = builder.weigher((K key, Entry<V> entry) -> weigher.applyAsInt(entry.value())).build();
+    }
+
+    /**
+     * Returns the cached value, calling the loader on a miss. A null from the loader
+     * is returned as is and not cached. For caches that are only invalidated.
+     */
+    public V get(K key, Function<K, V> loader) {
+        return get(key, k -> 0, loader);
+    }
+
+    /**
+     * Returns the cached value, calling the loader on a miss. {@code version} is read
+     * before the loader runs, so the value includes at least that commit. Changes
+     * from later commits that it already contains are applied again in commit
+     * order, so a change must set state rather than accumulate it.
+     */
+    public V get(K key, ToLongFunction<K> version, Function<K, V> loader) {
+        Entry<V> cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached.value();
+        }
+
+        int stripe = stripe(key);
+        long generation = generations.get(stripe);
+        long loadedVersion = version.applyAsLong(key);
+        V value = loader.apply(key);
+        if (value == null) {
+            return null;
+        }
+
+        // A change or invalidation bumps the generation before touching the entry, so
+        // either it is seen here or it runs after the install and removes it
+        Entry<V> loaded = new Entry<>(value, loadedVersion);
+        Entry<V> installed = cache.asMap().compute(key, (k, current) ->
+            current != null || generations.get(stripe) != generation ? current : loaded
+        );
+        return installed != null ? installed.value() : value;
+    }
+
+    /**
+     * Replaces the entry with the result of {@code change} once the surrounding
+     * transaction commits, or right away outside one. Returning the same instance
+     * makes Caffeine re-weigh it; returning null drops it.
+     */
+    public void updateAfterCommit(K key, long version, UnaryOperator<V> change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(key, version, change);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(key, version, change);
+            }
+        });
+    }
+
+    /**
+     * Records a commit that left this cache's value unchanged, so the next change is
+     * not mistaken for one that skipped a commit.
+     */
+    public void advanceAfterCommit(K key, long version) {
+        updateAfterCommit(key, version, UnaryOperator.identity());
+    }
+
+    /**
+     * Drops the entry now, and again when the surrounding transaction completes, for
+     * changes too broad to apply one link at a time.
+     */
+    public void invalidate(K key) {
+        drop(key);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    drop(key);
+                }
+            });
+        }
+    }
+
+    public void invalidateAll() {
+        for (int stripe = 0; stripe < GENERATION_STRIPES; stripe++) {
+            generations.incrementAndGet(stripe);
+        }
+        cache.invalidateAll();
+    }
+
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, name);
+    }
+
+    // Only entries that already exist are changed; an absent one is built fresh later.
+    // The entry may already hold this version when it was loaded after the commit.
+    private void apply(K key, long version, UnaryOperator<V> change) {
+        generations.incrementAndGet(stripe(key));
+        cache.asMap().computeIfPresent(key, (k, entry) -> {
+            if (version < entry.version()) {
+                return entry;
+            }
+            if (version > entry.version() + 1) {
+                return null;
+            }
+            V changed = change.apply(entry.value());
+            return changed == null ? null : new Entry<>(changed, version);
+        });
+    }
+
+    private void drop(K key) {
+        generations.incrementAndGet(stripe(key));
+        cache.invalidate(key);
+    }
+
+    private static int stripe(Object key) {
+        return Math.floorMod(key.hashCode(), GENERATION_STRIPES);
+    }
+
+    private record Entry<V>(V value, long version) {}
+}
@@ -0,0 +1,114 @@
+package com.linkvault.util;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Reduces URLs that lead to the same page to one form, so saved copies can be
+ * recognised as duplicates. Scheme and host are lower-cased, default ports, dot
+ * segments, trailing slashes, fragments and tracking parameters are dropped, and
+ * the remaining query parameters are sorted by name. Anything that does not parse
+ * as a hierarchical URL is only trimmed.
+ */
+public final class UrlCanonicalizer {
+    public static final int HASH_LENGTH = 32;
+
+    private static final String TRACKING_PREFIX = "utm_";
+    private static final Set<String> TRACKING_PARAMETERS = Set.of(
+        "fbclid", "gclid", "dclid", "msclkid", "yclid", "igshid", "mc_cid", "mc_eid", "_ga", "_gl"
+    );
+
+    private UrlCanonicalizer() {}
+
+    public static String canonicalize(String url) {
+        String trimmed = url.trim();
+        URI uri;
+        try {
+            uri = new URI(trimmed).normalize();
+        } catch (URISyntaxException e) {
+            return trimmed;
+        }
+        if (uri.getScheme() == null || uri.getRawAuthority() == null) {
+            return trimmed;
+        }
+
+        String scheme = uri.getScheme().toLowerCase(Locale.ROOT);
+        StringBuilder canonical = new StringBuilder(trimmed.length()).append(scheme).append("://");
+        if (uri.getHost() == null) {
+            // Registry-based authority, such as a host with an underscore
+            canonical.append(uri.getRawAuthority().toLowerCase(Locale.ROOT));
+        } else {
+            if (uri.getRawUserInfo() != null) {
+                canonical.append(uri.getRawUserInfo()).append('@');
+            }
+            canonical.append(uri.getHost().toLowerCase(Locale.ROOT));
+            if (uri.getPort() != -1 && uri.getPort() != defaultPort(scheme)) {
+                canonical.append(':').append(uri.getPort());
+            }
+        }
+
+        String path = uri.getRawPath();
+        int end = path.length();
+        while (end > 0 && path.charAt(end - 1) == '/') {
+            end--;
+        }
+        canonical.append(end == 0 ? "/" : path.substring(0, end));
+
+        String query = canonicalQuery(uri.getRawQuery());
+        if (!query.isEmpty()) {
+            canonical.append('?').append(query);
+        }
+        return canonical.toString();
+    }
+
+    /**
+     * SHA-256 of the canonical form: fixed-width, so it can back a compact unique
+     * index where the URL itself, up to 255 characters, could not.
+     */
+    public static byte[] hash(String url) {
+        try {
+            return MessageDigest.getInstance("SHA-256")
+                .digest(canonicalize(url).getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to provide SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // Sorting is stable, so repeated parameters keep their relative order
+    private static String canonicalQuery(String query) {
+        if (query == null) {
+            return "";
+        }
+        return Arrays.stream(query.split("&"))
+            .filter(parameter -> !parameter.isEmpty() && !isTracking(name(parameter)))
+            .sorted(Comparator.comparing(UrlCanonicalizer::name))
+            .collect(Collectors.joining("&"));
+    }
+
+    private static String name(String parameter) {
+        int equals = parameter.indexOf('=');
+        return equals < 0 ? parameter : parameter.substring(0, equals);
+    }
+
+    private static boolean isTracking(String name) {
+        String lowerCase = name.toLowerCase(Locale.ROOT);
+        return lowerCase.startsWith(TRACKING_PREFIX) || TRACKING_PARAMETERS.contains(lowerCase);
+    }
+
+    private static int defaultPort(String scheme) {
+        return switch (scheme) {
+            case "http" -> 80;
+            case "https" -> 443;
+            default -> -1;
+        };
+    }
+}
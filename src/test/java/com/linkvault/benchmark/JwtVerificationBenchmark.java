@@ -0,0 +1,69 @@
+package com.linkvault.benchmark;
+
+import com.linkvault.model.Role;
+import com.linkvault.security.JwtUtils;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import javax.crypto.SecretKey;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the per-request cost of the old validate-then-extract flow, which built
+ * a parser and verified the signature twice, with the single-pass parseClaims call.
+ *
+ * Run with:
+ * mvn test-compile dependency:build-classpath -Dmdep.outputFile=cp.txt -Dmdep.includeScope=test
+ * java -cp target/test-classes:target/classes:$(cat cp.txt) org.openjdk.jmh.Main JwtVerification
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtVerificationBenchmark {
+    private static final String SECRET = "sxy8aEjMvcnPANTL/AuUGOGWUrZl4w2JeP+ztrVca24=";
+
+    private JwtUtils jwtUtils;
+    private SecretKey key;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtils = new JwtUtils(SECRET, 1000L * 60 * 60);
+        key = Keys.hmacShaKeyFor(Base64.getDecoder().decode(SECRET));
+        token = jwtUtils.generateToken(1L, "benchmarkUser", Role.USER, "benchmark-session");
+    }
+
+    @Benchmark
+    public String legacyValidateThenExtract() {
+        Jwts.parser().verifyWith(key).build().parseSignedClaims(token);
+
+        return Jwts.parser().verifyWith(key).build()
+            .parseSignedClaims(token)
+            .getPayload()
+            .getSubject();
+    }
+
+    @Benchmark
+    public String singlePassParseClaims() {
+        Claims claims = jwtUtils.parseClaims(token);
+        return claims.getSubject();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+            .include(JwtVerificationBenchmark.class.getSimpleName())
+            .build();
+
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,119 @@
+package com.linkvault.benchmark;
+
+import com.linkvault.LinkvaultApiApplication;
+import com.linkvault.dto.LinkRequest;
+import com.linkvault.dto.LinkResponse;
+import com.linkvault.mapper.LinkMapper;
+import com.linkvault.model.Link;
+import com.linkvault.model.Role;
+import com.linkvault.model.User;
+import com.linkvault.repository.LinkRepository;
+import com.linkvault.repository.UserRepository;
+import com.linkvault.service.LinkService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Compares the old list read, which loads managed Link entities and maps them, with
+ * the constructor projection and with a single {@code LinkService.getLinksPage} covering
+ * every link, which is sliced from the per-user cache once warm. All run in a read-only
+ * transaction against the in-memory database.
+ *
+ * Add {@code -prof gc} to see allocation per operation alongside the timings.
+ *
+ * Run with:
+ * mvn test-compile dependency:build-classpath -Dmdep.outputFile=cp.txt -Dmdep.includeScope=test
+ * java -cp target/test-classes:target/classes:$(cat cp.txt) org.openjdk.jmh.Main LinkRead -prof gc
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LinkReadBenchmark {
+    @Param({"50", "1000"})
+    public int linkCount;
+
+    private ConfigurableApplicationContext context;
+    private EntityManager entityManager;
+    private LinkRepository linkRepository;
+    private LinkService linkService;
+    private TransactionTemplate readOnlyTransaction;
+    private Long userId;
+
+    @Setup(Level.Trial)
+    public void startContext() {
+        context = new SpringApplicationBuilder(LinkvaultApiApplication.class)
+            .run(
+                "--spring.profiles.active=test",
+                "--spring.main.web-application-type=none",
+                "--logging.level.root=WARN",
+                "--logging.level.com.linkvault=WARN"
+            );
+
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(context.getBean(EntityManagerFactory.class));
+        linkRepository = context.getBean(LinkRepository.class);
+        linkService = context.getBean(LinkService.class);
+        readOnlyTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnlyTransaction.setReadOnly(true);
+
+        User user = new User("benchmarkUser", "unused");
+        user.setRole(Role.USER);
+        userId = context.getBean(UserRepository.class).save(user).getId();
+
+        List<LinkRequest> links = IntStream.range(0, linkCount)
+            .mapToObj(i -> new LinkRequest("https://example.com/" + i, "Link " + i, "Benchmark link " + i))
+            .toList();
+        linkService.createLinks(userId, links);
+    }
+
+    @TearDown(Level.Trial)
+    public void stopContext() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<LinkResponse> entityRead() {
+        return readOnlyTransaction.execute(status ->
+            entityManager.createQuery("select l from Link l where l.user.id = :userId", Link.class)
+                .setParameter("userId", userId)
+                .getResultStream()
+                .map(LinkMapper::toResponse)
+                .toList()
+        );
+    }
+
+    @Benchmark
+    public List<LinkResponse> projectionRead() {
+        return readOnlyTransaction.execute(status -> linkRepository.findResponsesByUserId(userId));
+    }
+
+    @Benchmark
+    public List<LinkResponse> cachedRead() {
+        return linkService.getLinksPage(userId, null, linkCount).items();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+            .include(LinkReadBenchmark.class.getSimpleName())
+            .addProfiler("gc")
+            .build();
+
+        new Runner(options).run();
+    }
+}
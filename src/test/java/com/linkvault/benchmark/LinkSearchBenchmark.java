@@ -0,0 +1,100 @@
+package com.linkvault.benchmark;
+
+import com.linkvault.dto.LinkResponse;
+import com.linkvault.search.InvertedIndex;
+import com.linkvault.search.SearchHit;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Query latency of the in-memory search index for one large account, against a
+ * synthetic vocabulary with a skewed word distribution so common terms have long
+ * posting lists.
+ *
+ * Run with:
+ * mvn test-compile dependency:build-classpath -Dmdep.outputFile=cp.txt -Dmdep.includeScope=test
+ * java -cp target/test-classes:target/classes:$(cat cp.txt) org.openjdk.jmh.Main LinkSearch
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LinkSearchBenchmark {
+    private static final int VOCABULARY_SIZE = 5_000;
+
+    @Param({"50000"})
+    private int links;
+
+    private InvertedIndex index;
+    private List<LinkResponse> documents;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        documents = new ArrayList<>(links);
+        for (long id = 1; id <= links; id++) {
+            documents.add(new LinkResponse(
+                id,
+                "https://" + word(random) + ".com/" + word(random) + "/" + word(random),
+                words(random, 5),
+                words(random, 20),
+                1L
+            ));
+        }
+        index = InvertedIndex.of(documents);
+    }
+
+    @Benchmark
+    public List<SearchHit> rareTerm() {
+        return index.search("w4711", 20);
+    }
+
+    @Benchmark
+    public List<SearchHit> commonTerms() {
+        return index.search("w1 w2 w3", 20);
+    }
+
+    @Benchmark
+    public List<SearchHit> mixedTerms() {
+        return index.search("w7 w250 w3000", 20);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public InvertedIndex build() {
+        return InvertedIndex.of(documents);
+    }
+
+    // Squaring a uniform draw skews the picks towards low word numbers
+    private static String word(SplittableRandom random) {
+        double u = random.nextDouble();
+        return "w" + (int) (u * u * VOCABULARY_SIZE);
+    }
+
+    private static String words(SplittableRandom random, int count) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            text.append(word(random)).append(' ');
+        }
+        return text.toString();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+            .include(LinkSearchBenchmark.class.getSimpleName())
+            .build();
+
+        new Runner(options).run();
+    }
+}
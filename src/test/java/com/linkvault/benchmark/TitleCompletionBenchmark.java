@@ -0,0 +1,86 @@
+package com.linkvault.benchmark;
+
+import com.linkvault.dto.LinkTitleCompletion;
+import com.linkvault.search.TitleCompletions;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keystroke latency of title autocomplete for one large account, and the cost of
+ * the copy-on-write update a single saved link triggers.
+ *
+ * Run with:
+ * mvn test-compile dependency:build-classpath -Dmdep.outputFile=cp.txt -Dmdep.includeScope=test
+ * java -cp target/test-classes:target/classes:$(cat cp.txt) org.openjdk.jmh.Main TitleCompletion
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TitleCompletionBenchmark {
+    private static final String LETTERS = "abcdefghijklmnopqrstuvwxyz";
+
+    @Param({"50000"})
+    private int links;
+
+    private TitleCompletions completions;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        List<LinkTitleCompletion> titles = new ArrayList<>(links);
+        for (long id = 1; id <= links; id++) {
+            titles.add(new LinkTitleCompletion(id, word(random) + " " + word(random) + " " + word(random)));
+        }
+        completions = TitleCompletions.of(titles);
+    }
+
+    // One letter matches the most titles, the worst case for the scan
+    @Benchmark
+    public List<LinkTitleCompletion> oneLetter() {
+        return completions.complete("s", 10);
+    }
+
+    @Benchmark
+    public List<LinkTitleCompletion> threeLetters() {
+        return completions.complete("sta", 10);
+    }
+
+    @Benchmark
+    public List<LinkTitleCompletion> twoWords() {
+        return completions.complete("stack ov", 10);
+    }
+
+    @Benchmark
+    public TitleCompletions saveOneLink() {
+        return completions.with(List.of(new LinkTitleCompletion(1L, "Stack Overflow")), Set.of());
+    }
+
+    private static String word(SplittableRandom random) {
+        StringBuilder word = new StringBuilder();
+        int length = 3 + random.nextInt(8);
+        for (int i = 0; i < length; i++) {
+            word.append(LETTERS.charAt(random.nextInt(LETTERS.length())));
+        }
+        return word.toString();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+            .include(TitleCompletionBenchmark.class.getSimpleName())
+            .build();
+
+        new Runner(options).run();
+    }
+}
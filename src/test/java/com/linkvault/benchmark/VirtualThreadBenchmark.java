@@ -0,0 +1,118 @@
+package com.linkvault.benchmark;
+
+import com.linkvault.LinkvaultApiApplication;
+import com.linkvault.model.Role;
+import com.linkvault.repository.LinkRepository;
+import com.linkvault.security.JwtUtils;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.web.servlet.function.RouterFunction;
+import org.springframework.web.servlet.function.RouterFunctions;
+import org.springframework.web.servlet.function.ServerResponse;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Drives the full servlet stack with many concurrent clients whose requests block,
+ * once on Tomcat's platform thread pool and once with the "virtual" profile.
+ *
+ * Each request authenticates with a JWT and then spends {@code backendMillis} in a
+ * simulated slow call followed by a real JDBC query through Hikari. With 400 clients
+ * and Tomcat's default 200 platform threads, the platform run queues requests while
+ * the virtual run does not. Throughput mode reports requests per millisecond, and
+ * SampleTime mode reports p99 latency.
+ *
+ * Run with:
+ * mvn test-compile dependency:build-classpath -Dmdep.outputFile=cp.txt -Dmdep.includeScope=test
+ * java -cp target/test-classes:target/classes:$(cat cp.txt) org.openjdk.jmh.Main VirtualThread
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Threads(400)
+@Fork(1)
+public class VirtualThreadBenchmark {
+    private static final String SLOW_PATH = "/benchmark/slow-links";
+
+    @Param({"false", "true"})
+    public boolean virtualThreads;
+
+    @Param({"50"})
+    public long backendMillis;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private HttpRequest request;
+
+    @Setup(Level.Trial)
+    public void startServer() {
+        context = new SpringApplicationBuilder(LinkvaultApiApplication.class)
+            // Registered programmatically so component scanning in tests never sees it.
+            .initializers(ctx -> ((GenericApplicationContext) ctx).registerBean(
+                "slowLinksRoute",
+                RouterFunction.class,
+                () -> slowLinksRoute(ctx)
+            ))
+            .run(
+                "--spring.profiles.active=" + (virtualThreads ? "test,virtual" : "test"),
+                "--server.port=0",
+                "--logging.level.root=WARN",
+                "--logging.level.com.linkvault=WARN"
+            );
+
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        String token = context.getBean(JwtUtils.class)
+            .generateToken(1L, "benchmarkUser", Role.USER, "benchmark-session");
+
+        client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+        request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + SLOW_PATH))
+            .header("Authorization", "Bearer " + token)
+            .timeout(Duration.ofSeconds(30))
+            .GET()
+            .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void stopServer() {
+        context.close();
+    }
+
+    @Benchmark
+    public int slowBlockingRequest() throws Exception {
+        return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private RouterFunction<ServerResponse> slowLinksRoute(ConfigurableApplicationContext ctx) {
+        return RouterFunctions.route()
+            .GET(SLOW_PATH, serverRequest -> {
+                Thread.sleep(backendMillis);
+                int links = ctx.getBean(LinkRepository.class).findResponsesByUserId(1L).size();
+                return ServerResponse.ok().body(String.valueOf(links));
+            })
+            .build();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+            .include(VirtualThreadBenchmark.class.getSimpleName())
+            .build();
+
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,148 @@
+package com.linkvault.integration.admin;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.linkvault.constants.apiPaths.AdminEndpoints;
+import com.linkvault.constants.apiPaths.AuthEndpoints;
+import com.linkvault.exception.UsernameAlreadyExistsException;
+import com.linkvault.model.Role;
+import com.linkvault.model.User;
+import com.linkvault.repository.LinkRepository;
+import com.linkvault.repository.UserRepository;
+import com.linkvault.security.UserDetailsCache;
+import com.linkvault.service.UserServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static com.linkvault.integration.util.AsyncRequestHelper.performAsync;
+import static com.linkvault.integration.util.SecondLevelCacheHelper.clearSecondLevelCache;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ActiveProfiles("test")
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource("classpath:application-test.properties")
+public class UserProvisioningIntegrationTest {
+    private static final String PASSWORD = "validPassword1@";
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private LinkRepository linkRepository;
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+    @Autowired
+    private UserServiceImpl userServiceImpl;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private UserDetailsCache userDetailsCache;
+
+    @BeforeEach
+    void setUp() {
+        clearSecondLevelCache(entityManagerFactory);
+        linkRepository.deleteAll();
+        userRepository.deleteAll();
+        userDetailsCache.evictAll();
+
+        saveUser("adminUser", Role.ADMIN);
+        saveUser("plainUser", Role.USER);
+    }
+
+    @Test
+    void shouldRejectDuplicateUsername_WithSingleInsert() {
+        // Arrange
+        userServiceImpl.registerUser("newUser", PASSWORD);
+
+        // Act & Assert
+        assertThrows(UsernameAlreadyExistsException.class, () ->
+            userServiceImpl.registerUser("newUser", PASSWORD));
+        assertEquals(3, userRepository.count());
+    }
+
+    @Test
+    void shouldProvisionUsersInBulk_WhenCallerIsAdmin() throws Exception {
+        // Arrange
+        String json = """
+            {
+                "users": [
+                    { "username": "bulkUser1", "password": "Password1@" },
+                    { "username": "bulkUser2", "password": "Password1@" },
+                    { "username": "plainUser", "password": "Password1@" }
+                ]
+            }
+            """;
+
+        // Act
+        mockMvc.perform(post(AdminEndpoints.BASE_ADMIN + AdminEndpoints.USERS_BULK)
+                .header("Authorization", "Bearer " + login("adminUser", PASSWORD))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json))
+            .andExpect(status().isCreated())
+            .andExpect(jsonPath("$.created").value(2))
+            .andExpect(jsonPath("$.skippedUsernames[0]").value("plainUser"));
+
+        // Assert
+        User provisioned = userRepository.findByUsername("bulkUser1").orElseThrow();
+        assertEquals(Role.USER, provisioned.getRole());
+        assertTrue(passwordEncoder.matches("Password1@", provisioned.getPassword()));
+        assertNotNull(login("bulkUser2", "Password1@"));
+    }
+
+    @Test
+    void shouldReturn403_WhenCallerIsNotAdmin() throws Exception {
+        String json = """
+            {
+                "users": [
+                    { "username": "bulkUser1", "password": "Password1@" }
+                ]
+            }
+            """;
+
+        mockMvc.perform(post(AdminEndpoints.BASE_ADMIN + AdminEndpoints.USERS_BULK)
+                .header("Authorization", "Bearer " + login("plainUser", PASSWORD))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json))
+            .andExpect(status().isForbidden());
+
+        assertTrue(userRepository.findByUsername("bulkUser1").isEmpty());
+    }
+
+    private void saveUser(String username, Role role) {
+        User user = new User(username, passwordEncoder.encode(PASSWORD));
+        user.setRole(role);
+        userRepository.save(user);
+    }
+
+    private String login(String username, String password) throws Exception {
+        String json = String.format("""
+            {
+                "username": "%s",
+                "password": "%s"
+            }
+            """, username, password);
+
+        MvcResult result = performAsync(mockMvc, post(AuthEndpoints.BASE_AUTH + AuthEndpoints.LOGIN)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json))
+            .andExpect(status().isOk())
+            .andReturn();
+
+        JsonNode jsonNode = new ObjectMapper().readTree(result.getResponse().getContentAsString());
+        return jsonNode.get("token").asText();
+    }
+}
@@ -9,9 +9,11 @@ import com.linkvault.integration.util.JwtTestTokenFactory;
 import com.linkvault.model.Role;
 import com.linkvault.model.User;
 import com.linkvault.repository.UserRepository;
+import com.linkvault.security.UserDetailsCache;
 import com.linkvault.service.UserServiceImpl;
 import com.linkvault.unit.util.TestConstants;
 import io.jsonwebtoken.security.Keys;
+import jakarta.persistence.EntityManagerFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -19,6 +21,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.TestPropertySource;
@@ -30,6 +33,10 @@ import javax.crypto.SecretKey;
 
 import java.util.Date;
 
+import static com.linkvault.integration.util.AsyncRequestHelper.performAsync;
+import static com.linkvault.integration.util.SecondLevelCacheHelper.clearSecondLevelCache;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -55,10 +62,16 @@ public class AuthIntegrationTest {
     private UserRepository userRepository;
     @Autowired
     private PasswordEncoder passwordEncoder;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private UserDetailsCache userDetailsCache;
 
     @BeforeEach
     void setUp() {
+        clearSecondLevelCache(entityManagerFactory);
         userRepository.deleteAll();
+        userDetailsCache.evictAll();
 
         User testUser = new User();
         testUser.setUsername(username);
@@ -79,7 +92,7 @@ public class AuthIntegrationTest {
             """, username, rawPassword);
 
         // Assert
-        MvcResult result = mockMvc.perform(post(AuthEndpoints.BASE_AUTH + AuthEndpoints.LOGIN)
+        MvcResult result = performAsync(mockMvc, post(AuthEndpoints.BASE_AUTH + AuthEndpoints.LOGIN)
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(json))
             .andExpect(status().isOk())
@@ -97,6 +110,83 @@ public class AuthIntegrationTest {
             .andExpect(content().string(String.format("Hello %s! You are authenticated.", username)));
     }
 
+    @Test
+    void shouldUpgradeLegacyPasswordHash_WhenUserLogsIn() throws Exception {
+        // Arrange
+        User legacyUser = userRepository.findByUsername(username).orElseThrow();
+        legacyUser.setPassword(new BCryptPasswordEncoder(4).encode(rawPassword));
+        userRepository.save(legacyUser);
+
+        String json = String.format("""
+            {
+                "username": "%s",
+                "password": "%s"
+            }
+            """, username, rawPassword);
+
+        // Act
+        performAsync(mockMvc, post(AuthEndpoints.BASE_AUTH + AuthEndpoints.LOGIN)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json))
+            .andExpect(status().isOk());
+
+        // Assert
+        String storedHash = userRepository.findByUsername(username).orElseThrow().getPassword();
+        assertTrue(storedHash.startsWith("{bcrypt}"));
+        assertTrue(passwordEncoder.matches(rawPassword, storedHash));
+    }
+
+    @Test
+    void shouldRotateRefreshToken_AndRejectReuse() throws Exception {
+        // Arrange
+        JsonNode tokens = login();
+        String refreshToken = tokens.get("refreshToken").asText();
+
+        // Act
+        MvcResult result = mockMvc.perform(post(AuthEndpoints.BASE_AUTH + AuthEndpoints.REFRESH)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(refreshBody(refreshToken)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.token").isNotEmpty())
+            .andReturn();
+        JsonNode rotated = new ObjectMapper().readTree(result.getResponse().getContentAsString());
+
+        // Assert
+        assertNotEquals(refreshToken, rotated.get("refreshToken").asText());
+
+        mockMvc.perform(post(AuthEndpoints.BASE_AUTH + AuthEndpoints.REFRESH)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(refreshBody(refreshToken)))
+            .andExpect(status().isUnauthorized());
+
+        // Reusing the old token revoked the whole session, including the new pair
+        mockMvc.perform(get(TestConstants.SECURE_TEST_ENDPOINT)
+                .header(TestConstants.AUTHORIZATION, TestConstants.BEARER + rotated.get("token").asText()))
+            .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void shouldRejectAccessToken_AfterLogout() throws Exception {
+        // Arrange
+        JsonNode tokens = login();
+        String accessToken = tokens.get("token").asText();
+
+        mockMvc.perform(get(TestConstants.SECURE_TEST_ENDPOINT)
+                .header(TestConstants.AUTHORIZATION, TestConstants.BEARER + accessToken))
+            .andExpect(status().isOk());
+
+        // Act
+        mockMvc.perform(post(AuthEndpoints.BASE_AUTH + AuthEndpoints.LOGOUT)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(refreshBody(tokens.get("refreshToken").asText())))
+            .andExpect(status().isNoContent());
+
+        // Assert
+        mockMvc.perform(get(TestConstants.SECURE_TEST_ENDPOINT)
+                .header(TestConstants.AUTHORIZATION, TestConstants.BEARER + accessToken))
+            .andExpect(status().isUnauthorized());
+    }
+
     @Test
     void shouldReturn401_WhenNoTokenProvided() throws Exception {
         mockMvc.perform(get(TestConstants.SECURE_TEST_ENDPOINT))
@@ -145,7 +235,7 @@ public class AuthIntegrationTest {
         doNothing().when(userServiceImpl).registerUser(username, rawPassword);
 
         // Assert
-        mockMvc.perform(post(AuthEndpoints.BASE_AUTH + AuthEndpoints.REGISTER)
+        performAsync(mockMvc, post(AuthEndpoints.BASE_AUTH + AuthEndpoints.REGISTER)
             .contentType(MediaType.APPLICATION_JSON)
             .content(json))
             .andExpect(status().isOk())
@@ -166,7 +256,7 @@ public class AuthIntegrationTest {
             .when(userServiceImpl).registerUser(username, rawPassword);
 
         // Assert
-        mockMvc.perform(post(AuthEndpoints.BASE_AUTH + AuthEndpoints.REGISTER)
+        performAsync(mockMvc, post(AuthEndpoints.BASE_AUTH + AuthEndpoints.REGISTER)
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(json))
             .andExpect(status().isConflict())
@@ -205,9 +295,34 @@ public class AuthIntegrationTest {
         ).when(userServiceImpl).registerUser(username, rawPassword);
 
         // Assert
-        mockMvc.perform(post(AuthEndpoints.BASE_AUTH + AuthEndpoints.REGISTER)
+        performAsync(mockMvc, post(AuthEndpoints.BASE_AUTH + AuthEndpoints.REGISTER)
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(json))
             .andExpect(status().isInternalServerError());
     }
+
+    private JsonNode login() throws Exception {
+        String json = String.format("""
+            {
+                "username": "%s",
+                "password": "%s"
+            }
+            """, username, rawPassword);
+
+        MvcResult result = performAsync(mockMvc, post(AuthEndpoints.BASE_AUTH + AuthEndpoints.LOGIN)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json))
+            .andExpect(status().isOk())
+            .andReturn();
+
+        return new ObjectMapper().readTree(result.getResponse().getContentAsString());
+    }
+
+    private static String refreshBody(String refreshToken) {
+        return String.format("""
+            {
+                "refreshToken": "%s"
+            }
+            """, refreshToken);
+    }
 }
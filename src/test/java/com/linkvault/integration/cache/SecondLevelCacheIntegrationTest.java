@@ -0,0 +1,118 @@
+package com.linkvault.integration.cache;
+
+import com.linkvault.model.Link;
+import com.linkvault.model.User;
+import com.linkvault.repository.LinkRepository;
+import com.linkvault.repository.UserRepository;
+import com.linkvault.security.UserDetailsCache;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static com.linkvault.integration.util.SecondLevelCacheHelper.clearSecondLevelCache;
+import static org.junit.jupiter.api.Assertions.*;
+
+@ActiveProfiles("test")
+@SpringBootTest
+@TestPropertySource("classpath:application-test.properties")
+public class SecondLevelCacheIntegrationTest {
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private LinkRepository linkRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private UserDetailsCache userDetailsCache;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private Statistics statistics;
+    private User user;
+    private Link link;
+
+    @BeforeEach
+    void setUp() {
+        clearSecondLevelCache(entityManagerFactory);
+        linkRepository.deleteAll();
+        userRepository.deleteAll();
+        userDetailsCache.evictAll();
+
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        user = userRepository.save(new User("cachedUser", "password"));
+        link = linkRepository.save(new Link("https://cached.com", "Cached", "Cached link", user));
+    }
+
+    @Test
+    void shouldServeRepeatedUserLookupById_WithoutSql() {
+        // Arrange
+        userRepository.findById(user.getId()).orElseThrow();
+        statistics.clear();
+
+        // Act
+        User cached = userRepository.findById(user.getId()).orElseThrow();
+
+        // Assert
+        assertEquals("cachedUser", cached.getUsername());
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getSecondLevelCacheHitCount());
+    }
+
+    @Test
+    void shouldServeRepeatedUsernameLookup_WithoutSql() {
+        // Arrange
+        userRepository.findByUsername("cachedUser").orElseThrow();
+        statistics.clear();
+
+        // Act
+        User first = userRepository.findByUsername("cachedUser").orElseThrow();
+        User second = userRepository.findByUsername("cachedUser").orElseThrow();
+
+        // Assert
+        assertEquals(user.getId(), first.getId());
+        assertEquals(user.getId(), second.getId());
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(2, statistics.getNaturalIdCacheHitCount());
+    }
+
+    @Test
+    void shouldNotCacheLinks_WhichAreReadAsProjections() {
+        // Arrange
+        linkRepository.findResponsesByUserId(user.getId());
+        linkRepository.findById(link.getId()).orElseThrow();
+
+        // Act
+        boolean cached = entityManagerFactory.getCache().contains(Link.class, link.getId());
+
+        // Assert
+        assertFalse(cached);
+    }
+
+    @Test
+    void shouldKeepUserCached_WhenLinksAreWrittenInBulk() {
+        // Arrange
+        userRepository.findById(user.getId()).orElseThrow();
+
+        // Act
+        transactionTemplate.executeWithoutResult(status ->
+            linkRepository.deleteByIdAndUserId(link.getId(), user.getId()));
+        statistics.clear();
+        User cached = userRepository.findById(user.getId()).orElseThrow();
+
+        // Assert
+        assertEquals("cachedUser", cached.getUsername());
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertTrue(linkRepository.findResponsesByUserId(user.getId()).isEmpty());
+    }
+}
@@ -4,25 +4,46 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.linkvault.constants.apiPaths.AuthEndpoints;
 import com.linkvault.constants.apiPaths.LinkEndpoints;
+import com.linkvault.exception.ExceptionMessages;
 import com.linkvault.integration.util.JwtTestTokenFactory;
 import com.linkvault.model.User;
 import com.linkvault.repository.LinkRepository;
 import com.linkvault.repository.UserRepository;
+import com.linkvault.search.LinkSearchIndexCache;
+import com.linkvault.search.TagIndexCache;
+import com.linkvault.search.TitleCompletionCache;
+import com.linkvault.security.UserDetailsCache;
+import com.linkvault.service.LinkListCache;
 import com.linkvault.unit.util.TestConstants;
 import com.linkvault.unit.util.TestDataFactory;
+import jakarta.persistence.EntityManagerFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
-
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.List;
+import java.util.Map;
+
+import static com.linkvault.integration.util.AsyncRequestHelper.performAsync;
+import static com.linkvault.integration.util.SecondLevelCacheHelper.clearSecondLevelCache;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -40,6 +61,21 @@ public class LinkControllerIntegrationTest {
     @Autowired
     private LinkRepository linkRepository;
 
+    @Autowired
+    private LinkListCache linkListCache;
+
+    @Autowired
+    private LinkSearchIndexCache linkSearchIndexCache;
+    @Autowired
+    private TitleCompletionCache titleCompletionCache;
+    @Autowired
+    private TagIndexCache tagIndexCache;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private UserDetailsCache userDetailsCache;
+
     @Value("${jwt.secret}")
     private String jwtSecret;
 
@@ -47,8 +83,14 @@ public class LinkControllerIntegrationTest {
 
     @BeforeEach()
     void setUp() {
+        clearSecondLevelCache(entityManagerFactory);
         linkRepository.deleteAll();
         userRepository.deleteAll();
+        linkListCache.invalidateAll();
+        linkSearchIndexCache.invalidateAll();
+        titleCompletionCache.invalidateAll();
+        tagIndexCache.invalidateAll();
+        userDetailsCache.evictAll();
     }
 
     @Test
@@ -62,12 +104,12 @@ public class LinkControllerIntegrationTest {
             """;
 
         // Act & Assert
-        mockMvc.perform(post(AuthEndpoints.BASE_AUTH + AuthEndpoints.REGISTER)
+        performAsync(mockMvc, post(AuthEndpoints.BASE_AUTH + AuthEndpoints.REGISTER)
             .contentType(MediaType.APPLICATION_JSON)
             .content(json))
             .andExpect(status().isOk());
 
-        MvcResult result = mockMvc.perform(post(AuthEndpoints.BASE_AUTH + AuthEndpoints.LOGIN)
+        MvcResult result = performAsync(mockMvc, post(AuthEndpoints.BASE_AUTH + AuthEndpoints.LOGIN)
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(json))
             .andExpect(status().isOk())
@@ -127,10 +169,173 @@ public class LinkControllerIntegrationTest {
         mockMvc.perform(get(LinkEndpoints.BASE_LINKS)
             .header(TestConstants.AUTHORIZATION, TestConstants.BEARER + token))
             .andExpect(status().isOk())
-            .andExpect(jsonPath("$[0].url").value(linkUrlOne))
-            .andExpect(jsonPath("$[0].title").value(linkTitleOne))
-            .andExpect(jsonPath("$[1].url").value(linkUrlTwo))
-            .andExpect(jsonPath("$[1].title").value(linkTitleTwo));
+            .andExpect(jsonPath("$.items[0].url").value(linkUrlOne))
+            .andExpect(jsonPath("$.items[0].title").value(linkTitleOne))
+            .andExpect(jsonPath("$.items[1].url").value(linkUrlTwo))
+            .andExpect(jsonPath("$.items[1].title").value(linkTitleTwo));
+    }
+
+    @Test
+    void shouldPageThroughLinksWithCursor() throws Exception {
+        // Arrange
+        String json = """
+            {
+                "username": "validUsername",
+                "password": "validPassword1@"
+            }
+            """;
+
+        performAsync(mockMvc, post(AuthEndpoints.BASE_AUTH + AuthEndpoints.REGISTER)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json))
+            .andExpect(status().isOk());
+
+        MvcResult loginResult = performAsync(mockMvc, post(AuthEndpoints.BASE_AUTH + AuthEndpoints.LOGIN)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json))
+            .andExpect(status().isOk())
+            .andReturn();
+        String token = mapper.readTree(loginResult.getResponse().getContentAsString()).get("token").asText();
+
+        for (int i = 1; i <= 3; i++) {
+            mockMvc.perform(post(LinkEndpoints.BASE_LINKS)
+                    .header(TestConstants.AUTHORIZATION, TestConstants.BEARER + token)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(String.format("""
+                        {
+                            "url": "https://example.com/%d",
+                            "title": "Link %d",
+                            "description": "Page test"
+                        }
+                        """, i, i)))
+                .andExpect(status().isCreated());
+        }
+
+        // Act
+        MvcResult firstPage = mockMvc.perform(get(LinkEndpoints.BASE_LINKS)
+                .header(TestConstants.AUTHORIZATION, TestConstants.BEARER + token)
+                .param("limit", "2"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.items.length()").value(2))
+            .andExpect(jsonPath("$.items[0].title").value("Link 1"))
+            .andExpect(jsonPath("$.items[1].title").value("Link 2"))
+            .andExpect(jsonPath("$.next").isNotEmpty())
+            .andReturn();
+        String next = mapper.readTree(firstPage.getResponse().getContentAsString()).get("next").asText();
+
+        // Assert
+        mockMvc.perform(get(LinkEndpoints.BASE_LINKS)
+                .header(TestConstants.AUTHORIZATION, TestConstants.BEARER + token)
+                .param("limit", "2")
+                .param("cursor", next))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.items.length()").value(1))
+            .andExpect(jsonPath("$.items[0].title").value("Link 3"))
+            .andExpect(jsonPath("$.next").doesNotExist());
+
+        mockMvc.perform(get(LinkEndpoints.BASE_LINKS)
+                .header(TestConstants.AUTHORIZATION, TestConstants.BEARER + token)
+                .param("cursor", "garbage"))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void shouldExportAllLinksAsNdjson() throws Exception {
+        // Arrange
+        String json = """
+            {
+                "username": "validUsername",
+                "password": "validPassword1@"
+            }
+            """;
+
+        performAsync(mockMvc, post(AuthEndpoints.BASE_AUTH + AuthEndpoints.REGISTER)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json))
+            .andExpect(status().isOk());
+
+        MvcResult loginResult = performAsync(mockMvc, post(AuthEndpoints.BASE_AUTH + AuthEndpoints.LOGIN)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json))
+            .andExpect(status().isOk())
+            .andReturn();
+        String token = mapper.readTree(loginResult.getResponse().getContentAsString()).get("token").asText();
+
+        for (int i = 1; i <= 3; i++) {
+            mockMvc.perform(post(LinkEndpoints.BASE_LINKS)
+                    .header(TestConstants.AUTHORIZATION, TestConstants.BEARER + token)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(String.format("""
+                        {
+                            "url": "https://example.com/%d",
+                            "title": "Link %d",
+                            "description": "Export test"
+                        }
+                        """, i, i)))
+                .andExpect(status().isCreated());
+        }
+
+        // Act
+        MvcResult result = performAsync(mockMvc, get(LinkEndpoints.BASE_LINKS + LinkEndpoints.EXPORT)
+                .header(TestConstants.AUTHORIZATION, TestConstants.BEARER + token))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+            .andReturn();
+
+        // Assert
+        String[] lines = result.getResponse().getContentAsString().split("\n");
+        assertEquals(3, lines.length);
+        for (int i = 0; i < lines.length; i++) {
+            assertEquals("Link " + (i + 1), mapper.readTree(lines[i]).get("title").asText());
+        }
+    }
+
+    @Test
+    void shouldBulkCreateLinks_AndReportRejectedItems() throws Exception {
+        // Arrange
+        String json = """
+            {
+                "username": "validUsername",
+                "password": "validPassword1@"
+            }
+            """;
+
+        performAsync(mockMvc, post(AuthEndpoints.BASE_AUTH + AuthEndpoints.REGISTER)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json))
+            .andExpect(status().isOk());
+
+        MvcResult loginResult = performAsync(mockMvc, post(AuthEndpoints.BASE_AUTH + AuthEndpoints.LOGIN)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json))
+            .andExpect(status().isOk())
+            .andReturn();
+        String token = mapper.readTree(loginResult.getResponse().getContentAsString()).get("token").asText();
+
+        // Enough links to span several JDBC batches, with every 40th one invalid
+        StringBuilder links = new StringBuilder();
+        for (int i = 0; i < 160; i++) {
+            String url = i % 40 == 39 ? "not-a-url" : "https://example.com/" + i;
+            links.append(i == 0 ? "" : ",")
+                .append(String.format("""
+                    {"url": "%s", "title": "Link %d", "description": "Bulk test"}
+                    """, url, i));
+        }
+
+        // Act
+        mockMvc.perform(post(LinkEndpoints.BASE_LINKS + LinkEndpoints.BULK)
+                .header(TestConstants.AUTHORIZATION, TestConstants.BEARER + token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"links\": [" + links + "]}"))
+            .andExpect(status().isMultiStatus())
+            .andExpect(jsonPath("$.created.length()").value(156))
+            .andExpect(jsonPath("$.created[0].title").value("Link 0"))
+            .andExpect(jsonPath("$.rejected.length()").value(4))
+            .andExpect(jsonPath("$.rejected[0].index").value(39))
+            .andExpect(jsonPath("$.rejected[3].index").value(159));
+
+        // Assert
+        assertEquals(156, linkRepository.count());
     }
 
     @Test
@@ -144,12 +349,12 @@ public class LinkControllerIntegrationTest {
             """;
 
         // Act & Assert
-        mockMvc.perform(post(AuthEndpoints.BASE_AUTH + AuthEndpoints.REGISTER)
+        performAsync(mockMvc, post(AuthEndpoints.BASE_AUTH + AuthEndpoints.REGISTER)
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(jsonForUserA))
             .andExpect(status().isOk());
 
-        MvcResult result = mockMvc.perform(post(AuthEndpoints.BASE_AUTH + AuthEndpoints.LOGIN)
+        MvcResult result = performAsync(mockMvc, post(AuthEndpoints.BASE_AUTH + AuthEndpoints.LOGIN)
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(jsonForUserA))
             .andExpect(status().isOk())
@@ -163,7 +368,7 @@ public class LinkControllerIntegrationTest {
         mockMvc.perform(get(LinkEndpoints.BASE_LINKS)
                 .header(TestConstants.AUTHORIZATION, TestConstants.BEARER + userAToken))
             .andExpect(status().isOk())
-            .andExpect(jsonPath("$.length()").value(0));
+            .andExpect(jsonPath("$.items.length()").value(0));
     }
 
     @Test
@@ -190,12 +395,12 @@ public class LinkControllerIntegrationTest {
             """;
 
         // Act & Assert
-        mockMvc.perform(post(AuthEndpoints.BASE_AUTH + AuthEndpoints.REGISTER)
+        performAsync(mockMvc, post(AuthEndpoints.BASE_AUTH + AuthEndpoints.REGISTER)
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(json))
             .andExpect(status().isOk());
 
-        MvcResult result = mockMvc.perform(post(AuthEndpoints.BASE_AUTH + AuthEndpoints.LOGIN)
+        MvcResult result = performAsync(mockMvc, post(AuthEndpoints.BASE_AUTH + AuthEndpoints.LOGIN)
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(json))
             .andExpect(status().isOk())
@@ -258,17 +463,17 @@ public class LinkControllerIntegrationTest {
             """;
 
         // Act & Assert
-        mockMvc.perform(post(AuthEndpoints.BASE_AUTH + AuthEndpoints.REGISTER)
+        performAsync(mockMvc, post(AuthEndpoints.BASE_AUTH + AuthEndpoints.REGISTER)
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(jsonForUserA))
             .andExpect(status().isOk());
 
-        mockMvc.perform(post(AuthEndpoints.BASE_AUTH + AuthEndpoints.REGISTER)
+        performAsync(mockMvc, post(AuthEndpoints.BASE_AUTH + AuthEndpoints.REGISTER)
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(jsonForUserB))
             .andExpect(status().isOk());
 
-        MvcResult resultForUserB = mockMvc.perform(post(AuthEndpoints.BASE_AUTH + AuthEndpoints.LOGIN)
+        MvcResult resultForUserB = performAsync(mockMvc, post(AuthEndpoints.BASE_AUTH + AuthEndpoints.LOGIN)
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(jsonForUserB))
             .andExpect(status().isOk())
@@ -301,7 +506,7 @@ public class LinkControllerIntegrationTest {
         JsonNode linkResponseJsonNode = mapper.readTree(linkResponseBody);
         long linkId = linkResponseJsonNode.get("id").asLong();
 
-        MvcResult resultForUserA = mockMvc.perform(post(AuthEndpoints.BASE_AUTH + AuthEndpoints.LOGIN)
+        MvcResult resultForUserA = performAsync(mockMvc, post(AuthEndpoints.BASE_AUTH + AuthEndpoints.LOGIN)
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(jsonForUserA))
             .andExpect(status().isOk())
@@ -331,12 +536,12 @@ public class LinkControllerIntegrationTest {
             """;
 
         // Act & Assert
-        mockMvc.perform(post(AuthEndpoints.BASE_AUTH + AuthEndpoints.REGISTER)
+        performAsync(mockMvc, post(AuthEndpoints.BASE_AUTH + AuthEndpoints.REGISTER)
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(jsonForUserA))
             .andExpect(status().isOk());
 
-        MvcResult result = mockMvc.perform(post(AuthEndpoints.BASE_AUTH + AuthEndpoints.LOGIN)
+        MvcResult result = performAsync(mockMvc, post(AuthEndpoints.BASE_AUTH + AuthEndpoints.LOGIN)
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(jsonForUserA))
             .andExpect(status().isOk())
@@ -392,17 +597,17 @@ public class LinkControllerIntegrationTest {
             """;
 
         // Act & Assert
-        mockMvc.perform(post(AuthEndpoints.BASE_AUTH + AuthEndpoints.REGISTER)
+        performAsync(mockMvc, post(AuthEndpoints.BASE_AUTH + AuthEndpoints.REGISTER)
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(jsonForUserA))
             .andExpect(status().isOk());
 
-        mockMvc.perform(post(AuthEndpoints.BASE_AUTH + AuthEndpoints.REGISTER)
+        performAsync(mockMvc, post(AuthEndpoints.BASE_AUTH + AuthEndpoints.REGISTER)
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(jsonForUserB))
             .andExpect(status().isOk());
 
-        MvcResult resultForUserB = mockMvc.perform(post(AuthEndpoints.BASE_AUTH + AuthEndpoints.LOGIN)
+        MvcResult resultForUserB = performAsync(mockMvc, post(AuthEndpoints.BASE_AUTH + AuthEndpoints.LOGIN)
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(jsonForUserB))
             .andExpect(status().isOk())
@@ -435,7 +640,7 @@ public class LinkControllerIntegrationTest {
         JsonNode linkResponseJsonNode = mapper.readTree(linkResponseBody);
         long linkId = linkResponseJsonNode.get("id").asLong();
 
-        MvcResult resultForUserA = mockMvc.perform(post(AuthEndpoints.BASE_AUTH + AuthEndpoints.LOGIN)
+        MvcResult resultForUserA = performAsync(mockMvc, post(AuthEndpoints.BASE_AUTH + AuthEndpoints.LOGIN)
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(jsonForUserA))
             .andExpect(status().isOk())
@@ -474,7 +679,7 @@ public class LinkControllerIntegrationTest {
     }
 
     @Test
-    void shouldReturnNoContent_WhenUserTriesToDeleteEmptyLinkList() throws Exception {
+    void shouldReturnZeroDeleted_WhenUserTriesToDeleteEmptyLinkList() throws Exception {
         // Arrange
         String jsonForUserA = """
             {
@@ -484,12 +689,12 @@ public class LinkControllerIntegrationTest {
             """;
 
         // Act & Assert
-        mockMvc.perform(post(AuthEndpoints.BASE_AUTH + AuthEndpoints.REGISTER)
+        performAsync(mockMvc, post(AuthEndpoints.BASE_AUTH + AuthEndpoints.REGISTER)
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(jsonForUserA))
             .andExpect(status().isOk());
 
-        MvcResult result = mockMvc.perform(post(AuthEndpoints.BASE_AUTH + AuthEndpoints.LOGIN)
+        MvcResult result = performAsync(mockMvc, post(AuthEndpoints.BASE_AUTH + AuthEndpoints.LOGIN)
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(jsonForUserA))
             .andExpect(status().isOk())
@@ -502,7 +707,157 @@ public class LinkControllerIntegrationTest {
 
         mockMvc.perform(delete(LinkEndpoints.BASE_LINKS)
                 .header(TestConstants.AUTHORIZATION, TestConstants.BEARER + userAToken))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.deleted").value(0));
+    }
+
+    @Test
+    void shouldPatchWithIfMatch_AndRejectStaleVersion() throws Exception {
+        // Arrange
+        String token = registerAndLogin("validUsername1");
+        long linkId = createLink(token, "https://example.com/patch");
+        String linkPath = LinkEndpoints.BASE_LINKS + "/" + linkId;
+
+        String etag = mockMvc.perform(get(linkPath)
+                .header(TestConstants.AUTHORIZATION, TestConstants.BEARER + token))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // Act
+        String newEtag = mockMvc.perform(patch(linkPath)
+                .header(TestConstants.AUTHORIZATION, TestConstants.BEARER + token)
+                .header(HttpHeaders.IF_MATCH, etag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"title\": \"Patched title\"}"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.title").value("Patched title"))
+            .andExpect(jsonPath("$.url").value("https://example.com/patch"))
+            .andExpect(jsonPath("$.description").value("Description"))
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // Assert
+        assertNotEquals(etag, newEtag);
+
+        mockMvc.perform(patch(linkPath)
+                .header(TestConstants.AUTHORIZATION, TestConstants.BEARER + token)
+                .header(HttpHeaders.IF_MATCH, etag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"description\": \"Lost update\"}"))
+            .andExpect(status().isPreconditionFailed());
+
+        mockMvc.perform(get(linkPath)
+                .header(TestConstants.AUTHORIZATION, TestConstants.BEARER + token))
+            .andExpect(header().string(HttpHeaders.ETAG, newEtag))
+            .andExpect(jsonPath("$.description").value("Description"));
+    }
+
+    @Test
+    void shouldRevalidateLinkListAgainstCollectionVersion() throws Exception {
+        // Arrange
+        String token = registerAndLogin("validUsername1");
+        createLink(token, "https://example.com/1");
+
+        String etag = mockMvc.perform(get(LinkEndpoints.BASE_LINKS)
+                .header(TestConstants.AUTHORIZATION, TestConstants.BEARER + token))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // Act & Assert
+        mockMvc.perform(get(LinkEndpoints.BASE_LINKS)
+                .header(TestConstants.AUTHORIZATION, TestConstants.BEARER + token)
+                .header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isNotModified());
+
+        // Another user at the same collection version must not match the first one's tag
+        String otherToken = registerAndLogin("validUsername2");
+        createLink(otherToken, "https://example.com/other");
+        mockMvc.perform(get(LinkEndpoints.BASE_LINKS)
+                .header(TestConstants.AUTHORIZATION, TestConstants.BEARER + otherToken)
+                .header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.items[0].url").value("https://example.com/other"));
+
+        long secondId = createLink(token, "https://example.com/2");
+
+        String afterCreate = mockMvc.perform(get(LinkEndpoints.BASE_LINKS)
+                .header(TestConstants.AUTHORIZATION, TestConstants.BEARER + token)
+                .header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.items.length()").value(2))
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotEquals(etag, afterCreate);
+
+        mockMvc.perform(delete(LinkEndpoints.BASE_LINKS + "/" + secondId)
+                .header(TestConstants.AUTHORIZATION, TestConstants.BEARER + token))
             .andExpect(status().isNoContent());
+
+        mockMvc.perform(get(LinkEndpoints.BASE_LINKS)
+                .header(TestConstants.AUTHORIZATION, TestConstants.BEARER + token)
+                .header(HttpHeaders.IF_NONE_MATCH, afterCreate))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.items.length()").value(1));
+    }
+
+    @Test
+    void shouldRevalidateSingleLinkAgainstItsVersion() throws Exception {
+        // Arrange
+        String token = registerAndLogin("validUsername1");
+        long linkId = createLink(token, "https://example.com/1");
+        String linkPath = LinkEndpoints.BASE_LINKS + "/" + linkId;
+
+        String etag = mockMvc.perform(get(linkPath)
+                .header(TestConstants.AUTHORIZATION, TestConstants.BEARER + token))
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // Act & Assert
+        mockMvc.perform(get(linkPath)
+                .header(TestConstants.AUTHORIZATION, TestConstants.BEARER + token)
+                .header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isNotModified());
+
+        mockMvc.perform(patch(linkPath)
+                .header(TestConstants.AUTHORIZATION, TestConstants.BEARER + token)
+                .header(HttpHeaders.IF_MATCH, etag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"title\": \"Changed\"}"))
+            .andExpect(status().isOk());
+
+        mockMvc.perform(get(linkPath)
+                .header(TestConstants.AUTHORIZATION, TestConstants.BEARER + token)
+                .header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.title").value("Changed"));
+    }
+
+    @Test
+    void shouldBulkDeleteOnlyOwnedLinks() throws Exception {
+        // Arrange
+        String userAToken = registerAndLogin("validUsername1");
+        String userBToken = registerAndLogin("validUsername2");
+
+        long ownA1 = createLink(userAToken, "https://example.com/a1");
+        long ownA2 = createLink(userAToken, "https://example.com/a2");
+        long keptA = createLink(userAToken, "https://example.com/a3");
+        long otherB = createLink(userBToken, "https://example.com/b1");
+
+        // Act
+        mockMvc.perform(post(LinkEndpoints.BASE_LINKS + LinkEndpoints.BULK_DELETE)
+                .header(TestConstants.AUTHORIZATION, TestConstants.BEARER + userAToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(String.format("{\"ids\": [%d, %d, %d]}", ownA1, ownA2, otherB)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.deleted").value(2));
+
+        // Assert
+        assertEquals(2, linkRepository.count());
+        assertTrue(linkRepository.existsById(keptA));
+        assertTrue(linkRepository.existsById(otherB));
+
+        mockMvc.perform(delete(LinkEndpoints.BASE_LINKS)
+                .header(TestConstants.AUTHORIZATION, TestConstants.BEARER + userAToken))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.deleted").value(1));
+        assertEquals(1, linkRepository.count());
     }
 
     @Test
@@ -545,17 +900,17 @@ public class LinkControllerIntegrationTest {
             """;
 
         // Act & Assert
-        mockMvc.perform(post(AuthEndpoints.BASE_AUTH + AuthEndpoints.REGISTER)
+        performAsync(mockMvc, post(AuthEndpoints.BASE_AUTH + AuthEndpoints.REGISTER)
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(jsonForUserA))
             .andExpect(status().isOk());
 
-        mockMvc.perform(post(AuthEndpoints.BASE_AUTH + AuthEndpoints.REGISTER)
+        performAsync(mockMvc, post(AuthEndpoints.BASE_AUTH + AuthEndpoints.REGISTER)
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(jsonForUserB))
             .andExpect(status().isOk());
 
-        MvcResult resultForUserB = mockMvc.perform(post(AuthEndpoints.BASE_AUTH + AuthEndpoints.LOGIN)
+        MvcResult resultForUserB = performAsync(mockMvc, post(AuthEndpoints.BASE_AUTH + AuthEndpoints.LOGIN)
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(jsonForUserB))
             .andExpect(status().isOk())
@@ -596,7 +951,7 @@ public class LinkControllerIntegrationTest {
             }
             """;
 
-        MvcResult resultForUserA = mockMvc.perform(post(AuthEndpoints.BASE_AUTH + AuthEndpoints.LOGIN)
+        MvcResult resultForUserA = performAsync(mockMvc, post(AuthEndpoints.BASE_AUTH + AuthEndpoints.LOGIN)
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(jsonForUserA))
             .andExpect(status().isOk())
@@ -654,17 +1009,17 @@ public class LinkControllerIntegrationTest {
             """;
 
         // Act & Assert
-        mockMvc.perform(post(AuthEndpoints.BASE_AUTH + AuthEndpoints.REGISTER)
+        performAsync(mockMvc, post(AuthEndpoints.BASE_AUTH + AuthEndpoints.REGISTER)
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(jsonForUserA))
             .andExpect(status().isOk());
 
-        mockMvc.perform(post(AuthEndpoints.BASE_AUTH + AuthEndpoints.REGISTER)
+        performAsync(mockMvc, post(AuthEndpoints.BASE_AUTH + AuthEndpoints.REGISTER)
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(jsonForUserB))
             .andExpect(status().isOk());
 
-        MvcResult result = mockMvc.perform(post(AuthEndpoints.BASE_AUTH + AuthEndpoints.LOGIN)
+        MvcResult result = performAsync(mockMvc, post(AuthEndpoints.BASE_AUTH + AuthEndpoints.LOGIN)
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(jsonForUserA))
             .andExpect(status().isOk())
@@ -728,12 +1083,12 @@ public class LinkControllerIntegrationTest {
             """;
 
         // Act & Assert
-        mockMvc.perform(post(AuthEndpoints.BASE_AUTH + AuthEndpoints.REGISTER)
+        performAsync(mockMvc, post(AuthEndpoints.BASE_AUTH + AuthEndpoints.REGISTER)
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(jsonForUserA))
             .andExpect(status().isOk());
 
-        MvcResult result = mockMvc.perform(post(AuthEndpoints.BASE_AUTH + AuthEndpoints.LOGIN)
+        MvcResult result = performAsync(mockMvc, post(AuthEndpoints.BASE_AUTH + AuthEndpoints.LOGIN)
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(jsonForUserA))
             .andExpect(status().isOk())
@@ -773,12 +1128,12 @@ public class LinkControllerIntegrationTest {
             """;
 
         // Act & Assert
-        mockMvc.perform(post(AuthEndpoints.BASE_AUTH + AuthEndpoints.REGISTER)
+        performAsync(mockMvc, post(AuthEndpoints.BASE_AUTH + AuthEndpoints.REGISTER)
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(jsonForUserA))
             .andExpect(status().isOk());
 
-        MvcResult result = mockMvc.perform(post(AuthEndpoints.BASE_AUTH + AuthEndpoints.LOGIN)
+        MvcResult result = performAsync(mockMvc, post(AuthEndpoints.BASE_AUTH + AuthEndpoints.LOGIN)
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(jsonForUserA))
             .andExpect(status().isOk())
@@ -831,4 +1186,279 @@ public class LinkControllerIntegrationTest {
             .andExpect(jsonPath("$.url").value("https://updated.com"))
             .andExpect(jsonPath("$.title").value("Updated Title"));
     }
+
+    @Test
+    void shouldKeepSearchResultsInSync_WithCreatesUpdatesAndDeletes() throws Exception {
+        // Arrange
+        String token = registerAndLogin("searchUser");
+        String otherToken = registerAndLogin("otherSearchUser");
+        long kotlinId = createLink(token, "https://kotlinlang.org/docs");
+        long springId = createLink(token, "https://spring.io/guides");
+        createLink(otherToken, "https://kotlinlang.org/other");
+
+        // Act & Assert: only the caller's links are searched
+        search(token, "kotlinlang")
+            .andExpect(jsonPath("$", hasSize(1)))
+            .andExpect(jsonPath("$[0].link.id").value(kotlinId));
+
+        mockMvc.perform(put(LinkEndpoints.BASE_LINKS + "/" + springId)
+                .header(TestConstants.AUTHORIZATION, TestConstants.BEARER + token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    {
+                        "url": "https://spring.io/guides",
+                        "title": "Spring with Kotlinlang",
+                        "description": "Description"
+                    }
+                    """))
+            .andExpect(status().isOk());
+
+        search(token, "kotlinlang")
+            .andExpect(jsonPath("$", hasSize(2)))
+            .andExpect(jsonPath("$[0].link.id").value(springId));
+
+        mockMvc.perform(delete(LinkEndpoints.BASE_LINKS + "/" + springId)
+                .header(TestConstants.AUTHORIZATION, TestConstants.BEARER + token))
+            .andExpect(status().isNoContent());
+
+        search(token, "kotlinlang")
+            .andExpect(jsonPath("$", hasSize(1)))
+            .andExpect(jsonPath("$[0].link.id").value(kotlinId));
+    }
+
+    @Test
+    void shouldFindLinksDespiteTypos_AndKeepTrigramsInSyncWithWrites() throws Exception {
+        // Arrange
+        String token = registerAndLogin("fuzzyUser");
+        String otherToken = registerAndLogin("otherFuzzyUser");
+        long kotlinId = createLink(token, "https://kotlinlang.org/docs");
+        long springId = createLink(token, "https://spring.io/guides");
+        createLink(otherToken, "https://kotlinlang.org/other");
+
+        // Act & Assert: one dropped letter, and only the caller's links
+        fuzzySearch(token, "kotlnlang")
+            .andExpect(jsonPath("$", hasSize(1)))
+            .andExpect(jsonPath("$[0].link.id").value(kotlinId))
+            .andExpect(jsonPath("$[0].distance").value(1));
+
+        mockMvc.perform(put(LinkEndpoints.BASE_LINKS + "/" + springId)
+                .header(TestConstants.AUTHORIZATION, TestConstants.BEARER + token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    {
+                        "url": "https://spring.io/guides",
+                        "title": "Kubernetes in Action",
+                        "description": "Description"
+                    }
+                    """))
+            .andExpect(status().isOk());
+
+        fuzzySearch(token, "kubernets")
+            .andExpect(jsonPath("$", hasSize(1)))
+            .andExpect(jsonPath("$[0].link.id").value(springId));
+        fuzzySearch(token, "sprng")
+            .andExpect(jsonPath("$", hasSize(1)));
+
+        mockMvc.perform(delete(LinkEndpoints.BASE_LINKS + "/" + kotlinId)
+                .header(TestConstants.AUTHORIZATION, TestConstants.BEARER + token))
+            .andExpect(status().isNoContent());
+
+        fuzzySearch(token, "kotlnlang")
+            .andExpect(jsonPath("$", hasSize(0)));
+    }
+
+    @Test
+    void shouldCompleteTitles_AndReflectUpdatesAndDeletes() throws Exception {
+        // Arrange
+        String token = registerAndLogin("completeUser");
+        String otherToken = registerAndLogin("otherCompleteUser");
+        long firstId = createLink(token, "https://kotlinlang.org/docs");
+        long secondId = createLink(token, "https://spring.io/guides");
+        createLink(otherToken, "https://kotlinlang.org/other");
+
+        // Act & Assert: the shared "Title" matches once per link, only the caller's
+        complete(token, "tit")
+            .andExpect(jsonPath("$", hasSize(1)));
+
+        mockMvc.perform(put(LinkEndpoints.BASE_LINKS + "/" + secondId)
+                .header(TestConstants.AUTHORIZATION, TestConstants.BEARER + token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    {
+                        "url": "https://spring.io/guides",
+                        "title": "Spring Guides",
+                        "description": "Description"
+                    }
+                    """))
+            .andExpect(status().isOk());
+
+        complete(token, "gui")
+            .andExpect(jsonPath("$", hasSize(1)))
+            .andExpect(jsonPath("$[0].linkId").value(secondId))
+            .andExpect(jsonPath("$[0].title").value("Spring Guides"));
+
+        mockMvc.perform(delete(LinkEndpoints.BASE_LINKS + "/" + firstId)
+                .header(TestConstants.AUTHORIZATION, TestConstants.BEARER + token))
+            .andExpect(status().isNoContent());
+
+        complete(token, "tit")
+            .andExpect(jsonPath("$", hasSize(0)));
+    }
+
+    @Test
+    void shouldTagInBulk_AndFilterByTagExpressions() throws Exception {
+        // Arrange
+        String token = registerAndLogin("tagUser");
+        String otherToken = registerAndLogin("otherTagUser");
+        long first = createLink(token, "https://kotlinlang.org/docs");
+        long second = createLink(token, "https://spring.io/guides");
+        long third = createLink(token, "https://go.dev");
+        long foreign = createLink(otherToken, "https://kotlinlang.org/other");
+
+        // Act & Assert: the other user's link is skipped by the same statement
+        changeTags(token, "/tags/JVM", List.of(first, second, foreign))
+            .andExpect(jsonPath("$.tag").value("jvm"))
+            .andExpect(jsonPath("$.changed").value(2));
+        changeTags(token, "/tags/docs", List.of(first, third))
+            .andExpect(jsonPath("$.changed").value(2));
+
+        filterByTags(token, "jvm & !docs")
+            .andExpect(jsonPath("$.total").value(1))
+            .andExpect(jsonPath("$.links[0].id").value(second));
+        filterByTags(token, "jvm | docs")
+            .andExpect(jsonPath("$.total").value(3));
+
+        changeTags(token, "/tags/jvm/remove", List.of(first))
+            .andExpect(jsonPath("$.changed").value(1));
+        mockMvc.perform(delete(LinkEndpoints.BASE_LINKS + "/" + third)
+                .header(TestConstants.AUTHORIZATION, TestConstants.BEARER + token))
+            .andExpect(status().isNoContent());
+
+        filterByTags(token, "docs | jvm")
+            .andExpect(jsonPath("$.total").value(2))
+            .andExpect(jsonPath("$.links[*].id", contains((int) first, (int) second)));
+        filterByTags(otherToken, "jvm")
+            .andExpect(jsonPath("$.total").value(0));
+    }
+
+    @Test
+    void shouldRejectDuplicateUrls_OrReturnTheSavedLink() throws Exception {
+        // Arrange
+        String token = registerAndLogin("duplicateUser");
+        String otherToken = registerAndLogin("otherDuplicateUser");
+        long saved = createLink(token, "https://example.com/docs?b=2&a=1");
+        long other = createLink(token, "https://example.com/blog");
+
+        // Act & Assert: equivalent spellings of the same URL are one link per user
+        for (String variant : List.of(
+            "https://example.com/docs/?b=2&a=1",
+            "https://Example.COM:443/docs?a=1&b=2",
+            "https://example.com/docs?b=2&a=1&utm_source=feed#intro"
+        )) {
+            postLink(token, variant, false)
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.message").value(String.format(ExceptionMessages.DUPLICATE_LINK, variant)));
+        }
+        postLink(token, "https://example.com/docs/?b=2&a=1", true)
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.id").value(saved))
+            .andExpect(jsonPath("$.url").value("https://example.com/docs?b=2&a=1"));
+        createLink(otherToken, "https://example.com/docs?b=2&a=1");
+
+        mockMvc.perform(put(LinkEndpoints.BASE_LINKS + "/" + other)
+                .header(TestConstants.AUTHORIZATION, TestConstants.BEARER + token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    {"url": "https://EXAMPLE.com/docs?a=1&b=2", "title": "Title"}
+                    """))
+            .andExpect(status().isConflict());
+        mockMvc.perform(put(LinkEndpoints.BASE_LINKS + "/" + saved)
+                .header(TestConstants.AUTHORIZATION, TestConstants.BEARER + token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    {"url": "https://EXAMPLE.com/docs?a=1&b=2", "title": "Renamed"}
+                    """))
+            .andExpect(status().isOk());
+    }
+
+    private ResultActions postLink(String token, String url, boolean returnExisting) throws Exception {
+        return mockMvc.perform(post(LinkEndpoints.BASE_LINKS)
+                .header(TestConstants.AUTHORIZATION, TestConstants.BEARER + token)
+                .param("returnExisting", String.valueOf(returnExisting))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(mapper.writeValueAsString(Map.of("url", url, "title", "Title"))));
+    }
+
+    private ResultActions changeTags(String token, String path, List<Long> ids) throws Exception {
+        return mockMvc.perform(post(LinkEndpoints.BASE_LINKS + path)
+                .header(TestConstants.AUTHORIZATION, TestConstants.BEARER + token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(mapper.writeValueAsString(Map.of("ids", ids))))
+            .andExpect(status().isOk());
+    }
+
+    private ResultActions filterByTags(String token, String expression) throws Exception {
+        return mockMvc.perform(get(LinkEndpoints.BASE_LINKS + LinkEndpoints.TAGGED)
+                .header(TestConstants.AUTHORIZATION, TestConstants.BEARER + token)
+                .param("expr", expression))
+            .andExpect(status().isOk());
+    }
+
+    private ResultActions complete(String token, String prefix) throws Exception {
+        return mockMvc.perform(get(LinkEndpoints.BASE_LINKS + LinkEndpoints.COMPLETE_TITLES)
+                .header(TestConstants.AUTHORIZATION, TestConstants.BEARER + token)
+                .param("prefix", prefix))
+            .andExpect(status().isOk());
+    }
+
+    private ResultActions fuzzySearch(String token, String query) throws Exception {
+        return mockMvc.perform(get(LinkEndpoints.BASE_LINKS + LinkEndpoints.FUZZY_SEARCH)
+                .header(TestConstants.AUTHORIZATION, TestConstants.BEARER + token)
+                .param("q", query))
+            .andExpect(status().isOk());
+    }
+
+    private ResultActions search(String token, String query) throws Exception {
+        return mockMvc.perform(get(LinkEndpoints.BASE_LINKS + LinkEndpoints.SEARCH)
+                .header(TestConstants.AUTHORIZATION, TestConstants.BEARER + token)
+                .param("q", query))
+            .andExpect(status().isOk());
+    }
+
+    private String registerAndLogin(String username) throws Exception {
+        String json = String.format("""
+            {
+                "username": "%s",
+                "password": "validPassword1@"
+            }
+            """, username);
+
+        performAsync(mockMvc, post(AuthEndpoints.BASE_AUTH + AuthEndpoints.REGISTER)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json))
+            .andExpect(status().isOk());
+
+        MvcResult result = performAsync(mockMvc, post(AuthEndpoints.BASE_AUTH + AuthEndpoints.LOGIN)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json))
+            .andExpect(status().isOk())
+            .andReturn();
+        return mapper.readTree(result.getResponse().getContentAsString()).get("token").asText();
+    }
+
+    private long createLink(String token, String url) throws Exception {
+        MvcResult result = mockMvc.perform(post(LinkEndpoints.BASE_LINKS)
+                .header(TestConstants.AUTHORIZATION, TestConstants.BEARER + token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(String.format("""
+                    {
+                        "url": "%s",
+                        "title": "Title",
+                        "description": "Description"
+                    }
+                    """, url)))
+            .andExpect(status().isCreated())
+            .andReturn();
+        return mapper.readTree(result.getResponse().getContentAsString()).get("id").asLong();
+    }
 }
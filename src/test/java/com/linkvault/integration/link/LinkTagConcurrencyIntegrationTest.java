@@ -0,0 +1,97 @@
+package com.linkvault.integration.link;
+
+import com.linkvault.model.Link;
+import com.linkvault.model.User;
+import com.linkvault.repository.LinkRepository;
+import com.linkvault.repository.LinkTagRepository;
+import com.linkvault.repository.TagRepository;
+import com.linkvault.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ActiveProfiles("test")
+@SpringBootTest
+@TestPropertySource("classpath:application-test.properties")
+public class LinkTagConcurrencyIntegrationTest {
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private LinkRepository linkRepository;
+    @Autowired
+    private TagRepository tagRepository;
+    @Autowired
+    private LinkTagRepository linkTagRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private User user;
+    private Link link;
+
+    @BeforeEach
+    void setUp() {
+        linkRepository.deleteAll();
+        userRepository.deleteAll();
+
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        user = userRepository.save(new User("taggingUser", "password"));
+        link = linkRepository.save(new Link("https://tagged.com", "Tagged", null, user));
+    }
+
+    @Test
+    void shouldShareOneTag_WhenTwoTransactionsCreateItConcurrently() throws Exception {
+        CountDownLatch inserted = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+            // Arrange: the first transaction creates the tag and holds it uncommitted
+            Future<Long> first = executor.submit(() -> transactionTemplate.execute(status -> {
+                long tagId = linkTagRepository.findOrCreateTag(user.getId(), "shared");
+                inserted.countDown();
+                awaitQuietly(commit);
+                return tagId;
+            }));
+            assertTrue(inserted.await(5, TimeUnit.SECONDS));
+
+            // Act: the second cannot see that row, so its insert waits on the unique
+            // index and fails once the first commits
+            Future<Integer> second = executor.submit(() -> transactionTemplate.execute(status -> {
+                long tagId = linkTagRepository.findOrCreateTag(user.getId(), "shared");
+                // The transaction is still usable after the failed insert
+                return linkTagRepository.tagLinks(user.getId(), tagId, List.of(link.getId()));
+            }));
+            Thread.sleep(200);
+            commit.countDown();
+
+            // Assert
+            long tagId = first.get(5, TimeUnit.SECONDS);
+            assertEquals(1, second.get(5, TimeUnit.SECONDS));
+            assertEquals(1, tagRepository.count());
+            assertEquals(tagId, tagRepository.findIdByUserIdAndName(user.getId(), "shared").orElseThrow());
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
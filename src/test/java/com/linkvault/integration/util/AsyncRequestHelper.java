@@ -0,0 +1,21 @@
+package com.linkvault.integration.util;
+
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+public class AsyncRequestHelper {
+    public static ResultActions performAsync(
+        MockMvc mockMvc, MockHttpServletRequestBuilder builder
+    ) throws Exception {
+        MvcResult pending = mockMvc.perform(builder)
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        return mockMvc.perform(asyncDispatch(pending));
+    }
+}
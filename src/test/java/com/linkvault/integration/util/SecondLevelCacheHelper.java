@@ -0,0 +1,16 @@
+package com.linkvault.integration.util;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+
+public class SecondLevelCacheHelper {
+    /**
+     * The JCache manager is shared by every test context in the JVM while each context
+     * has its own database, so entries left by another context can point at the wrong
+     * rows. JPA's evictAll only clears entity regions; this also clears the natural-id
+     * and collection regions.
+     */
+    public static void clearSecondLevelCache(EntityManagerFactory entityManagerFactory) {
+        entityManagerFactory.getCache().unwrap(Cache.class).evictAllRegions();
+    }
+}
@@ -1,18 +1,35 @@
 package com.linkvault.unit.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.linkvault.constants.PageLimits;
 import com.linkvault.constants.apiPaths.LinkEndpoints;
 import com.linkvault.controller.LinkController;
+import com.linkvault.dto.BulkLinkError;
+import com.linkvault.dto.BulkLinkRequest;
+import com.linkvault.dto.BulkLinkResponse;
+import com.linkvault.dto.CreatedLinkResponse;
+import com.linkvault.dto.LinkFuzzyMatch;
+import com.linkvault.dto.LinkIdsRequest;
+import com.linkvault.dto.LinkPageResponse;
+import com.linkvault.dto.LinkPatchRequest;
 import com.linkvault.dto.LinkRequest;
 import com.linkvault.dto.LinkResponse;
+import com.linkvault.dto.LinkSearchResult;
+import com.linkvault.dto.LinkTitleCompletion;
+import com.linkvault.dto.LinksDeletedResponse;
+import com.linkvault.dto.LinksTaggedResponse;
+import com.linkvault.dto.TaggedLinksResponse;
+import com.linkvault.dto.VersionedLinkResponse;
 import com.linkvault.exception.*;
+import com.linkvault.model.Link;
 import com.linkvault.model.User;
 import com.linkvault.service.LinkService;
-import com.linkvault.service.UserServiceImpl;
 import com.linkvault.unit.util.AbstractValidationTest;
 import com.linkvault.unit.util.JsonBuilder;
 import com.linkvault.unit.util.TestConstants;
 import com.linkvault.unit.util.TestDataFactory;
+import com.linkvault.unit.util.WithMockAuthenticatedUser;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -20,18 +37,25 @@ import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
-import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 
+import java.sql.SQLException;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 
+import static com.linkvault.integration.util.AsyncRequestHelper.performAsync;
 import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -45,9 +69,6 @@ public class LinkControllerTest extends AbstractValidationTest {
     @MockitoBean
     private LinkService linkService;
 
-    @MockitoBean
-    private UserServiceImpl userServiceImpl;
-
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -67,54 +88,260 @@ public class LinkControllerTest extends AbstractValidationTest {
     }
 
     @Test
-    @WithMockUser(username = "eddie")
+    @WithMockAuthenticatedUser
     void shouldReturnAllLinksForUserWhenUserHasLinks() throws Exception {
         // Arrange
-        when(userServiceImpl.getUserIdByUsername("eddie"))
-            .thenReturn(user.getId());
-        when(linkService.getAllLinksForUser(user.getId()))
-            .thenReturn(List.of(linkResponse, linkResponseTwo));
+        when(linkService.getLinksPage(user.getId(), null, 50))
+            .thenReturn(new LinkPageResponse(List.of(linkResponse, linkResponseTwo), null));
 
         mockMvc.perform(get("/api/links"))
             .andExpect(status().isOk())
             .andExpect(content().contentType(MediaType.APPLICATION_JSON))
-            .andExpect(jsonPath("$", hasSize(2)))
-            .andExpect(jsonPath("$[0].title").value(linkResponse.title()))
-            .andExpect(jsonPath("$[1].title").value(linkResponseTwo.title()))
-            .andExpect(jsonPath("$[0].url").value(linkResponse.url()))
-            .andExpect(jsonPath("$[1].url").value(linkResponseTwo.url()));
+            .andExpect(jsonPath("$.items", hasSize(2)))
+            .andExpect(jsonPath("$.items[0].title").value(linkResponse.title()))
+            .andExpect(jsonPath("$.items[1].title").value(linkResponseTwo.title()))
+            .andExpect(jsonPath("$.items[0].url").value(linkResponse.url()))
+            .andExpect(jsonPath("$.items[1].url").value(linkResponseTwo.url()))
+            .andExpect(jsonPath("$.next").doesNotExist());
+
+        verify(linkService).getLinksPage(user.getId(), null, 50);
+    }
 
-        verify(linkService).getAllLinksForUser(user.getId());
+    @Test
+    @WithMockAuthenticatedUser
+    void shouldTagLinkListWithCollectionVersion() throws Exception {
+        // Arrange
+        when(linkService.getLinksVersion(user.getId())).thenReturn(7L);
+        when(linkService.getLinksPage(user.getId(), null, 50))
+            .thenReturn(new LinkPageResponse(List.of(linkResponse), null));
+
+        // Act & Assert
+        mockMvc.perform(get(LinkEndpoints.BASE_LINKS))
+            .andExpect(status().isOk())
+            .andExpect(header().stringValues(HttpHeaders.ETAG, "\"u" + user.getId() + "-7\""))
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"))
+            .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.AUTHORIZATION));
+    }
+
+    @Test
+    @WithMockAuthenticatedUser
+    void shouldReturnNotModified_WhenLinkListIsUnchanged() throws Exception {
+        // Arrange
+        when(linkService.getLinksVersion(user.getId())).thenReturn(7L);
+
+        // Act & Assert
+        String etag = "\"u" + user.getId() + "-7\"";
+        mockMvc.perform(get(LinkEndpoints.BASE_LINKS).header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string(HttpHeaders.ETAG, etag))
+            .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.AUTHORIZATION))
+            .andExpect(content().string(""));
+
+        verify(linkService, never()).getLinksPage(any(), any(), anyInt());
+    }
+
+    @Test
+    @WithMockAuthenticatedUser
+    void shouldReturnNotModified_WhenSingleLinkIsUnchanged() throws Exception {
+        // Arrange
+        when(linkService.getLinkVersion(linkResponse.id(), user.getId())).thenReturn(Optional.of(3L));
+
+        // Act & Assert
+        mockMvc.perform(get(LinkEndpoints.BASE_LINKS + "/" + linkResponse.id())
+                .header(HttpHeaders.IF_NONE_MATCH, "\"3\""))
+            .andExpect(status().isNotModified());
+
+        verify(linkService, never()).getLinkById(any(), any());
+    }
+
+    @Test
+    @WithMockAuthenticatedUser
+    void shouldReturnLink_WhenSingleLinkETagIsStale() throws Exception {
+        // Arrange
+        when(linkService.getLinkVersion(linkResponse.id(), user.getId())).thenReturn(Optional.of(4L));
+        when(linkService.getLinkById(linkResponse.id(), user.getId()))
+            .thenReturn(new VersionedLinkResponse(linkResponse, 4L));
+
+        // Act & Assert
+        mockMvc.perform(get(LinkEndpoints.BASE_LINKS + "/" + linkResponse.id())
+                .header(HttpHeaders.IF_NONE_MATCH, "\"3\""))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"4\""))
+            .andExpect(jsonPath("$.title").value(linkResponse.title()));
     }
 
     @Test
-    @WithMockUser(username = "eddie")
+    @WithMockAuthenticatedUser
     void shouldReturnEmptyListWhenUserHasNoLinks() throws Exception {
         // Arrange
-        when(userServiceImpl.getUserIdByUsername("eddie"))
-            .thenReturn(user.getId());
-        when(linkService.getAllLinksForUser(user.getId()))
-            .thenReturn(Collections.emptyList());
+        when(linkService.getLinksPage(user.getId(), null, 50))
+            .thenReturn(new LinkPageResponse(Collections.emptyList(), null));
 
         mockMvc.perform(get("/api/links"))
             .andExpect(status().isOk())
             .andExpect(content().contentType(MediaType.APPLICATION_JSON))
-            .andExpect(jsonPath("$", hasSize(0)))
-            .andExpect(content().json("[]"));
+            .andExpect(jsonPath("$.items", hasSize(0)));
+
+        verify(linkService).getLinksPage(user.getId(), null, 50);
+    }
+
+    @Test
+    @WithMockAuthenticatedUser
+    void shouldPassCursorAndLimitToService() throws Exception {
+        // Arrange
+        when(linkService.getLinksPage(user.getId(), "abc", 2))
+            .thenReturn(new LinkPageResponse(List.of(linkResponse), "def"));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/links").param("cursor", "abc").param("limit", "2"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.items", hasSize(1)))
+            .andExpect(jsonPath("$.next").value("def"));
+    }
+
+    @Test
+    @WithMockAuthenticatedUser
+    void shouldStreamLinksAsNdjson() throws Exception {
+        // Arrange
+        doAnswer(invocation -> {
+            Consumer<LinkResponse> sink = invocation.getArgument(1);
+            sink.accept(linkResponse);
+            sink.accept(linkResponseTwo);
+            return 2L;
+        }).when(linkService).exportLinks(eq(user.getId()), any());
+
+        // Act
+        MvcResult result = performAsync(mockMvc, get(LinkEndpoints.BASE_LINKS + LinkEndpoints.EXPORT))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+            .andReturn();
 
-        verify(linkService).getAllLinksForUser(user.getId());
+        // Assert
+        String[] lines = result.getResponse().getContentAsString().split("\n");
+        assertEquals(2, lines.length);
+        assertEquals(linkResponse, objectMapper.readValue(lines[0], LinkResponse.class));
+        assertEquals(linkResponseTwo, objectMapper.readValue(lines[1], LinkResponse.class));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"0", "501"})
+    @WithMockAuthenticatedUser
+    void shouldReturnBadRequest_WhenLimitIsOutOfRange(String limit) throws Exception {
+        mockMvc.perform(get("/api/links").param("limit", limit))
+            .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(linkService);
+    }
+
+    @Test
+    @WithMockAuthenticatedUser
+    void shouldReturnRankedSearchResults() throws Exception {
+        // Arrange
+        when(linkService.searchLinks(user.getId(), "spring docs", 20)).thenReturn(List.of(
+            new LinkSearchResult(linkResponseTwo, 2.5),
+            new LinkSearchResult(linkResponse, 1.25)
+        ));
+
+        // Act & Assert
+        mockMvc.perform(get(LinkEndpoints.BASE_LINKS + LinkEndpoints.SEARCH).param("q", "spring docs"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$", hasSize(2)))
+            .andExpect(jsonPath("$[0].link.id").value(linkResponseTwo.id()))
+            .andExpect(jsonPath("$[0].score").value(2.5))
+            .andExpect(jsonPath("$[1].link.title").value(linkResponse.title()));
     }
 
     @Test
-    @WithMockUser(username = "eddie")
+    @WithMockAuthenticatedUser
+    void shouldReturnFuzzyMatchesClosestFirst() throws Exception {
+        // Arrange
+        when(linkService.fuzzySearchLinks(user.getId(), "sprng", 20)).thenReturn(List.of(
+            new LinkFuzzyMatch(linkResponseTwo, 1)
+        ));
+
+        // Act & Assert
+        mockMvc.perform(get(LinkEndpoints.BASE_LINKS + LinkEndpoints.FUZZY_SEARCH).param("q", "sprng"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$", hasSize(1)))
+            .andExpect(jsonPath("$[0].link.id").value(linkResponseTwo.id()))
+            .andExpect(jsonPath("$[0].distance").value(1));
+    }
+
+    @Test
+    @WithMockAuthenticatedUser
+    void shouldReturnServiceUnavailable_WhenFuzzySearchTimesOut() throws Exception {
+        // Arrange
+        when(linkService.fuzzySearchLinks(user.getId(), "sprng", 20)).thenThrow(
+            new ServiceOverloadedException(ExceptionMessages.SEARCH_OVERLOADED, 1, new RuntimeException())
+        );
+
+        // Act & Assert
+        mockMvc.perform(get(LinkEndpoints.BASE_LINKS + LinkEndpoints.FUZZY_SEARCH).param("q", "sprng"))
+            .andExpect(status().isServiceUnavailable())
+            .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"))
+            .andExpect(jsonPath("$.message").value(ExceptionMessages.SEARCH_OVERLOADED));
+    }
+
+    @Test
+    @WithMockAuthenticatedUser
+    void shouldReturnTitleCompletionsForPrefix() throws Exception {
+        // Arrange
+        when(linkService.completeTitles(user.getId(), "spr", 5)).thenReturn(List.of(
+            new LinkTitleCompletion(linkResponseTwo.id(), linkResponseTwo.title())
+        ));
+
+        // Act & Assert
+        mockMvc.perform(get(LinkEndpoints.BASE_LINKS + LinkEndpoints.COMPLETE_TITLES)
+                .param("prefix", "spr")
+                .param("limit", "5"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$", hasSize(1)))
+            .andExpect(jsonPath("$[0].linkId").value(linkResponseTwo.id()))
+            .andExpect(jsonPath("$[0].title").value(linkResponseTwo.title()));
+    }
+
+    @Test
+    @WithMockAuthenticatedUser
+    void shouldReturnBadRequest_WhenCompletionLimitIsTooHigh() throws Exception {
+        mockMvc.perform(get(LinkEndpoints.BASE_LINKS + LinkEndpoints.COMPLETE_TITLES)
+                .param("prefix", "spr")
+                .param("limit", String.valueOf(PageLimits.MAX_COMPLETION_LIMIT + 1)))
+            .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(linkService);
+    }
+
+    @Test
+    @WithMockAuthenticatedUser
+    void shouldReturnBadRequest_WhenFuzzyQueryIsTooLong() throws Exception {
+        mockMvc.perform(get(LinkEndpoints.BASE_LINKS + LinkEndpoints.FUZZY_SEARCH)
+                .param("q", "a".repeat(PageLimits.MAX_FUZZY_QUERY_LENGTH + 1)))
+            .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(linkService);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "   "})
+    @WithMockAuthenticatedUser
+    void shouldReturnBadRequest_WhenSearchQueryIsBlank(String query) throws Exception {
+        mockMvc.perform(get(LinkEndpoints.BASE_LINKS + LinkEndpoints.SEARCH).param("q", query))
+            .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(linkService);
+    }
+
+    @Test
+    @WithMockAuthenticatedUser
     void shouldReturnLinkWhenIdExists() throws Exception {
         // Arrange
-        when(userServiceImpl.getUserIdByUsername("eddie")).thenReturn(user.getId());
-        when(linkService.getLinkById(linkResponse.id(), user.getId())).thenReturn(linkResponse);
+        when(linkService.getLinkById(linkResponse.id(), user.getId()))
+            .thenReturn(new VersionedLinkResponse(linkResponse, 4L));
 
         // Assert
         mockMvc.perform(get(LinkEndpoints.BASE_LINKS + "/" + linkResponse.id()))
             .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"4\""))
             .andExpect(jsonPath("$.title").value(linkResponse.title()))
             .andExpect(jsonPath("$.url").value(linkResponse.url()));
 
@@ -123,10 +350,9 @@ public class LinkControllerTest extends AbstractValidationTest {
 
     // TODO: Start here
     @Test
-    @WithMockUser(username = "eddie")
+    @WithMockAuthenticatedUser
     void shouldReturnNotFoundStatusWhenLinkDoesNotExist() throws Exception {
         // Arrange
-        when(userServiceImpl.getUserIdByUsername("eddie")).thenReturn(user.getId());
         when(linkService.getLinkById(linkResponse.id(), user.getId()))
             .thenThrow(new LinkNotFoundException(linkResponse.id(),
                 new RuntimeException()));
@@ -143,12 +369,81 @@ public class LinkControllerTest extends AbstractValidationTest {
     }
 
     @Test
-    @WithMockUser(username = "eddie")
+    @WithMockAuthenticatedUser
+    void shouldPatchLink_AndReturnNewETag() throws Exception {
+        // Arrange
+        LinkPatchRequest patch = new LinkPatchRequest(null, "Patched", null);
+        when(linkService.patchLink(linkResponse.id(), patch, 4L, user.getId()))
+            .thenReturn(new VersionedLinkResponse(linkResponse, 5L));
+
+        // Act & Assert
+        mockMvc.perform(patch(LinkEndpoints.BASE_LINKS + "/" + linkResponse.id())
+                .header(HttpHeaders.IF_MATCH, "\"4\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(patch)))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"5\""));
+
+        verify(linkService).patchLink(linkResponse.id(), patch, 4L, user.getId());
+    }
+
+    @Test
+    @WithMockAuthenticatedUser
+    void shouldReturnPreconditionRequired_WhenPatchHasNoIfMatch() throws Exception {
+        // Act & Assert
+        mockMvc.perform(patch(LinkEndpoints.BASE_LINKS + "/" + linkResponse.id())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"title\": \"Patched\"}"))
+            .andExpect(status().isPreconditionRequired());
+
+        verifyNoInteractions(linkService);
+    }
+
+    @Test
+    @WithMockAuthenticatedUser
+    void shouldReturnPreconditionFailed_WhenIfMatchIsNotOurETag() throws Exception {
+        // Act & Assert
+        mockMvc.perform(patch(LinkEndpoints.BASE_LINKS + "/" + linkResponse.id())
+                .header(HttpHeaders.IF_MATCH, "\"abc\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"title\": \"Patched\"}"))
+            .andExpect(status().isPreconditionFailed());
+
+        verifyNoInteractions(linkService);
+    }
+
+    @Test
+    @WithMockAuthenticatedUser
+    void shouldReturnPreconditionFailed_WhenIfMatchIsWeak() throws Exception {
+        // Act & Assert
+        mockMvc.perform(patch(LinkEndpoints.BASE_LINKS + "/" + linkResponse.id())
+                .header(HttpHeaders.IF_MATCH, "W/\"4\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"title\": \"Patched\"}"))
+            .andExpect(status().isPreconditionFailed());
+
+        verifyNoInteractions(linkService);
+    }
+
+    @Test
+    @WithMockAuthenticatedUser
+    void shouldReturnBadRequest_WhenPatchTitleIsBlank() throws Exception {
+        // Act & Assert
+        mockMvc.perform(patch(LinkEndpoints.BASE_LINKS + "/" + linkResponse.id())
+                .header(HttpHeaders.IF_MATCH, "\"0\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"title\": \"  \"}"))
+            .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(linkService);
+    }
+
+    @Test
+    @WithMockAuthenticatedUser
     void shouldReturnLinkWhenNewLinkIsCreated() throws Exception {
         // Arrange
-        when(userServiceImpl.getUserIdByUsername("eddie")).thenReturn(user.getId());
-        when(linkService.createLink(user.getId(), linkRequest))
-            .thenReturn(linkResponse);
+        when(linkService.createLink(user.getId(), linkRequest, false))
+            .thenReturn(new CreatedLinkResponse(linkResponse, true));
 
         // Act & Assert
         String json = objectMapper.writeValueAsString(linkRequest);
@@ -159,15 +454,111 @@ public class LinkControllerTest extends AbstractValidationTest {
             .andExpect(status().isCreated())
             .andExpect(jsonPath("$.title").value(linkResponse.title()));
 
-        verify(linkService).createLink(user.getId(), linkRequest);
+        verify(linkService).createLink(user.getId(), linkRequest, false);
+    }
+
+    @Test
+    @WithMockAuthenticatedUser
+    void shouldReturnConflict_WhenUniqueConstraintIsViolated() throws Exception {
+        // Arrange
+        when(linkService.createLink(user.getId(), linkRequest, false))
+            .thenThrow(integrityViolation(Link.URL_HASH_CONSTRAINT));
+
+        // Act & Assert
+        mockMvc.perform(post(LinkEndpoints.BASE_LINKS)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(linkRequest)))
+            .andExpect(status().isConflict())
+            .andExpect(jsonPath("$.message").value(ExceptionMessages.DATA_CONFLICT));
+    }
+
+    @Test
+    @WithMockAuthenticatedUser
+    void shouldReturnServerError_WhenOtherIntegrityConstraintIsViolated() throws Exception {
+        // Arrange
+        when(linkService.createLink(user.getId(), linkRequest, false))
+            .thenThrow(integrityViolation("fk_link_user"));
+
+        // Act & Assert
+        mockMvc.perform(post(LinkEndpoints.BASE_LINKS)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(linkRequest)))
+            .andExpect(status().isInternalServerError());
+    }
+
+    @Test
+    @WithMockAuthenticatedUser
+    void shouldReturnConflict_WhenLinkIsAlreadySaved() throws Exception {
+        // Arrange
+        when(linkService.createLink(user.getId(), linkRequest, false))
+            .thenThrow(new DuplicateLinkException(linkRequest.url(), linkResponse));
+
+        // Act & Assert
+        mockMvc.perform(post(LinkEndpoints.BASE_LINKS)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(linkRequest)))
+            .andExpect(status().isConflict())
+            .andExpect(jsonPath("$.message")
+                .value(String.format(ExceptionMessages.DUPLICATE_LINK, linkRequest.url())));
     }
 
     @Test
-    @WithMockUser(username = "eddie")
+    @WithMockAuthenticatedUser
+    void shouldReturnExistingLink_WhenRequestedForDuplicate() throws Exception {
+        // Arrange
+        when(linkService.createLink(user.getId(), linkRequest, true))
+            .thenReturn(new CreatedLinkResponse(linkResponse, false));
+
+        // Act & Assert
+        mockMvc.perform(post(LinkEndpoints.BASE_LINKS)
+                .param("returnExisting", "true")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(linkRequest)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.id").value(linkResponse.id()));
+    }
+
+    @Test
+    @WithMockAuthenticatedUser
+    void shouldReturnMultiStatus_WhenSomeBulkLinksAreRejected() throws Exception {
+        // Arrange
+        LinkRequest invalid = new LinkRequest("not-a-url", "Bad", null);
+        BulkLinkResponse response = new BulkLinkResponse(
+            List.of(linkResponse),
+            List.of(new BulkLinkError(1, List.of("url: must match \"^https?://.*\"")))
+        );
+        when(linkService.createLinks(user.getId(), List.of(linkRequest, invalid))).thenReturn(response);
+
+        // Act & Assert
+        String json = objectMapper.writeValueAsString(new BulkLinkRequest(List.of(linkRequest, invalid)));
+
+        mockMvc.perform(post(LinkEndpoints.BASE_LINKS + LinkEndpoints.BULK)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json))
+            .andExpect(status().isMultiStatus())
+            .andExpect(jsonPath("$.created[0].title").value(linkResponse.title()))
+            .andExpect(jsonPath("$.rejected[0].index").value(1));
+
+        verify(linkService).createLinks(user.getId(), List.of(linkRequest, invalid));
+    }
+
+    @Test
+    @WithMockAuthenticatedUser
+    void shouldReturnBadRequest_WhenBulkRequestIsEmpty() throws Exception {
+        // Act & Assert
+        mockMvc.perform(post(LinkEndpoints.BASE_LINKS + LinkEndpoints.BULK)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"links\": []}"))
+            .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(linkService);
+    }
+
+    @Test
+    @WithMockAuthenticatedUser
     void shouldReturnServerErrorStatusWhenLinkSaveFails() throws Exception {
         // Arrange
-        when(userServiceImpl.getUserIdByUsername("eddie")).thenReturn(user.getId());
-        when(linkService.createLink(user.getId(), linkRequest)).thenThrow(
+        when(linkService.createLink(user.getId(), linkRequest, false)).thenThrow(
             new LinkSaveException(linkResponse.id(), user.getId(),
                 new RuntimeException(ExceptionMessages.DATABASE_FAILURE)));
 
@@ -184,14 +575,13 @@ public class LinkControllerTest extends AbstractValidationTest {
                 .value(String.format(ExceptionMessages.LINK_SAVE_FAILED, linkResponse.id(), user.getId())
                 ));
 
-        verify(linkService).createLink(user.getId(), linkRequest);
+        verify(linkService).createLink(user.getId(), linkRequest, false);
     }
 
     @Test
-    @WithMockUser(username = "eddie")
+    @WithMockAuthenticatedUser
     void shouldReturnLinkWhenLinkIsUpdated() throws Exception {
         // Arrange
-        when(userServiceImpl.getUserIdByUsername("eddie")).thenReturn(user.getId());
         when(linkService.updateLink(
             linkResponse.id(),
             linkRequest,
@@ -215,10 +605,9 @@ public class LinkControllerTest extends AbstractValidationTest {
     }
 
     @Test
-    @WithMockUser(username = "eddie")
+    @WithMockAuthenticatedUser
     void shouldReturnServerErrorStatusWhenLinkSaveFailsOnUpdate() throws Exception {
         // Arrange
-        when(userServiceImpl.getUserIdByUsername("eddie")).thenReturn(user.getId());
         when(linkService.updateLink(linkResponse.id(), linkRequest, user.getId())).thenThrow(
             new LinkSaveException(linkResponse.id(), user.getId(),
                 new RuntimeException(ExceptionMessages.DATABASE_FAILURE)));
@@ -244,7 +633,7 @@ public class LinkControllerTest extends AbstractValidationTest {
     }
 
     @Test
-    @WithMockUser(username = "eddie")
+    @WithMockAuthenticatedUser
     void shouldReturnBadRequestWhenLinkRequestInvalid() throws Exception {
         LinkRequest invalidRequest = new LinkRequest("", "", "");
         String json = objectMapper.writeValueAsString(invalidRequest);
@@ -259,10 +648,9 @@ public class LinkControllerTest extends AbstractValidationTest {
     }
 
     @Test
-    @WithMockUser(username = "eddie")
+    @WithMockAuthenticatedUser
     void shouldReturnNoContentStatusWhenLinkIsDeleted() throws Exception {
         // Arrange
-        when(userServiceImpl.getUserIdByUsername("eddie")).thenReturn(user.getId());
         doNothing().when(linkService).deleteLink(linkResponse.id(), user.getId());
 
         // Act & Assert
@@ -276,11 +664,9 @@ public class LinkControllerTest extends AbstractValidationTest {
     }
 
     @Test
-    @WithMockUser(username = "eddie")
+    @WithMockAuthenticatedUser
     void shouldReturnServerErrorStatusWhenLinkFailsToDelete() throws Exception {
         // Arrange
-        when(userServiceImpl.getUserIdByUsername("eddie"))
-            .thenReturn(user.getId());
         doThrow(
             new LinkDeleteException(
                 linkResponse.id(),
@@ -302,28 +688,111 @@ public class LinkControllerTest extends AbstractValidationTest {
     }
 
     @Test
-    @WithMockUser(username = "eddie")
-    void shouldReturnNoContentStatusWhenAllLinksAreDeleted() throws Exception {
+    @WithMockAuthenticatedUser
+    void shouldReturnDeletedCountWhenAllLinksAreDeleted() throws Exception {
         // Arrange
-        when(userServiceImpl.getUserIdByUsername("eddie"))
-            .thenReturn(user.getId());
-        doNothing().when(linkService).deleteAllLinksByUser(user.getId());
+        when(linkService.deleteAllLinksByUser(user.getId())).thenReturn(new LinksDeletedResponse(2));
 
         // Act & Assert
-        mockMvc.perform(delete(LinkEndpoints.BASE_LINKS)).andExpect(status().isNoContent());
+        mockMvc.perform(delete(LinkEndpoints.BASE_LINKS))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.deleted").value(2));
 
         verify(linkService).deleteAllLinksByUser(user.getId());
     }
 
     @Test
-    @WithMockUser(username = "eddie")
+    @WithMockAuthenticatedUser
+    void shouldReturnDeletedCountWhenLinksAreBulkDeleted() throws Exception {
+        // Arrange
+        List<Long> ids = List.of(linkResponse.id(), linkResponseTwo.id());
+        when(linkService.deleteLinks(user.getId(), ids)).thenReturn(new LinksDeletedResponse(1));
+
+        // Act & Assert
+        mockMvc.perform(post(LinkEndpoints.BASE_LINKS + LinkEndpoints.BULK_DELETE)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new LinkIdsRequest(ids))))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.deleted").value(1));
+
+        verify(linkService).deleteLinks(user.getId(), ids);
+    }
+
+    @Test
+    @WithMockAuthenticatedUser
+    void shouldTagLinksInBulk() throws Exception {
+        // Arrange
+        List<Long> ids = List.of(linkResponse.id(), linkResponseTwo.id());
+        when(linkService.tagLinks(user.getId(), "Docs", ids)).thenReturn(new LinksTaggedResponse("docs", 2));
+
+        // Act & Assert
+        mockMvc.perform(post(LinkEndpoints.BASE_LINKS + "/tags/Docs")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new LinkIdsRequest(ids))))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.tag").value("docs"))
+            .andExpect(jsonPath("$.changed").value(2));
+    }
+
+    @Test
+    @WithMockAuthenticatedUser
+    void shouldReturnBadRequest_WhenTagNameIsInvalid() throws Exception {
+        // Act & Assert
+        mockMvc.perform(post(LinkEndpoints.BASE_LINKS + "/tags/-bad!/remove")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new LinkIdsRequest(List.of(1L)))))
+            .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(linkService);
+    }
+
+    @Test
+    @WithMockAuthenticatedUser
+    void shouldReturnLinksMatchingTagExpression() throws Exception {
+        // Arrange
+        when(linkService.findLinksByTags(user.getId(), "docs & !old", 50))
+            .thenReturn(new TaggedLinksResponse(3, List.of(linkResponse)));
+
+        // Act & Assert
+        mockMvc.perform(get(LinkEndpoints.BASE_LINKS + LinkEndpoints.TAGGED).param("expr", "docs & !old"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.total").value(3))
+            .andExpect(jsonPath("$.links[0].id").value(linkResponse.id()));
+    }
+
+    @Test
+    @WithMockAuthenticatedUser
+    void shouldReturnBadRequest_WhenTagExpressionIsMalformed() throws Exception {
+        // Arrange
+        when(linkService.findLinksByTags(user.getId(), "docs &", 50))
+            .thenThrow(new InvalidTagExpressionException(6, "expected a tag name"));
+
+        // Act & Assert
+        mockMvc.perform(get(LinkEndpoints.BASE_LINKS + LinkEndpoints.TAGGED).param("expr", "docs &"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.message").value(
+                String.format(ExceptionMessages.INVALID_TAG_EXPRESSION, 6, "expected a tag name")
+            ));
+    }
+
+    @Test
+    @WithMockAuthenticatedUser
+    void shouldReturnBadRequest_WhenBulkDeleteHasNoIds() throws Exception {
+        // Act & Assert
+        mockMvc.perform(post(LinkEndpoints.BASE_LINKS + LinkEndpoints.BULK_DELETE)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"ids\": []}"))
+            .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(linkService);
+    }
+
+    @Test
+    @WithMockAuthenticatedUser
     void shouldReturnServerErrorStatusWhenAllLinksFailToDelete() throws Exception {
         // Arrange
-        when(userServiceImpl.getUserIdByUsername("eddie"))
-            .thenReturn(user.getId());
-        doThrow(new LinksDeleteException(user.getId(),
-            new RuntimeException(ExceptionMessages.DATABASE_FAILURE)))
-            .when(linkService).deleteAllLinksByUser(user.getId());
+        when(linkService.deleteAllLinksByUser(user.getId())).thenThrow(new LinksDeleteException(user.getId(),
+            new RuntimeException(ExceptionMessages.DATABASE_FAILURE)));
 
         // Act & Assert
         mockMvc.perform(delete(LinkEndpoints.BASE_LINKS))
@@ -462,6 +931,7 @@ public class LinkControllerTest extends AbstractValidationTest {
             TestConstants.HTTP_GET, TestConstants.HTTP_DELETE, TestConstants.HTTP_PUT
         }
     )
+    @WithMockAuthenticatedUser
     void shouldReturnBadRequestWhenLinkIdIsZero(String method) throws Exception {
         String jsonValid = new JsonBuilder()
             .withUrl(TestConstants.VALID_URL)
@@ -484,4 +954,10 @@ public class LinkControllerTest extends AbstractValidationTest {
         ResultActions result = performJsonRequest(requestBuilder, jsonValid);
         assertValidationFailure(result, TestConstants.LINK_ID);
     }
+
+    private static DataIntegrityViolationException integrityViolation(String constraint) {
+        return new DataIntegrityViolationException("violation", new ConstraintViolationException(
+            "violation", new SQLException("violation", "23000"), constraint
+        ));
+    }
 }
@@ -0,0 +1,38 @@
+package com.linkvault.unit.search;
+
+import com.linkvault.search.EditDistance;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EditDistanceTest {
+    @Test
+    void shouldBeZero_WhenPatternOccursInText() {
+        assertEquals(0, EditDistance.substring("spring", "learning spring boot", 10));
+    }
+
+    @Test
+    void shouldCountEditsAgainstTheClosestSubstring() {
+        // Arrange
+        String text = "kubernetes in action";
+
+        // Act & Assert
+        assertEquals(1, EditDistance.substring("kubernets", text, 10));
+        assertEquals(1, EditDistance.substring("kubernetez", text, 10));
+        assertEquals(2, EditDistance.substring("kuberentes", text, 10));
+    }
+
+    @Test
+    void shouldStopAtMax_WhenDistanceExceedsIt() {
+        // Act
+        int distance = EditDistance.substring("xxxxxxxx", "spring boot", 2);
+
+        // Assert
+        assertEquals(3, distance);
+    }
+
+    @Test
+    void shouldReturnPatternLength_WhenTextIsEmpty() {
+        assertEquals(3, EditDistance.substring("git", "", 10));
+    }
+}
@@ -0,0 +1,140 @@
+package com.linkvault.unit.search;
+
+import com.linkvault.dto.LinkResponse;
+import com.linkvault.search.InvertedIndex;
+import com.linkvault.search.SearchHit;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class InvertedIndexTest {
+    private static final Long USER_ID = 1L;
+
+    @Test
+    void shouldRankTitleMatchesAboveDescriptionMatches() {
+        // Arrange
+        InvertedIndex index = InvertedIndex.of(List.of(
+            link(1, "https://a.com", "Cooking notes", "A guide to kotlin"),
+            link(2, "https://b.com", "Kotlin coroutines", "Async programming"),
+            link(3, "https://c.com", "Gardening", "Tomatoes")
+        ));
+
+        // Act
+        List<SearchHit> hits = index.search("kotlin", 10);
+
+        // Assert
+        assertEquals(List.of(2L, 1L), ids(hits));
+        assertTrue(hits.get(0).score() > hits.get(1).score());
+    }
+
+    @Test
+    void shouldPreferLinksMatchingMoreQueryTerms() {
+        // Arrange
+        InvertedIndex index = InvertedIndex.of(List.of(
+            link(1, "https://spring.io/guides", "Spring guides", null),
+            link(2, "https://spring.io/security", "Spring Security reference", null),
+            link(3, "https://owasp.org", "Security cheat sheets", null)
+        ));
+
+        // Act
+        List<SearchHit> hits = index.search("spring security", 10);
+
+        // Assert
+        assertEquals(2L, hits.getFirst().linkId());
+        assertEquals(3, hits.size());
+    }
+
+    @Test
+    void shouldTokenizeUrls_AndIgnoreCase() {
+        // Arrange
+        InvertedIndex index = InvertedIndex.of(List.of(
+            link(1, "https://docs.github.com/en/actions", "Docs", null)
+        ));
+
+        // Act & Assert
+        assertEquals(List.of(1L), ids(index.search("GitHub ACTIONS", 10)));
+        assertTrue(index.search("https", 10).isEmpty());
+    }
+
+    @Test
+    void shouldReplaceIndexedText_WhenLinkIsUpserted() {
+        // Arrange
+        InvertedIndex index = InvertedIndex.of(List.of(link(1, "https://a.com", "Old title", null)));
+
+        // Act
+        index.upsert(link(1, "https://a.com", "New title", null));
+        index.upsert(link(1, "https://a.com", "New title", null));
+
+        // Assert
+        assertTrue(index.search("old", 10).isEmpty());
+        assertEquals(List.of(1L), ids(index.search("new", 10)));
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    void shouldStopMatchingRemovedLinks() {
+        // Arrange
+        InvertedIndex index = InvertedIndex.of(List.of(
+            link(1, "https://a.com", "Reading list", null),
+            link(2, "https://b.com", "Reading notes", null)
+        ));
+
+        // Act
+        index.remove(1);
+        index.remove(1);
+
+        // Assert
+        assertEquals(List.of(2L), ids(index.search("reading", 10)));
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    void shouldReturnOnlyTheTopResults_InScoreOrder() {
+        // Arrange
+        InvertedIndex index = InvertedIndex.of(LongStream.rangeClosed(1, 50)
+            .mapToObj(id -> link(id, "https://example.com/" + id, "Java " + "tips ".repeat((int) id), null))
+            .toList());
+
+        // Act
+        List<SearchHit> hits = index.search("tips", 3);
+
+        // Assert
+        assertEquals(List.of(50L, 49L, 48L), ids(hits));
+    }
+
+    @Test
+    void shouldKeepSearchingCorrectly_AfterCompactingDeletedPostings() {
+        // Arrange
+        InvertedIndex index = InvertedIndex.of(LongStream.rangeClosed(1, 3_000)
+            .mapToObj(id -> link(id, "https://example.com/" + id, "Link " + (id % 2 == 0 ? "even" : "odd"), null))
+            .toList());
+
+        // Act
+        LongStream.rangeClosed(1, 2_500).forEach(index::remove);
+
+        // Assert
+        assertEquals(500, index.size());
+        List<SearchHit> hits = index.search("even", 1_000);
+        assertEquals(250, hits.size());
+        assertTrue(hits.stream().allMatch(hit -> hit.linkId() > 2_500 && hit.linkId() % 2 == 0));
+    }
+
+    @Test
+    void shouldReturnNothing_WhenQueryHasNoSearchableTerms() {
+        InvertedIndex index = InvertedIndex.of(List.of(link(1, "https://a.com", "Title", null)));
+
+        assertTrue(index.search("  -- !! ", 10).isEmpty());
+        assertTrue(index.search("missing", 10).isEmpty());
+    }
+
+    private static LinkResponse link(long id, String url, String title, String description) {
+        return new LinkResponse(id, url, title, description, USER_ID);
+    }
+
+    private static List<Long> ids(List<SearchHit> hits) {
+        return hits.stream().map(SearchHit::linkId).toList();
+    }
+}
@@ -0,0 +1,125 @@
+package com.linkvault.unit.search;
+
+import com.linkvault.dto.LinkResponse;
+import com.linkvault.search.InvertedIndex;
+import com.linkvault.search.LinkSearchIndexCache;
+import com.linkvault.search.SearchHit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LinkSearchIndexCacheTest {
+    private static final Long USER_ID = 1L;
+
+    private LinkSearchIndexCache cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        cache = new LinkSearchIndexCache(DataSize.ofMegabytes(1), Duration.ofMinutes(1));
+        loads = new AtomicInteger();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void shouldBuildOnce_AndApplyLaterChangesIncrementally() {
+        // Arrange
+        cache.get(USER_ID, () -> 0, () -> load(link(1, "Spring guide")));
+
+        // Act
+        cache.linksSaved(USER_ID, 1, List.of(link(2, "Spring security")));
+        cache.linksRemoved(USER_ID, 2, List.of(1L));
+
+        // Assert
+        List<SearchHit> hits = cache.get(USER_ID, () -> 0, () -> load(link(1, "Spring guide"))).search("spring", 10);
+        assertEquals(List.of(2L), hits.stream().map(SearchHit::linkId).toList());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void shouldApplyChangesOnlyAfterCommit() {
+        // Arrange
+        cache.get(USER_ID, () -> 0, () -> load(link(1, "Spring guide")));
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        cache.linksSaved(USER_ID, 1, List.of(link(2, "Spring security")));
+        int beforeCommit = search("security");
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.afterCommit();
+        }
+
+        // Assert
+        assertEquals(0, beforeCommit);
+        assertEquals(1, search("security"));
+    }
+
+    @Test
+    void shouldNotBuildAnIndex_WhenChangesArriveForAnUnindexedUser() {
+        // Act
+        cache.linksSaved(USER_ID, 1, List.of(link(2, "Spring security")));
+        cache.get(USER_ID, () -> 0, () -> load(link(1, "Spring guide")));
+
+        // Assert
+        assertEquals(1, loads.get());
+        assertEquals(0, search("security"));
+    }
+
+    @Test
+    void shouldRebuild_WhenCommitsToOneLinkAreAppliedOutOfOrder() {
+        // Arrange
+        cache.get(USER_ID, () -> 0, () -> load(link(1, "Spring guide")));
+
+        // Act
+        cache.linksSaved(USER_ID, 2, List.of(link(1, "Kotlin guide")));
+        cache.linksSaved(USER_ID, 1, List.of(link(1, "Spring reference")));
+        InvertedIndex index = cache.get(USER_ID, () -> 2, () -> load(link(1, "Kotlin guide")));
+
+        // Assert
+        assertEquals(2, loads.get());
+        assertEquals(1, index.search("kotlin", 10).size());
+        assertEquals(0, index.search("spring", 10).size());
+    }
+
+    @Test
+    void shouldRebuild_AfterInvalidation() {
+        // Arrange
+        cache.get(USER_ID, () -> 0, () -> load(link(1, "Spring guide")));
+
+        // Act
+        cache.invalidate(USER_ID);
+        cache.get(USER_ID, () -> 0, () -> load());
+
+        // Assert
+        assertEquals(2, loads.get());
+        assertEquals(0, search("spring"));
+    }
+
+    private int search(String query) {
+        return cache.get(USER_ID, () -> 0, List::of).search(query, 10).size();
+    }
+
+    private List<LinkResponse> load(LinkResponse... links) {
+        loads.incrementAndGet();
+        return List.of(links);
+    }
+
+    private static LinkResponse link(long id, String title) {
+        return new LinkResponse(id, "https://example.com/" + id, title, null, USER_ID);
+    }
+}
@@ -0,0 +1,42 @@
+package com.linkvault.unit.search;
+
+import com.linkvault.exception.InvalidTagExpressionException;
+import com.linkvault.search.TagExpression;
+import com.linkvault.search.TagExpression.And;
+import com.linkvault.search.TagExpression.HasTag;
+import com.linkvault.search.TagExpression.Not;
+import com.linkvault.search.TagExpression.Or;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TagExpressionTest {
+    @Test
+    void shouldBindNotTighterThanAnd_AndAndTighterThanOr() {
+        // Act
+        TagExpression expression = TagExpression.parse("java | spring & !Legacy");
+
+        // Assert
+        assertEquals(
+            new Or(new HasTag("java"), new And(new HasTag("spring"), new Not(new HasTag("legacy")))),
+            expression
+        );
+    }
+
+    @Test
+    void shouldGroupWithParentheses() {
+        // Act
+        TagExpression expression = TagExpression.parse("(java|kotlin)&jvm-tools");
+
+        // Assert
+        assertEquals(new And(new Or(new HasTag("java"), new HasTag("kotlin")), new HasTag("jvm-tools")), expression);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"java &", "(java", "java kotlin", "& java", "java | !", "ja$va"})
+    void shouldRejectMalformedExpressions(String expression) {
+        assertThrows(InvalidTagExpressionException.class, () -> TagExpression.parse(expression));
+    }
+}
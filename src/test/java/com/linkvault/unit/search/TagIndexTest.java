@@ -0,0 +1,79 @@
+package com.linkvault.unit.search;
+
+import com.linkvault.search.TagAssignment;
+import com.linkvault.search.TagExpression;
+import com.linkvault.search.TagIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TagIndexTest {
+    private TagIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = TagIndex.of(List.of(30L, 10L, 20L, 40L), List.of(
+            new TagAssignment(10, "java"),
+            new TagAssignment(20, "java"),
+            new TagAssignment(20, "spring"),
+            new TagAssignment(30, "kotlin"),
+            new TagAssignment(30, "spring")
+        ));
+    }
+
+    @Test
+    void shouldEvaluateAndOrNot_OldestFirst() {
+        assertEquals(List.of(20L), filter("java & spring"));
+        assertEquals(List.of(10L, 20L, 30L), filter("java | kotlin"));
+        assertEquals(List.of(10L, 40L), filter("!spring"));
+        assertEquals(List.of(10L), filter("java & !spring"));
+        assertEquals(List.of(), filter("unknown"));
+    }
+
+    @Test
+    void shouldReportTheTotal_ButReturnOnlyTheLimit() {
+        // Act
+        TagIndex.TagMatches matches = index.filter(TagExpression.parse("!unknown"), 2);
+
+        // Assert
+        assertEquals(4, matches.total());
+        assertEquals(List.of(10L, 20L), matches.linkIds());
+    }
+
+    @Test
+    void shouldApplyTaggingAndRemovals_IgnoringUnknownLinks() {
+        // Act
+        index.linksAdded(List.of(50L));
+        index.tagged("java", List.of(40L, 50L, 99L));
+        index.untagged("java", List.of(10L));
+        index.linksRemoved(List.of(20L));
+
+        // Assert
+        assertEquals(List.of(40L, 50L), filter("java"));
+        assertEquals(List.of(10L, 40L, 50L), filter("!spring"));
+    }
+
+    @Test
+    void shouldAskForRebuild_OnceUnusedOrdinalsOutnumberLiveOnes() {
+        // Arrange
+        List<Long> added = LongStream.rangeClosed(100, 2_200).boxed().toList();
+        index.linksAdded(added);
+
+        // Act
+        index.linksRemoved(added.subList(0, 1_000));
+        boolean beforeThreshold = index.needsRebuild();
+        index.linksRemoved(added.subList(1_000, 1_100));
+
+        // Assert
+        assertFalse(beforeThreshold);
+        assertTrue(index.needsRebuild());
+    }
+
+    private List<Long> filter(String expression) {
+        return index.filter(TagExpression.parse(expression), 10).linkIds();
+    }
+}
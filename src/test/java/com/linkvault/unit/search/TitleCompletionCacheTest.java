@@ -0,0 +1,81 @@
+package com.linkvault.unit.search;
+
+import com.linkvault.dto.LinkResponse;
+import com.linkvault.dto.LinkTitleCompletion;
+import com.linkvault.search.TitleCompletionCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TitleCompletionCacheTest {
+    private static final Long USER_ID = 1L;
+
+    private TitleCompletionCache cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        cache = new TitleCompletionCache(DataSize.ofMegabytes(1), Duration.ofMinutes(1));
+        loads = new AtomicInteger();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void shouldApplyChangesOnlyAfterCommit_WithoutReloading() {
+        // Arrange
+        cache.get(USER_ID, () -> 0, () -> load(new LinkTitleCompletion(1L, "Spring guide")));
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        cache.linksSaved(USER_ID, 1, List.of(link(2, "Spring security")));
+        cache.linksRemoved(USER_ID, 1, List.of(1L));
+        List<String> beforeCommit = complete("spring");
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.afterCommit();
+        }
+
+        // Assert
+        assertEquals(List.of("Spring guide"), beforeCommit);
+        assertEquals(List.of("Spring security"), complete("spring"));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void shouldNotBuildASnapshot_WhenChangesArriveForAnUnloadedUser() {
+        // Act
+        cache.linksSaved(USER_ID, 1, List.of(link(2, "Spring security")));
+        cache.get(USER_ID, () -> 0, () -> load(new LinkTitleCompletion(1L, "Spring guide")));
+
+        // Assert
+        assertEquals(1, loads.get());
+        assertEquals(List.of("Spring guide"), complete("spring"));
+    }
+
+    private List<String> complete(String prefix) {
+        return cache.get(USER_ID, () -> 0, List::of).complete(prefix, 10).stream().map(LinkTitleCompletion::title).toList();
+    }
+
+    private List<LinkTitleCompletion> load(LinkTitleCompletion... titles) {
+        loads.incrementAndGet();
+        return List.of(titles);
+    }
+
+    private static LinkResponse link(long id, String title) {
+        return new LinkResponse(id, "https://example.com/" + id, title, null, USER_ID);
+    }
+}
@@ -0,0 +1,86 @@
+package com.linkvault.unit.search;
+
+import com.linkvault.dto.LinkTitleCompletion;
+import com.linkvault.search.TitleCompletions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TitleCompletionsTest {
+    @Test
+    void shouldCompleteTitleStartsBeforeLaterWords() {
+        // Arrange
+        TitleCompletions completions = TitleCompletions.of(List.of(
+            title(1, "Learning Spring Boot"),
+            title(2, "Spring Security"),
+            title(3, "Spring Boot Reference"),
+            title(4, "Kotlin")
+        ));
+
+        // Act
+        List<LinkTitleCompletion> result = completions.complete("spr", 10);
+
+        // Assert
+        assertEquals(List.of("Spring Boot Reference", "Spring Security", "Learning Spring Boot"), titles(result));
+    }
+
+    @Test
+    void shouldMatchAcrossWords_IgnoringCaseAndPunctuation() {
+        // Arrange
+        TitleCompletions completions = TitleCompletions.of(List.of(
+            title(1, "Spring Boot: Reference"),
+            title(2, "Spring Security")
+        ));
+
+        // Act & Assert
+        assertEquals(List.of("Spring Boot: Reference"), titles(completions.complete("SPRING bo", 10)));
+        assertEquals(List.of("Spring Boot: Reference"), titles(completions.complete("boot ref", 10)));
+        assertTrue(completions.complete("?!", 10).isEmpty());
+    }
+
+    @Test
+    void shouldReturnEachTitleOnce_UpToTheLimit() {
+        // Arrange
+        TitleCompletions completions = TitleCompletions.of(List.of(
+            title(1, "Go"),
+            title(2, "Go"),
+            title(3, "Go by Example"),
+            title(4, "Go Tour")
+        ));
+
+        // Act
+        List<LinkTitleCompletion> result = completions.complete("go", 2);
+
+        // Assert
+        assertEquals(List.of("Go", "Go by Example"), titles(result));
+    }
+
+    @Test
+    void shouldReplaceAndRemoveTitles_WithoutChangingTheOriginal() {
+        // Arrange
+        TitleCompletions original = TitleCompletions.of(List.of(
+            title(1, "Spring Boot"),
+            title(2, "Spring Security")
+        ));
+
+        // Act
+        TitleCompletions changed = original.with(List.of(title(1, "Kotlin Coroutines")), Set.of(2L));
+
+        // Assert
+        assertTrue(changed.complete("spring", 10).isEmpty());
+        assertEquals(List.of(1L), changed.complete("cor", 10).stream().map(LinkTitleCompletion::linkId).toList());
+        assertEquals(2, original.complete("spring", 10).size());
+        assertEquals(changed.size(), changed.with(List.of(title(1, "Kotlin Coroutines")), Set.of(2L)).size());
+    }
+
+    private static LinkTitleCompletion title(long id, String title) {
+        return new LinkTitleCompletion(id, title);
+    }
+
+    private static List<String> titles(List<LinkTitleCompletion> completions) {
+        return completions.stream().map(LinkTitleCompletion::title).toList();
+    }
+}
@@ -0,0 +1,44 @@
+package com.linkvault.unit.search;
+
+import com.linkvault.exception.ExceptionMessages;
+import com.linkvault.exception.ServiceOverloadedException;
+import com.linkvault.repository.LinkRepository;
+import com.linkvault.repository.LinkTrigramRepository;
+import com.linkvault.search.TrigramIndex;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TrigramIndexTest {
+    @Mock
+    private LinkTrigramRepository linkTrigramRepository;
+    @Mock
+    private LinkRepository linkRepository;
+    @Mock
+    private EntityManager entityManager;
+
+    @Test
+    void shouldReportSearchOverload_WhenCandidateQueryTimesOut() {
+        // Arrange
+        TrigramIndex index = new TrigramIndex(linkTrigramRepository, linkRepository, entityManager, 200, 0.3);
+        when(linkTrigramRepository.findCandidates(eq(1L), anyCollection(), anyLong(), any()))
+            .thenThrow(new QueryTimeoutException("timed out"));
+
+        // Act
+        ServiceOverloadedException exception = assertThrows(ServiceOverloadedException.class,
+            () -> index.search(1L, "sprng", 10));
+
+        // Assert
+        assertEquals(ExceptionMessages.SEARCH_OVERLOADED, exception.getMessage());
+        assertEquals(1, exception.getRetryAfterSeconds());
+        verifyNoInteractions(linkRepository);
+    }
+}
@@ -0,0 +1,33 @@
+package com.linkvault.unit.search;
+
+import com.linkvault.dto.LinkResponse;
+import com.linkvault.search.Trigrams;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TrigramsTest {
+    @Test
+    void shouldPadEveryWord() {
+        assertEquals(Set.of("  g", " gi", "git", "it ", "  h", " hu", "hub", "ub "), Trigrams.of("Git Hub"));
+    }
+
+    @Test
+    void shouldIndexTitleAndUrlWithoutSchemeOrDescription() {
+        // Arrange
+        LinkResponse link = new LinkResponse(1L, "https://www.go.dev", "Go", "Tutorial", 1L);
+
+        // Act
+        Set<String> trigrams = Trigrams.of(link);
+
+        // Assert
+        assertEquals(Set.of("  g", " go", "go ", "  d", " de", "dev", "ev "), trigrams);
+    }
+
+    @Test
+    void shouldReturnNothing_ForTextWithoutWords() {
+        assertTrue(Trigrams.of("?! --").isEmpty());
+    }
+}
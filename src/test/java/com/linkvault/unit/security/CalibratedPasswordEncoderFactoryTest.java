@@ -0,0 +1,51 @@
+package com.linkvault.unit.security;
+
+import com.linkvault.security.CalibratedPasswordEncoderFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CalibratedPasswordEncoderFactoryTest {
+    private static final String RAW_PASSWORD = "validPassword1@";
+
+    @Test
+    void calibrate_ShouldStayAtMinimum_WhenTargetIsZero() {
+        assertEquals(4, CalibratedPasswordEncoderFactory.calibrate(0, 4, 12));
+    }
+
+    @Test
+    void calibrate_ShouldNotExceedMaximum() {
+        assertEquals(6, CalibratedPasswordEncoderFactory.calibrate(Long.MAX_VALUE, 4, 6));
+    }
+
+    @Test
+    void create_ShouldPrefixHashesWithEncoderId() {
+        PasswordEncoder encoder = CalibratedPasswordEncoderFactory.create(0, 4, 4);
+
+        String hash = encoder.encode(RAW_PASSWORD);
+
+        assertTrue(hash.startsWith("{bcrypt}"));
+        assertTrue(encoder.matches(RAW_PASSWORD, hash));
+        assertFalse(encoder.upgradeEncoding(hash));
+    }
+
+    @Test
+    void create_ShouldMatchAndUpgradeLegacyUnprefixedHashes() {
+        PasswordEncoder encoder = CalibratedPasswordEncoderFactory.create(0, 4, 4);
+        String legacyHash = new BCryptPasswordEncoder(4).encode(RAW_PASSWORD);
+
+        assertTrue(encoder.matches(RAW_PASSWORD, legacyHash));
+        assertTrue(encoder.upgradeEncoding(legacyHash));
+    }
+
+    @Test
+    void create_ShouldUpgradeHashesWithLowerCost() {
+        PasswordEncoder encoder = CalibratedPasswordEncoderFactory.create(0, 5, 5);
+        String weakerHash = "{bcrypt}" + new BCryptPasswordEncoder(4).encode(RAW_PASSWORD);
+
+        assertTrue(encoder.matches(RAW_PASSWORD, weakerHash));
+        assertTrue(encoder.upgradeEncoding(weakerHash));
+    }
+}
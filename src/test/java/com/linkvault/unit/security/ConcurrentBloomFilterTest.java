@@ -0,0 +1,53 @@
+package com.linkvault.unit.security;
+
+import com.linkvault.security.ConcurrentBloomFilter;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConcurrentBloomFilterTest {
+    @Test
+    void shouldContainEveryInsertedValue() {
+        // Arrange
+        ConcurrentBloomFilter filter = new ConcurrentBloomFilter(1_000, 0.01);
+        String[] values = new String[1_000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = UUID.randomUUID().toString();
+            filter.put(values[i]);
+        }
+
+        // Assert
+        for (String value : values) {
+            assertTrue(filter.mightContain(value));
+        }
+    }
+
+    @Test
+    void shouldKeepFalsePositivesNearConfiguredRate() {
+        // Arrange
+        ConcurrentBloomFilter filter = new ConcurrentBloomFilter(1_000, 0.01);
+        for (int i = 0; i < 1_000; i++) {
+            filter.put("revoked-" + i);
+        }
+
+        // Act
+        int falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (filter.mightContain("active-" + i)) {
+                falsePositives++;
+            }
+        }
+
+        // Assert
+        assertTrue(falsePositives < 300, "false positives: " + falsePositives);
+    }
+
+    @Test
+    void shouldReportNothing_WhenEmpty() {
+        ConcurrentBloomFilter filter = new ConcurrentBloomFilter(100, 0.01);
+
+        assertFalse(filter.mightContain("anything"));
+    }
+}
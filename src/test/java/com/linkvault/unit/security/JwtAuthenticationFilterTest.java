@@ -1,9 +1,16 @@
 package com.linkvault.unit.security;
 
+import com.linkvault.model.Role;
+import com.linkvault.security.AuthenticatedUser;
 import com.linkvault.security.JwtAuthenticationFilter;
 import com.linkvault.security.JwtUtils;
+import com.linkvault.security.TokenRevocationList;
+import com.linkvault.security.VerifiedTokenCache;
 import com.linkvault.unit.util.TestConstants;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.MalformedJwtException;
 import jakarta.servlet.FilterChain;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -14,12 +21,11 @@ import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 
-import java.util.List;
+import java.util.Date;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -28,7 +34,7 @@ public class JwtAuthenticationFilterTest {
     @Mock
     private JwtUtils jwtUtils;
     @Mock
-    private UserDetailsService userDetailsService;
+    private TokenRevocationList revocationList;
     @Mock
     private FilterChain filterChain;
     private JwtAuthenticationFilter jwtAuthenticationFilter;
@@ -38,7 +44,9 @@ public class JwtAuthenticationFilterTest {
 
     @BeforeEach
     void setUp() {
-        jwtAuthenticationFilter = new JwtAuthenticationFilter(jwtUtils, userDetailsService);
+        jwtAuthenticationFilter = new JwtAuthenticationFilter(
+            jwtUtils, new VerifiedTokenCache(100), revocationList
+        );
         request = new MockHttpServletRequest();
         response = new MockHttpServletResponse();
         SecurityContextHolder.clearContext();
@@ -51,13 +59,14 @@ public class JwtAuthenticationFilterTest {
         String username = "user";
 
         request.addHeader(TestConstants.AUTHORIZATION, TestConstants.BEARER + token);
-        UserDetails userDetails = new org.springframework.security.core.userdetails.User(
-            username, "password", List.of()
-        );
+        Claims claims = Jwts.claims()
+            .subject(username)
+            .add(JwtUtils.USER_ID_CLAIM, 5L)
+            .add(JwtUtils.ROLE_CLAIM, Role.USER.name())
+            .add(JwtUtils.SESSION_ID_CLAIM, "session-5")
+            .build();
 
-        when(jwtUtils.validateToken(token)).thenReturn(true);
-        when(jwtUtils.extractUsername(token)).thenReturn(username);
-        when(userDetailsService.loadUserByUsername(username)).thenReturn(userDetails);
+        when(jwtUtils.parseClaims(token)).thenReturn(claims);
 
         // Act
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
@@ -67,8 +76,63 @@ public class JwtAuthenticationFilterTest {
 
         assertNotNull(authentication);
         assertEquals(username, authentication.getName());
+        AuthenticatedUser principal = (AuthenticatedUser) authentication.getPrincipal();
+        assertEquals(5L, principal.id());
+        assertEquals(Role.USER, principal.role());
+        verify(filterChain).doFilter(request, response);
+        verify(jwtUtils).parseClaims(token);
+    }
+
+    @Test
+    void shouldVerifyTokenOnlyOnce_WhenTokenIsReused() throws Exception {
+        // Arrange
+        String token = "reused.token.value";
+        Claims claims = Jwts.claims()
+            .subject("user")
+            .add(JwtUtils.USER_ID_CLAIM, 5L)
+            .add(JwtUtils.ROLE_CLAIM, Role.USER.name())
+            .add(JwtUtils.SESSION_ID_CLAIM, "session-5")
+            .expiration(new Date(System.currentTimeMillis() + 60_000))
+            .build();
+
+        request.addHeader(TestConstants.AUTHORIZATION, TestConstants.BEARER + token);
+        when(jwtUtils.parseClaims(token)).thenReturn(claims);
+
+        // Act
+        jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
+        SecurityContextHolder.clearContext();
+        jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
+
+        // Assert
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        assertNotNull(authentication);
+        assertEquals("user", authentication.getName());
+        verify(jwtUtils, times(1)).parseClaims(token);
+        verify(filterChain, times(2)).doFilter(request, response);
+    }
+
+    @Test
+    void shouldNotSetAuthentication_WhenSessionIsRevoked() throws Exception {
+        // Arrange
+        String token = "revoked.token.value";
+        Claims claims = Jwts.claims()
+            .subject("user")
+            .add(JwtUtils.USER_ID_CLAIM, 5L)
+            .add(JwtUtils.ROLE_CLAIM, Role.USER.name())
+            .add(JwtUtils.SESSION_ID_CLAIM, "revoked-session")
+            .build();
+
+        request.addHeader(TestConstants.AUTHORIZATION, TestConstants.BEARER + token);
+        when(jwtUtils.parseClaims(token)).thenReturn(claims);
+        when(revocationList.isRevoked("revoked-session")).thenReturn(true);
+
+        // Act
+        jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
+
+        // Assert
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
         verify(filterChain).doFilter(request, response);
-        verify(jwtUtils).validateToken(token);
     }
 
     @Test
@@ -77,7 +141,7 @@ public class JwtAuthenticationFilterTest {
         String token = "invalid.token.value";
 
         request.addHeader(TestConstants.AUTHORIZATION, TestConstants.BEARER + token);
-        when(jwtUtils.validateToken(token)).thenReturn(false);
+        when(jwtUtils.parseClaims(token)).thenThrow(new MalformedJwtException("Invalid token"));
 
         // Act
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
@@ -87,7 +151,7 @@ public class JwtAuthenticationFilterTest {
 
         assertNull(authentication);
         verify(filterChain).doFilter(request, response);
-        verify(jwtUtils).validateToken(token);
+        verify(jwtUtils).parseClaims(token);
     }
 
     @Test
@@ -96,7 +160,7 @@ public class JwtAuthenticationFilterTest {
         String token = "";
 
         request.addHeader(TestConstants.AUTHORIZATION, TestConstants.BEARER + token);
-        when(jwtUtils.validateToken(token)).thenReturn(false);
+        when(jwtUtils.parseClaims(token)).thenThrow(new IllegalArgumentException("Empty token"));
 
         // Act
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
@@ -106,7 +170,7 @@ public class JwtAuthenticationFilterTest {
 
         assertNull(authentication);
         verify(filterChain).doFilter(request, response);
-        verify(jwtUtils).validateToken(token);
+        verify(jwtUtils).parseClaims(token);
     }
 
     @Test
@@ -130,7 +194,25 @@ public class JwtAuthenticationFilterTest {
         String token = "expired.token.value";
 
         request.addHeader(TestConstants.AUTHORIZATION, TestConstants.BEARER + token);
-        when(jwtUtils.validateToken(token)).thenThrow(new ExpiredJwtException(null, null, "Token expired"));
+        when(jwtUtils.parseClaims(token)).thenThrow(new ExpiredJwtException(null, null, "Token expired"));
+
+        // Act
+        jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
+
+        // Assert
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        assertNull(authentication);
+        verify(filterChain).doFilter(request, response);
+    }
+
+    @Test
+    void shouldNotSetAuthentication_WhenTokenIsMissingUserClaims() throws Exception {
+        // Arrange
+        String token = "legacy.token.value";
+
+        request.addHeader(TestConstants.AUTHORIZATION, TestConstants.BEARER + token);
+        when(jwtUtils.parseClaims(token)).thenReturn(Jwts.claims().subject("user").build());
 
         // Act
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
@@ -175,7 +257,7 @@ public class JwtAuthenticationFilterTest {
         String token = "invalid.token";
         request.addHeader(TestConstants.AUTHORIZATION, TestConstants.BEARER + token);
 
-        when(jwtUtils.validateToken(token)).thenReturn(false);
+        when(jwtUtils.parseClaims(token)).thenThrow(new MalformedJwtException("Malformed token"));
 
         // Act
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
@@ -185,7 +267,7 @@ public class JwtAuthenticationFilterTest {
 
         assertNull(authentication);
         verify(filterChain).doFilter(request, response);
-        verify(jwtUtils).validateToken(token);
+        verify(jwtUtils).parseClaims(token);
     }
 
     @Test
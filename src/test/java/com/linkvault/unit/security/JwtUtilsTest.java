@@ -1,6 +1,10 @@
 package com.linkvault.unit.security;
 
+import com.linkvault.model.Role;
+import com.linkvault.security.AuthenticatedUser;
 import com.linkvault.security.JwtUtils;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -10,6 +14,8 @@ public class JwtUtilsTest {
     private JwtUtils jwtUtils;
     private String token;
     private static final String TEST_USER = "testuser";
+    private static final Long TEST_USER_ID = 7L;
+    private static final String TEST_SESSION_ID = "session-7";
 
     @BeforeEach
     void setUp(){
@@ -17,7 +23,7 @@ public class JwtUtilsTest {
         // 1 hour
         long testExpiration = 1000L * 60 * 60;
         jwtUtils = new JwtUtils(testSecret, testExpiration);
-        this.token = jwtUtils.generateToken(TEST_USER);
+        this.token = jwtUtils.generateToken(TEST_USER_ID, TEST_USER, Role.USER, TEST_SESSION_ID);
     }
 
     @Test
@@ -26,17 +32,25 @@ public class JwtUtilsTest {
     }
 
     @Test
-    void generateToken_ShouldReturnTrue_ForValidToken() {
-        assertTrue(jwtUtils.validateToken(token));
+    void parseClaims_ShouldReturnVerifiedClaims() {
+        Claims claims = jwtUtils.parseClaims(token);
+
+        assertEquals(TEST_USER, claims.getSubject());
+        assertNotNull(claims.getExpiration());
     }
 
     @Test
-    void generateToken_ShouldReturnFalse_ForInvalidToken() {
-        assertFalse(jwtUtils.validateToken("invalid.token.here"));
+    void generateToken_ShouldEmbedUserIdAndRole() {
+        AuthenticatedUser user = AuthenticatedUser.fromClaims(jwtUtils.parseClaims(token));
+
+        assertEquals(TEST_USER_ID, user.id());
+        assertEquals(TEST_USER, user.username());
+        assertEquals(Role.USER, user.role());
+        assertEquals(TEST_SESSION_ID, user.sessionId());
     }
 
     @Test
-    void extractUsername_ShouldReturnCorrectUsername() {
-        assertEquals(TEST_USER, jwtUtils.extractUsername(token));
+    void parseClaims_ShouldThrow_ForInvalidToken() {
+        assertThrows(JwtException.class, () -> jwtUtils.parseClaims("invalid.token.here"));
     }
 }
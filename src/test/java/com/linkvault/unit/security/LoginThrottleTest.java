@@ -0,0 +1,75 @@
+package com.linkvault.unit.security;
+
+import com.linkvault.exception.TooManyLoginAttemptsException;
+import com.linkvault.security.LoginThrottle;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LoginThrottleTest {
+    private static final String ADDRESS = "10.0.0.1";
+
+    private AtomicLong clock;
+    private LoginThrottle loginThrottle;
+
+    @BeforeEach
+    void setUp() {
+        clock = new AtomicLong(0L);
+        loginThrottle = new LoginThrottle(
+            new LoginThrottle.Policy(3, Duration.ofSeconds(10)),
+            new LoginThrottle.Policy(5, Duration.ofSeconds(1)),
+            1_000,
+            Duration.ofMinutes(15),
+            clock::get
+        );
+    }
+
+    @Test
+    void shouldAllowBurstUpToCapacity_ThenRejectWithRetryAfter() {
+        for (int i = 0; i < 3; i++) {
+            loginThrottle.acquire("eddie", ADDRESS);
+        }
+
+        TooManyLoginAttemptsException exception = assertThrows(
+            TooManyLoginAttemptsException.class,
+            () -> loginThrottle.acquire("eddie", ADDRESS)
+        );
+        assertEquals(10, exception.getRetryAfterSeconds());
+    }
+
+    @Test
+    void shouldRefillToken_AfterRefillInterval() {
+        for (int i = 0; i < 3; i++) {
+            loginThrottle.acquire("eddie", "10.0.0." + i);
+        }
+
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+
+        assertDoesNotThrow(() -> loginThrottle.acquire("eddie", ADDRESS));
+    }
+
+    @Test
+    void shouldThrottleUsernameCaseInsensitively() {
+        loginThrottle.acquire("Eddie", "10.0.0.2");
+        loginThrottle.acquire("EDDIE", "10.0.0.3");
+        loginThrottle.acquire("eddie", "10.0.0.4");
+
+        assertThrows(TooManyLoginAttemptsException.class, () ->
+            loginThrottle.acquire("eDdIe", "10.0.0.5"));
+    }
+
+    @Test
+    void shouldThrottleClientAddress_AcrossUsernames() {
+        for (int i = 0; i < 5; i++) {
+            loginThrottle.acquire("user" + i, ADDRESS);
+        }
+
+        assertThrows(TooManyLoginAttemptsException.class, () ->
+            loginThrottle.acquire("another", ADDRESS));
+        assertDoesNotThrow(() -> loginThrottle.acquire("another", "10.0.0.9"));
+    }
+}
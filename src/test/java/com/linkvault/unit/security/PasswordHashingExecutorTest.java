@@ -0,0 +1,64 @@
+package com.linkvault.unit.security;
+
+import com.linkvault.exception.ServiceOverloadedException;
+import com.linkvault.security.PasswordHashingExecutor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PasswordHashingExecutorTest {
+    private PasswordHashingExecutor executor;
+    private CountDownLatch release;
+
+    @BeforeEach
+    void setUp() {
+        executor = new PasswordHashingExecutor(1, 1, 2);
+        release = new CountDownLatch(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdown();
+    }
+
+    @Test
+    void shouldCompleteSubmittedTask() throws Exception {
+        CompletableFuture<String> result = executor.submit(() -> "hashed");
+
+        assertEquals("hashed", result.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void shouldRejectWithRetryAfter_WhenPoolAndQueueAreFull() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+
+        executor.submit(() -> {
+            started.countDown();
+            awaitRelease();
+            return null;
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        executor.submit(() -> null);
+
+        ServiceOverloadedException exception = assertThrows(
+            ServiceOverloadedException.class,
+            () -> executor.submit(() -> null)
+        );
+        assertEquals(2, exception.getRetryAfterSeconds());
+    }
+
+    private void awaitRelease() {
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
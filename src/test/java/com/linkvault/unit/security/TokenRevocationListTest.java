@@ -0,0 +1,104 @@
+package com.linkvault.unit.security;
+
+import com.linkvault.model.RevokedSession;
+import com.linkvault.repository.RevokedSessionRepository;
+import com.linkvault.security.TokenRevocationList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class TokenRevocationListTest {
+    @Mock
+    private RevokedSessionRepository repository;
+    private TokenRevocationList revocationList;
+
+    @BeforeEach
+    void setUp() {
+        revocationList = new TokenRevocationList(repository, 100);
+    }
+
+    @Test
+    void shouldReportRevokedSession_AfterRevoke() {
+        // Act
+        revocationList.revoke("session-1", Instant.now().plusSeconds(60));
+
+        // Assert
+        assertTrue(revocationList.isRevoked("session-1"));
+        assertFalse(revocationList.isRevoked("session-2"));
+        verify(repository).save(any(RevokedSession.class));
+    }
+
+    @Test
+    void shouldIgnoreRevocation_AfterItExpires() {
+        // Act
+        revocationList.revoke("session-1", Instant.now().minusSeconds(1));
+
+        // Assert
+        assertFalse(revocationList.isRevoked("session-1"));
+    }
+
+    @Test
+    void shouldApplyRevocation_OnlyOnceTransactionCommits() {
+        // Arrange
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // Act
+            revocationList.revoke("committed", Instant.now().plusSeconds(60));
+            revocationList.revoke("rolled-back", Instant.now().plusSeconds(60));
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+
+            // Assert
+            assertFalse(revocationList.isRevoked("committed"));
+            synchronizations.getFirst().afterCommit();
+            assertTrue(revocationList.isRevoked("committed"));
+            assertFalse(revocationList.isRevoked("rolled-back"));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void shouldKeepRevocationAppliedDuringReload() {
+        // Arrange: the revocation commits after the reload has read the table
+        when(repository.findByExpiresAtAfter(any(Instant.class))).thenAnswer(invocation -> {
+            revocationList.revoke("during-reload", Instant.now().plusSeconds(60));
+            return List.of();
+        });
+
+        // Act
+        revocationList.reload();
+
+        // Assert
+        assertTrue(revocationList.isRevoked("during-reload"));
+    }
+
+    @Test
+    void shouldReplaceEntriesWithTableContents_OnReload() {
+        // Arrange
+        revocationList.revoke("local-session", Instant.now().plusSeconds(60));
+        when(repository.findByExpiresAtAfter(any(Instant.class))).thenReturn(
+            List.of(new RevokedSession("remote-session", Instant.now().plusSeconds(60)))
+        );
+
+        // Act
+        revocationList.reload();
+
+        // Assert
+        assertTrue(revocationList.isRevoked("remote-session"));
+        assertFalse(revocationList.isRevoked("local-session"));
+        verify(repository).deleteExpired(any(Instant.class));
+    }
+}
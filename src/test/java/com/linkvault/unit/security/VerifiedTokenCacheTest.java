@@ -0,0 +1,78 @@
+package com.linkvault.unit.security;
+
+import com.linkvault.model.Role;
+import com.linkvault.security.AuthenticatedUser;
+import com.linkvault.security.JwtUtils;
+import com.linkvault.security.VerifiedTokenCache;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class VerifiedTokenCacheTest {
+    private VerifiedTokenCache tokenCache;
+    private AtomicInteger verifications;
+
+    @BeforeEach
+    void setUp() {
+        tokenCache = new VerifiedTokenCache(100);
+        verifications = new AtomicInteger();
+    }
+
+    @Test
+    void shouldReturnCachedPrincipal_WhenTokenIsSeenAgain() {
+        Claims claims = buildClaims(new Date(System.currentTimeMillis() + 60_000));
+
+        AuthenticatedUser first = tokenCache.get("token", token -> countAndReturn(claims));
+        AuthenticatedUser second = tokenCache.get("token", token -> countAndReturn(claims));
+
+        assertEquals(first, second);
+        assertEquals(1, verifications.get());
+        assertEquals(1, tokenCache.stats().hitCount());
+        assertEquals(1, tokenCache.stats().missCount());
+    }
+
+    @Test
+    void shouldVerifyAgain_WhenCachedTokenHasExpired() {
+        Claims claims = buildClaims(new Date(System.currentTimeMillis() - 1_000));
+
+        tokenCache.get("token", token -> countAndReturn(claims));
+        tokenCache.get("token", token -> countAndReturn(claims));
+
+        assertEquals(2, verifications.get());
+    }
+
+    @Test
+    void shouldNotCache_WhenVerificationFails() {
+        assertThrows(ExpiredJwtException.class, () -> tokenCache.get("token", token -> {
+            verifications.incrementAndGet();
+            throw new ExpiredJwtException(null, null, "Token expired");
+        }));
+
+        Claims claims = buildClaims(new Date(System.currentTimeMillis() + 60_000));
+        tokenCache.get("token", token -> countAndReturn(claims));
+
+        assertEquals(2, verifications.get());
+    }
+
+    private Claims countAndReturn(Claims claims) {
+        verifications.incrementAndGet();
+        return claims;
+    }
+
+    private static Claims buildClaims(Date expiration) {
+        return Jwts.claims()
+            .subject("user")
+            .add(JwtUtils.USER_ID_CLAIM, 3L)
+            .add(JwtUtils.ROLE_CLAIM, Role.USER.name())
+            .add(JwtUtils.SESSION_ID_CLAIM, "session-1")
+            .expiration(expiration)
+            .build();
+    }
+}
@@ -0,0 +1,138 @@
+package com.linkvault.unit.service;
+
+import com.linkvault.model.User;
+import com.linkvault.repository.UserRepository;
+import com.linkvault.security.SecurityUser;
+import com.linkvault.security.UserDetailsCache;
+import com.linkvault.service.CustomUserDetailsService;
+import com.linkvault.unit.util.TestDataFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class CustomUserDetailsServiceTest {
+    @Mock
+    private UserRepository userRepository;
+    private UserDetailsCache userDetailsCache;
+    private CustomUserDetailsService userDetailsService;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        userDetailsCache = new UserDetailsCache(100, Duration.ofMinutes(10));
+        userDetailsService = new CustomUserDetailsService(userRepository, userDetailsCache);
+        user = TestDataFactory.createTestUser();
+    }
+
+    @Test
+    void shouldQueryRepositoryOnce_WhenUserIsLoadedRepeatedly() {
+        // Arrange
+        when(userRepository.findByUsername(user.getUsername())).thenReturn(Optional.of(user));
+
+        // Act
+        UserDetails first = userDetailsService.loadUserByUsername(user.getUsername());
+        UserDetails second = userDetailsService.loadUserByUsername(user.getUsername());
+
+        // Assert
+        assertEquals(user.getPassword(), first.getPassword());
+        assertEquals(user.getPassword(), second.getPassword());
+        assertEquals(user.getId(), ((SecurityUser) second).getId());
+        verify(userRepository, times(1)).findByUsername(user.getUsername());
+    }
+
+    @Test
+    void shouldKeepCachedPassword_WhenReturnedCredentialsAreErased() {
+        // Arrange
+        when(userRepository.findByUsername(user.getUsername())).thenReturn(Optional.of(user));
+
+        // Act
+        SecurityUser first = (SecurityUser) userDetailsService.loadUserByUsername(user.getUsername());
+        first.eraseCredentials();
+        UserDetails second = userDetailsService.loadUserByUsername(user.getUsername());
+
+        // Assert
+        assertEquals(user.getPassword(), second.getPassword());
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void shouldEvictAgainAfterTransactionCompletes() {
+        // Arrange
+        TransactionSynchronizationManager.initSynchronization();
+        when(userRepository.findByUsername(user.getUsername())).thenReturn(Optional.of(user));
+        userDetailsService.loadUserByUsername(user.getUsername());
+
+        // Act: a writer evicts, then a login reloads the old row before the commit lands
+        userDetailsCache.evict(user.getUsername());
+        userDetailsService.loadUserByUsername(user.getUsername());
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+        }
+        userDetailsService.loadUserByUsername(user.getUsername());
+
+        // Assert
+        verify(userRepository, times(3)).findByUsername(user.getUsername());
+    }
+
+    @Test
+    void shouldReloadFromRepository_WhenUserIsEvicted() {
+        // Arrange
+        when(userRepository.findByUsername(user.getUsername())).thenReturn(Optional.of(user));
+
+        // Act
+        userDetailsService.loadUserByUsername(user.getUsername());
+        userDetailsCache.evict(user.getUsername());
+        userDetailsService.loadUserByUsername(user.getUsername());
+
+        // Assert
+        verify(userRepository, times(2)).findByUsername(user.getUsername());
+    }
+
+    @Test
+    void shouldStoreNewHashAndEvictCache_WhenPasswordIsUpgraded() {
+        // Arrange
+        when(userRepository.findByUsername(user.getUsername())).thenReturn(Optional.of(user));
+        UserDetails loaded = userDetailsService.loadUserByUsername(user.getUsername());
+
+        // Act
+        UserDetails upgraded = userDetailsService.updatePassword(loaded, "{bcrypt}newHash");
+
+        // Assert
+        assertEquals("{bcrypt}newHash", upgraded.getPassword());
+        assertEquals(user.getId(), ((SecurityUser) upgraded).getId());
+        verify(userRepository).updatePassword(user.getUsername(), "{bcrypt}newHash");
+
+        userDetailsService.loadUserByUsername(user.getUsername());
+        verify(userRepository, times(2)).findByUsername(user.getUsername());
+    }
+
+    @Test
+    void shouldThrowUsernameNotFoundException_WhenUserDoesNotExist() {
+        // Arrange
+        when(userRepository.findByUsername("ghost")).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(UsernameNotFoundException.class, () ->
+            userDetailsService.loadUserByUsername("ghost"));
+    }
+}
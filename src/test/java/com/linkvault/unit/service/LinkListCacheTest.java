@@ -0,0 +1,107 @@
+package com.linkvault.unit.service;
+
+import com.linkvault.dto.LinkRow;
+import com.linkvault.service.LinkListCache;
+import com.linkvault.service.LinkListCache.CachedLinks;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LinkListCacheTest {
+    private static final Long USER_ID = 1L;
+
+    private LinkListCache cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        cache = new LinkListCache(DataSize.ofMegabytes(1), 2, Duration.ofMinutes(1));
+        loads = new AtomicInteger();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void shouldLoadOnce_AndServeLaterReadsFromCache() {
+        CachedLinks first = cache.get(USER_ID, limit -> load(rows(2)));
+        CachedLinks second = cache.get(USER_ID, limit -> load(rows(2)));
+
+        assertTrue(first.complete());
+        assertEquals(2, second.rows().size());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void shouldAskForOneRowMoreThanTheCap_AndMarkLargerListsIncomplete() {
+        CachedLinks cached = cache.get(USER_ID, limit -> {
+            assertEquals(3, limit);
+            return load(rows(3));
+        });
+
+        assertFalse(cached.complete());
+        assertTrue(cached.rows().isEmpty());
+        cache.get(USER_ID, limit -> load(rows(3)));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void shouldInvalidateAgainAfterTransactionCompletes() {
+        // Arrange
+        TransactionSynchronizationManager.initSynchronization();
+        cache.get(USER_ID, limit -> load(rows(1)));
+
+        // Act: a writer invalidates, then a reader reloads before the commit lands
+        cache.invalidate(USER_ID);
+        cache.get(USER_ID, limit -> load(rows(1)));
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+        }
+        cache.get(USER_ID, limit -> load(rows(2)));
+
+        // Assert
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    void shouldPublishHitAndMissMetrics() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        cache.bindTo(registry);
+
+        cache.get(USER_ID, limit -> load(rows(1)));
+        cache.get(USER_ID, limit -> load(rows(1)));
+
+        assertEquals(1.0, registry.get("cache.gets").tag("cache", LinkListCache.CACHE_NAME)
+            .tag("result", "hit").functionCounter().count());
+        assertEquals(1.0, registry.get("cache.gets").tag("cache", LinkListCache.CACHE_NAME)
+            .tag("result", "miss").functionCounter().count());
+    }
+
+    private List<LinkRow> load(List<LinkRow> rows) {
+        loads.incrementAndGet();
+        return rows;
+    }
+
+    private static List<LinkRow> rows(int count) {
+        LocalDateTime createdAt = LocalDateTime.of(2025, 1, 1, 12, 0);
+        return LongStream.rangeClosed(1, count)
+            .mapToObj(id -> new LinkRow(id, "https://example.com/" + id, "Link " + id, null, USER_ID, createdAt))
+            .toList();
+    }
+}
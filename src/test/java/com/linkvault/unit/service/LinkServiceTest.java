@@ -1,29 +1,66 @@
 package com.linkvault.unit.service;
 
+import com.linkvault.dto.BulkLinkError;
+import com.linkvault.dto.BulkLinkResponse;
+import com.linkvault.dto.CreatedLinkResponse;
+import com.linkvault.dto.LinkCursor;
+import com.linkvault.dto.LinkPageResponse;
 import com.linkvault.dto.LinkRequest;
 import com.linkvault.dto.LinkResponse;
+import com.linkvault.dto.LinkPatchRequest;
+import com.linkvault.dto.LinkRow;
+import com.linkvault.dto.LinkSearchResult;
+import com.linkvault.dto.LinkTitleCompletion;
+import com.linkvault.dto.VersionedLinkResponse;
+import com.linkvault.dto.LinksDeletedResponse;
+import com.linkvault.dto.LinksTaggedResponse;
+import com.linkvault.dto.TaggedLinksResponse;
 import com.linkvault.exception.*;
+import com.linkvault.mapper.LinkMapper;
 import com.linkvault.model.Link;
 import com.linkvault.model.User;
 import com.linkvault.repository.LinkRepository;
+import com.linkvault.repository.LinkTagRepository;
+import com.linkvault.repository.TagRepository;
 import com.linkvault.repository.UserRepository;
+import com.linkvault.search.LinkSearchIndexCache;
+import com.linkvault.search.TagAssignment;
+import com.linkvault.search.TagIndexCache;
+import com.linkvault.search.TitleCompletionCache;
+import com.linkvault.search.TrigramIndex;
 import com.linkvault.service.LinkService;
+import com.linkvault.service.LinkListCache;
 import com.linkvault.service.LinkServiceImpl;
 import com.linkvault.unit.util.TestDataFactory;
+import com.linkvault.util.UrlCanonicalizer;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static com.linkvault.unit.util.TestDataFactory.*;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.AdditionalMatchers.aryEq;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -32,6 +69,14 @@ public class LinkServiceTest {
     private LinkRepository linkRepository;
     @Mock
     private UserRepository userRepository;
+    @Mock
+    private EntityManager entityManager;
+    @Mock
+    private TrigramIndex trigramIndex;
+    @Mock
+    private LinkTagRepository linkTagRepository;
+    @Mock
+    private TagRepository tagRepository;
     private LinkService linkService;
     private User user;
     private Link link1;
@@ -40,9 +85,12 @@ public class LinkServiceTest {
     private LinkRequest linkRequest;
     private LinkRequest linkRequestTwo;
 
+    private static final int CACHED_LINKS_PER_USER = 1000;
+    private static final Limit CACHE_LOAD_LIMIT = Limit.of(CACHED_LINKS_PER_USER + 1);
+
     @BeforeEach
     void setUp() {
-        linkService = new LinkServiceImpl(linkRepository, userRepository);
+        linkService = serviceCachingUpTo(CACHED_LINKS_PER_USER);
         user = TestDataFactory.createTestUser();
         link1 = TestDataFactory.createLink1();
         link2 = TestDataFactory.createLink2();
@@ -53,10 +101,10 @@ public class LinkServiceTest {
     @Test
     void shouldReturnListOfLinkResponsesWhenUserHasLinks() {
         // Arrange
-        when(linkRepository.findByUserId(user.getId())).thenReturn(List.of(link1, link2));
+        when(linkRepository.findFirstPage(user.getId(), CACHE_LOAD_LIMIT)).thenReturn(List.of(row(link1), row(link2)));
 
         // Act
-        List<LinkResponse> result = linkService.getAllLinksForUser(user.getId());
+        List<LinkResponse> result = linkService.getLinksPage(user.getId(), null, 10).items();
 
         // Assert
         assertEquals(2, result.size());
@@ -67,34 +115,259 @@ public class LinkServiceTest {
         assertEquals(link2.getTitle(), result.get(1).title());
         assertEquals(link2.getUrl(), result.get(1).url());
 
-        verify(linkRepository).findByUserId(user.getId());
+        verify(linkRepository).findFirstPage(user.getId(), CACHE_LOAD_LIMIT);
+        verify(linkRepository, never()).findResponsesByUserId(any());
+    }
+
+    @Test
+    void shouldServeRepeatedReadsFromCache_UntilLinksChange() {
+        // Arrange
+        when(linkRepository.findFirstPage(user.getId(), CACHE_LOAD_LIMIT)).thenReturn(List.of(row(link1)));
+        when(linkRepository.deleteByIdAndUserId(link1.getId(), user.getId())).thenReturn(1);
+
+        // Act
+        linkService.getLinksPage(user.getId(), null, 10);
+        linkService.getLinksPage(user.getId(), null, 10);
+        linkService.deleteLink(link1.getId(), user.getId());
+        linkService.getLinksPage(user.getId(), null, 10);
+
+        // Assert
+        verify(linkRepository, times(2)).findFirstPage(user.getId(), CACHE_LOAD_LIMIT);
+    }
+
+    @Test
+    void shouldReadFromDatabase_WhenUserHasTooManyLinksToCache() {
+        // Arrange
+        linkService = serviceCachingUpTo(1);
+        when(linkRepository.findFirstPage(user.getId(), Limit.of(2))).thenReturn(List.of(row(link1), row(link2)));
+        when(linkRepository.findFirstPage(user.getId(), Limit.of(11))).thenReturn(List.of(row(link1), row(link2)));
+
+        // Act
+        List<LinkResponse> first = linkService.getLinksPage(user.getId(), null, 10).items();
+        List<LinkResponse> second = linkService.getLinksPage(user.getId(), null, 10).items();
+
+        // Assert
+        assertEquals(2, first.size());
+        assertEquals(first, second);
+        verify(linkRepository, times(1)).findFirstPage(user.getId(), Limit.of(2));
+        verify(linkRepository, times(2)).findFirstPage(user.getId(), Limit.of(11));
+    }
+
+    @Test
+    void shouldReturnNextCursor_WhenMoreLinksThanLimit() {
+        // Arrange
+        LocalDateTime createdAt = LocalDateTime.of(2025, 1, 1, 12, 0);
+        link1.setCreatedAt(createdAt);
+        link2.setCreatedAt(createdAt);
+        when(linkRepository.findFirstPage(user.getId(), CACHE_LOAD_LIMIT)).thenReturn(List.of(row(link1), row(link2)));
+
+        // Act
+        LinkPageResponse page = linkService.getLinksPage(user.getId(), null, 1);
+
+        // Assert
+        assertEquals(1, page.items().size());
+        assertEquals(link1.getId(), page.items().getFirst().id());
+        assertEquals(new LinkCursor(createdAt, link1.getId()), LinkCursor.decode(page.next()));
+    }
+
+    @Test
+    void shouldSliceCachedListPastCursor_AndOmitNextOnLastPage() {
+        // Arrange
+        LocalDateTime createdAt = LocalDateTime.of(2025, 1, 1, 12, 0);
+        link1.setCreatedAt(createdAt);
+        link2.setCreatedAt(createdAt);
+        String cursor = new LinkCursor(createdAt, link1.getId()).encode();
+        when(linkRepository.findFirstPage(user.getId(), CACHE_LOAD_LIMIT)).thenReturn(List.of(row(link1), row(link2)));
+
+        // Act
+        LinkPageResponse page = linkService.getLinksPage(user.getId(), cursor, 2);
+
+        // Assert
+        assertEquals(1, page.items().size());
+        assertEquals(link2.getId(), page.items().getFirst().id());
+        assertNull(page.next());
+        verify(linkRepository, never()).findPageAfter(any(), any(), any(), any());
+    }
+
+    @Test
+    void shouldSeekPastCursor_WhenListIsTooLargeToCache() {
+        // Arrange
+        linkService = serviceCachingUpTo(0);
+        LocalDateTime createdAt = LocalDateTime.of(2025, 1, 1, 12, 0);
+        String cursor = new LinkCursor(createdAt, link1.getId()).encode();
+        when(linkRepository.findFirstPage(user.getId(), Limit.of(1))).thenReturn(List.of(row(link1)));
+        when(linkRepository.findPageAfter(user.getId(), createdAt, link1.getId(), Limit.of(3)))
+            .thenReturn(List.of(row(link2)));
+
+        // Act
+        LinkPageResponse page = linkService.getLinksPage(user.getId(), cursor, 2);
+
+        // Assert
+        assertEquals(1, page.items().size());
+        assertEquals(link2.getId(), page.items().getFirst().id());
+        assertNull(page.next());
+    }
+
+    @Test
+    void shouldThrowInvalidCursorException_WhenCursorIsMalformed() {
+        assertThrows(InvalidCursorException.class, () ->
+            linkService.getLinksPage(user.getId(), "not-a-cursor", 10));
+        verifyNoInteractions(linkRepository);
+    }
+
+    @Test
+    void shouldExportEachLinkWithoutTouchingThePersistenceContext() {
+        // Arrange
+        when(linkRepository.streamByUserId(user.getId()))
+            .thenReturn(Stream.of(LinkMapper.toResponse(link1), LinkMapper.toResponse(link2)));
+        List<LinkResponse> exported = new ArrayList<>();
+
+        // Act
+        long count = linkService.exportLinks(user.getId(), exported::add);
+
+        // Assert
+        assertEquals(2, count);
+        assertEquals(List.of(link1.getId(), link2.getId()), exported.stream().map(LinkResponse::id).toList());
+        verifyNoInteractions(entityManager);
     }
 
     @Test
     void shouldReturnLinkWhenIdExists() {
         // Arrange
-        when(linkRepository.findById(link1.getId())).thenReturn(Optional.of(link1));
+        when(linkRepository.findResponseByIdAndUserId(link1.getId(), user.getId()))
+            .thenReturn(Optional.of(new VersionedLinkResponse(LinkMapper.toResponse(link1), 3L)));
 
         // Act
-        LinkResponse result = linkService.getLinkById(link1.getId(), user.getId());
+        VersionedLinkResponse result = linkService.getLinkById(link1.getId(), user.getId());
 
         // Assert
         assertNotNull(result);
-        assertEquals(link1.getTitle(), result.title());
+        assertEquals(link1.getTitle(), result.link().title());
+        assertEquals(3L, result.version());
 
-        verify(linkRepository).findById(link1.getId());
+        verify(linkRepository).findResponseByIdAndUserId(link1.getId(), user.getId());
+        verify(linkRepository, never()).existsById(any());
     }
 
     @Test
     void shouldThrowExceptionWhenLinkDoesNotExist() {
         // Arrange
-        when(linkRepository.findById(link2.getId())).thenReturn(Optional.empty());
+        when(linkRepository.findResponseByIdAndUserId(link2.getId(), user.getId())).thenReturn(Optional.empty());
+        when(linkRepository.existsById(link2.getId())).thenReturn(false);
 
         // Act & Assert
         assertThrows(LinkNotFoundException.class, () ->
             linkService.getLinkById(link2.getId(), user.getId()));
 
-        verify(linkRepository).findById(link2.getId());
+        verify(linkRepository).findResponseByIdAndUserId(link2.getId(), user.getId());
+    }
+
+    @Test
+    void shouldThrowUnauthorizedWhenLinkBelongsToAnotherUser() {
+        // Arrange
+        when(linkRepository.findResponseByIdAndUserId(link2.getId(), TEST_ID3)).thenReturn(Optional.empty());
+        when(linkRepository.existsById(link2.getId())).thenReturn(true);
+
+        // Act & Assert
+        assertThrows(UnauthorizedAccessException.class, () ->
+            linkService.getLinkById(link2.getId(), TEST_ID3));
+    }
+
+    @Test
+    void shouldRankSearchResults_AndLoadOnlyTheMatchingLinks() {
+        // Arrange
+        LinkResponse gitHub = LinkMapper.toResponse(link1);
+        LinkResponse spring = LinkMapper.toResponse(link2);
+        when(linkRepository.findResponsesByUserId(user.getId())).thenReturn(List.of(gitHub, spring));
+        when(linkRepository.findResponsesByUserIdAndIdIn(user.getId(), List.of(spring.id())))
+            .thenReturn(List.of(spring));
+
+        // Act
+        List<LinkSearchResult> results = linkService.searchLinks(user.getId(), "spring", 10);
+
+        // Assert
+        assertEquals(1, results.size());
+        assertEquals(spring, results.getFirst().link());
+        assertTrue(results.getFirst().score() > 0);
+    }
+
+    @Test
+    void shouldFindNewLinksInSearch_WithoutRebuildingTheIndex() {
+        // Arrange
+        when(linkRepository.findResponsesByUserId(user.getId())).thenReturn(List.of(LinkMapper.toResponse(link2)));
+        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+        when(linkRepository.save(any(Link.class))).thenReturn(link1);
+        when(linkRepository.findResponsesByUserIdAndIdIn(user.getId(), List.of(link1.getId())))
+            .thenReturn(List.of(LinkMapper.toResponse(link1)));
+        linkService.searchLinks(user.getId(), "github", 10);
+
+        // Act
+        linkService.createLink(user.getId(), linkRequest);
+        List<LinkSearchResult> results = linkService.searchLinks(user.getId(), "github", 10);
+
+        // Assert
+        assertEquals(List.of(link1.getId()), results.stream().map(result -> result.link().id()).toList());
+        verify(linkRepository).findResponsesByUserId(user.getId());
+    }
+
+    @Test
+    void shouldCompleteTitles_FromOneLoad_AcrossDeletes() {
+        // Arrange
+        when(linkRepository.findTitlesByUserId(user.getId())).thenReturn(List.of(
+            new LinkTitleCompletion(link1.getId(), link1.getTitle()),
+            new LinkTitleCompletion(link2.getId(), link2.getTitle())
+        ));
+        when(linkRepository.deleteByIdAndUserId(link2.getId(), user.getId())).thenReturn(1);
+        String prefix = link2.getTitle().substring(0, 3);
+        List<LinkTitleCompletion> before = linkService.completeTitles(user.getId(), prefix, 10);
+
+        // Act
+        linkService.deleteLink(link2.getId(), user.getId());
+        List<LinkTitleCompletion> after = linkService.completeTitles(user.getId(), prefix, 10);
+
+        // Assert
+        assertEquals(List.of(new LinkTitleCompletion(link2.getId(), link2.getTitle())), before);
+        assertTrue(after.isEmpty());
+        verify(linkRepository).findTitlesByUserId(user.getId());
+    }
+
+    @Test
+    void shouldFilterByTags_AndSeeNewTagsWithoutRebuilding() {
+        // Arrange
+        List<Long> ids = List.of(link1.getId(), link2.getId());
+        when(linkRepository.findIdsByUserId(user.getId())).thenReturn(ids);
+        when(linkTagRepository.findAssignmentsByUserId(user.getId()))
+            .thenReturn(List.of(new TagAssignment(link1.getId(), "dev")));
+        when(linkTagRepository.findOrCreateTag(user.getId(), "docs")).thenReturn(7L);
+        when(linkTagRepository.tagLinks(user.getId(), 7L, List.of(link2.getId()))).thenReturn(1);
+        when(linkRepository.findResponsesByUserIdAndIdIn(user.getId(), List.of(link1.getId())))
+            .thenReturn(List.of(LinkMapper.toResponse(link1)));
+        when(linkRepository.findResponsesByUserIdAndIdIn(user.getId(), List.of(link2.getId())))
+            .thenReturn(List.of(LinkMapper.toResponse(link2)));
+        linkService.findLinksByTags(user.getId(), "dev", 10);
+
+        // Act
+        LinksTaggedResponse tagged = linkService.tagLinks(user.getId(), "Docs", List.of(link2.getId()));
+        TaggedLinksResponse result = linkService.findLinksByTags(user.getId(), "docs & !dev", 10);
+
+        // Assert
+        assertEquals(new LinksTaggedResponse("docs", 1), tagged);
+        assertEquals(1, result.total());
+        assertEquals(link2.getId(), result.links().getFirst().id());
+        verify(linkRepository).findIdsByUserId(user.getId());
+    }
+
+    @Test
+    void shouldNotUntagAnything_WhenTagDoesNotExist() {
+        // Arrange
+        when(tagRepository.findIdByUserIdAndName(user.getId(), "missing")).thenReturn(Optional.empty());
+
+        // Act
+        LinksTaggedResponse result = linkService.untagLinks(user.getId(), "missing", List.of(link1.getId()));
+
+        // Assert
+        assertEquals(0, result.changed());
+        verify(linkTagRepository, never()).untagLinks(anyLong(), any());
     }
 
     @Test
@@ -112,6 +385,91 @@ public class LinkServiceTest {
 
         verify(userRepository).findById(user.getId());
         verify(linkRepository).save(any(Link.class));
+        verify(userRepository).incrementLinksVersion(user.getId());
+        verify(trigramIndex).linksCreated(user.getId(), List.of(result));
+    }
+
+    @Test
+    void shouldReturnSavedLink_WhenDuplicateIsCreatedWithReturnExisting() {
+        // Arrange
+        LinkResponse existing = LinkMapper.toResponse(link1);
+        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+        when(linkRepository.findResponseByUserIdAndUrlHash(eq(user.getId()), aryEq(link1.getUrlHash())))
+            .thenReturn(Optional.of(existing));
+
+        // Act
+        CreatedLinkResponse result = linkService.createLink(
+            user.getId(), new LinkRequest(link1.getUrl(), "Again", null), true
+        );
+
+        // Assert
+        assertEquals(new CreatedLinkResponse(existing, false), result);
+        verify(linkRepository, never()).save(any(Link.class));
+    }
+
+    @Test
+    void shouldReturnConcurrentlySavedLink_WhenSaveLosesTheRace() {
+        // Arrange
+        LinkResponse winner = LinkMapper.toResponse(link1);
+        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+        when(linkRepository.findResponseByUserIdAndUrlHash(eq(user.getId()), aryEq(link1.getUrlHash())))
+            .thenReturn(Optional.empty(), Optional.of(winner));
+        when(linkRepository.save(any(Link.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        doThrow(urlConflict()).when(linkRepository).flush();
+
+        // Act
+        CreatedLinkResponse result = linkService.createLink(
+            user.getId(), new LinkRequest(link1.getUrl(), "Again", null), true
+        );
+
+        // Assert
+        assertEquals(new CreatedLinkResponse(winner, false), result);
+        verify(userRepository, never()).incrementLinksVersion(any());
+    }
+
+    @Test
+    void shouldRejectDuplicate_WhenReturnExistingIsNotRequested() {
+        // Arrange
+        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+        when(linkRepository.save(any(Link.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        doThrow(urlConflict()).when(linkRepository).flush();
+
+        // Act & Assert
+        assertThrows(DuplicateLinkException.class,
+            () -> linkService.createLink(user.getId(), new LinkRequest(link1.getUrl(), "Again", null), false));
+
+        verify(linkRepository, times(1)).findResponseByUserIdAndUrlHash(any(), any());
+    }
+
+    @Test
+    void shouldRejectLink_WhenCanonicalUrlIsAlreadySaved() {
+        // Arrange
+        LinkResponse existing = LinkMapper.toResponse(link1);
+        LinkRequest variant = new LinkRequest(
+            link1.getUrl().toUpperCase() + "/?utm_source=feed#top", "Again", null
+        );
+        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+        when(linkRepository.findResponseByUserIdAndUrlHash(eq(user.getId()), aryEq(link1.getUrlHash())))
+            .thenReturn(Optional.of(existing));
+
+        // Act
+        DuplicateLinkException exception = assertThrows(DuplicateLinkException.class,
+            () -> linkService.createLink(user.getId(), variant));
+
+        // Assert
+        assertEquals(existing, exception.getExisting());
+        verify(linkRepository, never()).save(any(Link.class));
+        verify(userRepository, never()).incrementLinksVersion(any());
+    }
+
+    @Test
+    void shouldReturnLinksVersionForUser() {
+        // Arrange
+        when(userRepository.findLinksVersion(user.getId())).thenReturn(Optional.of(9L));
+
+        // Act & Assert
+        assertEquals(9L, linkService.getLinksVersion(user.getId()));
+        verifyNoInteractions(linkRepository);
     }
 
     @Test
@@ -125,6 +483,102 @@ public class LinkServiceTest {
         verify(userRepository).findById(TEST_ID3);
     }
 
+    @Test
+    void shouldCreateValidLinks_AndReportInvalidOnesByIndex() {
+        // Arrange
+        LinkRequest invalid = new LinkRequest("ftp://example.com", "", null);
+        when(userRepository.existsById(user.getId())).thenReturn(true);
+        when(userRepository.getReferenceById(user.getId())).thenReturn(user);
+        when(linkRepository.save(any(Link.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        BulkLinkResponse result = linkService.createLinks(
+            user.getId(), Arrays.asList(linkRequest, invalid, linkRequestTwo, null)
+        );
+
+        // Assert
+        assertEquals(2, result.created().size());
+        assertEquals(linkRequest.title(), result.created().get(0).title());
+        assertEquals(linkRequestTwo.title(), result.created().get(1).title());
+
+        assertEquals(2, result.rejected().size());
+        assertEquals(1, result.rejected().get(0).index());
+        assertEquals(2, result.rejected().get(0).messages().size());
+        assertEquals(3, result.rejected().get(1).index());
+        assertEquals(List.of(ExceptionMessages.LINK_REQUIRED), result.rejected().get(1).messages());
+
+        verify(userRepository, never()).findById(any());
+        verify(linkRepository, times(2)).save(any(Link.class));
+        verify(entityManager, times(2)).flush();
+        verify(entityManager).clear();
+    }
+
+    @Test
+    void shouldRejectBulkLinks_ThatDuplicateSavedOrEarlierLinks() {
+        // Arrange
+        LinkRequest repeated = new LinkRequest(linkRequestTwo.url() + "/", "Repeated", null);
+        when(userRepository.existsById(user.getId())).thenReturn(true);
+        when(userRepository.getReferenceById(user.getId())).thenReturn(user);
+        when(linkRepository.findUrlHashesByUserIdAndUrlHashIn(eq(user.getId()), any()))
+            .thenReturn(List.of(UrlCanonicalizer.hash(linkRequest.url())));
+        when(linkRepository.save(any(Link.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        BulkLinkResponse result = linkService.createLinks(
+            user.getId(), List.of(linkRequest, linkRequestTwo, repeated)
+        );
+
+        // Assert
+        assertEquals(List.of(linkRequestTwo.title()), result.created().stream().map(LinkResponse::title).toList());
+        assertEquals(List.of(
+            new BulkLinkError(0, List.of(ExceptionMessages.DUPLICATE_OF_EXISTING_LINK)),
+            new BulkLinkError(2, List.of(String.format(ExceptionMessages.DUPLICATE_IN_BATCH, 1)))
+        ), result.rejected());
+        verify(linkRepository).save(any(Link.class));
+    }
+
+    @Test
+    void shouldThrowExceptionWhenBulkUserNotFound() {
+        // Arrange
+        when(userRepository.existsById(TEST_ID3)).thenReturn(false);
+
+        // Act & Assert
+        assertThrows(UserNotFoundException.class,
+            () -> linkService.createLinks(TEST_ID3, List.of(linkRequest)));
+
+        verify(linkRepository, never()).save(any(Link.class));
+    }
+
+    @Test
+    void shouldRejectBulkWithConflict_WhenLinkIsSavedConcurrently() {
+        // Arrange
+        when(userRepository.existsById(user.getId())).thenReturn(true);
+        when(userRepository.getReferenceById(user.getId())).thenReturn(user);
+        when(linkRepository.save(any(Link.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        doThrow(urlConflict()).when(entityManager).flush();
+
+        // Act
+        DuplicateLinkException exception = assertThrows(DuplicateLinkException.class,
+            () -> linkService.createLinks(user.getId(), List.of(linkRequest)));
+
+        // Assert
+        assertEquals(ExceptionMessages.DUPLICATE_SAVED_CONCURRENTLY, exception.getMessage());
+        verify(userRepository, never()).incrementLinksVersion(any());
+    }
+
+    @Test
+    void shouldThrowExceptionWhenBulkSaveFails() {
+        // Arrange
+        when(userRepository.existsById(user.getId())).thenReturn(true);
+        when(userRepository.getReferenceById(user.getId())).thenReturn(user);
+        when(linkRepository.save(any(Link.class)))
+            .thenThrow(new RuntimeException(ExceptionMessages.DATABASE_FAILURE));
+
+        // Act & Assert
+        assertThrows(LinksSaveException.class,
+            () -> linkService.createLinks(user.getId(), List.of(linkRequest)));
+    }
+
     @Test
     void shouldThrowExceptionWhenLinkSaveFails(){
         // Arrange
@@ -142,138 +596,270 @@ public class LinkServiceTest {
     @Test
     void shouldUpdateLinkForGivenUser() {
         // Arrange
-        when(linkRepository.findById(link1.getId())).thenReturn(Optional.of(link1));
-        when(linkRepository.save(any(Link.class)))
-            .thenAnswer(invocation -> invocation.getArgument(0));
+        when(linkRepository.updateByIdAndUserId(
+            eq(link1.getId()), eq(user.getId()), eq(linkRequestTwo.url()),
+            aryEq(UrlCanonicalizer.hash(linkRequestTwo.url())),
+            eq(linkRequestTwo.title()), eq(linkRequestTwo.description())
+        )).thenReturn(1);
 
         // Act
         LinkResponse result = linkService.updateLink(link1.getId(), linkRequestTwo, user.getId());
 
         // Assert
         assertNotNull(result);
+        assertEquals(link1.getId(), result.id());
         assertEquals(linkRequestTwo.url(), result.url());
         assertEquals(linkRequestTwo.title(), result.title());
         assertEquals(linkRequestTwo.description(), result.description());
+        assertEquals(user.getId(), result.userId());
+
+        verify(linkRepository, never()).findById(any());
+        verify(linkRepository, never()).existsById(any());
+        verify(trigramIndex).linkUpdated(user.getId(), result);
+    }
 
-        verify(linkRepository).findById(link1.getId());
+    @Test
+    void shouldRejectUpdate_ToUrlOfAnotherSavedLink() {
+        // Arrange
+        when(linkRepository.findResponseByUserIdAndUrlHash(eq(user.getId()), aryEq(link2.getUrlHash())))
+            .thenReturn(Optional.of(LinkMapper.toResponse(link2)));
 
-        ArgumentCaptor<Link> captor = ArgumentCaptor.forClass(Link.class);
-        verify(linkRepository).save(captor.capture());
+        // Act & Assert
+        assertThrows(DuplicateLinkException.class,
+            () -> linkService.updateLink(link1.getId(), linkRequestTwo, user.getId()));
 
-        Link savedLink = captor.getValue();
-        assertEquals(linkRequestTwo.url(), savedLink.getUrl());
-        assertEquals(linkRequestTwo.title(), savedLink.getTitle());
-        assertEquals(linkRequestTwo.description(), savedLink.getDescription());
+        verify(linkRepository, never()).updateByIdAndUserId(any(), any(), any(), any(), any(), any());
     }
 
     @Test
     void shouldThrowExceptionWhenLinkNotFoundDuringUpdate() {
         // Arrange
-        when(linkRepository.findById(link2.getId())).thenReturn(Optional.empty());
+        when(linkRepository.updateByIdAndUserId(
+            eq(link2.getId()), eq(user.getId()), eq(linkRequestTwo.url()),
+            aryEq(UrlCanonicalizer.hash(linkRequestTwo.url())),
+            eq(linkRequestTwo.title()), eq(linkRequestTwo.description())
+        )).thenReturn(0);
+        when(linkRepository.existsById(link2.getId())).thenReturn(false);
 
         // Act & Assert
         assertThrows(LinkNotFoundException.class, () ->
             linkService.updateLink(link2.getId(), linkRequestTwo, user.getId()));
+    }
+
+    @Test
+    void shouldThrowUnauthorizedWhenUpdatingAnotherUsersLink() {
+        // Arrange
+        when(linkRepository.updateByIdAndUserId(
+            eq(link2.getId()), eq(TEST_ID3), eq(linkRequestTwo.url()),
+            aryEq(UrlCanonicalizer.hash(linkRequestTwo.url())),
+            eq(linkRequestTwo.title()), eq(linkRequestTwo.description())
+        )).thenReturn(0);
+        when(linkRepository.existsById(link2.getId())).thenReturn(true);
 
-        verify(linkRepository).findById(link2.getId());
+        // Act & Assert
+        assertThrows(UnauthorizedAccessException.class, () ->
+            linkService.updateLink(link2.getId(), linkRequestTwo, TEST_ID3));
     }
 
     @Test
     void shouldThrowExceptionWhenLinkSaveFailsDuringUpdate() {
         // Arrange
-        when(linkRepository.findById(link2.getId())).thenReturn(Optional.of(link2));
-        when(linkRepository.save(any(Link.class)))
-            .thenThrow(new RuntimeException(ExceptionMessages.DATABASE_FAILURE));
+        when(linkRepository.updateByIdAndUserId(
+            eq(link2.getId()), eq(user.getId()), eq(linkRequestTwo.url()),
+            aryEq(UrlCanonicalizer.hash(linkRequestTwo.url())),
+            eq(linkRequestTwo.title()), eq(linkRequestTwo.description())
+        )).thenThrow(new RuntimeException(ExceptionMessages.DATABASE_FAILURE));
 
         // Act & Assert
         assertThrows(LinkSaveException.class, () ->
             linkService.updateLink(link2.getId(), linkRequestTwo, user.getId()));
+    }
 
-        verify(linkRepository).findById(link2.getId());
-        verify(linkRepository).save(any(Link.class));
+    @Test
+    void shouldPatchOnlyProvidedFields_WhenVersionMatches() {
+        // Arrange
+        link1.setVersion(2L);
+        when(linkRepository.findByIdAndUserId(link1.getId(), user.getId())).thenReturn(Optional.of(link1));
+        LinkPatchRequest patch = new LinkPatchRequest(null, "New title", null);
+
+        // Act
+        VersionedLinkResponse result = linkService.patchLink(link1.getId(), patch, 2L, user.getId());
+
+        // Assert
+        assertEquals("New title", result.link().title());
+        assertEquals(linkRequest.url(), result.link().url());
+        assertEquals(linkRequest.description(), result.link().description());
+        verify(linkRepository).flush();
+    }
+
+    @Test
+    void shouldRejectPatch_WhenVersionIsStale() {
+        // Arrange
+        link1.setVersion(5L);
+        when(linkRepository.findByIdAndUserId(link1.getId(), user.getId())).thenReturn(Optional.of(link1));
+        LinkPatchRequest patch = new LinkPatchRequest(null, "New title", null);
+
+        // Act & Assert
+        assertThrows(LinkVersionMismatchException.class, () ->
+            linkService.patchLink(link1.getId(), patch, 4L, user.getId()));
+
+        assertEquals(linkRequest.title(), link1.getTitle());
+        verify(linkRepository, never()).flush();
+    }
+
+    @Test
+    void shouldRejectPatch_WhenConcurrentWriterWinsAtFlush() {
+        // Arrange
+        link1.setVersion(1L);
+        when(linkRepository.findByIdAndUserId(link1.getId(), user.getId())).thenReturn(Optional.of(link1));
+        doThrow(new ObjectOptimisticLockingFailureException(Link.class, link1.getId()))
+            .when(linkRepository).flush();
+
+        // Act & Assert
+        assertThrows(LinkVersionMismatchException.class, () ->
+            linkService.patchLink(link1.getId(), new LinkPatchRequest(null, null, "Changed"), 1L, user.getId()));
+    }
+
+    @Test
+    void shouldThrowUnauthorizedWhenPatchingAnotherUsersLink() {
+        // Arrange
+        when(linkRepository.findByIdAndUserId(link1.getId(), TEST_ID3)).thenReturn(Optional.empty());
+        when(linkRepository.existsById(link1.getId())).thenReturn(true);
+
+        // Act & Assert
+        assertThrows(UnauthorizedAccessException.class, () ->
+            linkService.patchLink(link1.getId(), new LinkPatchRequest(null, "x", null), 0L, TEST_ID3));
     }
 
     @Test
     void shouldDeleteLinkForGivenUser() {
         // Arrange
-        when(linkRepository.findById(link1.getId())).thenReturn(Optional.of(link1));
-        doNothing().when(linkRepository).deleteById(link1.getId());
+        when(linkRepository.deleteByIdAndUserId(link1.getId(), user.getId())).thenReturn(1);
 
         // Act
         linkService.deleteLink(link1.getId(), user.getId());
 
         // Assert
-        verify(linkRepository).findById(link1.getId());
-        verify(linkRepository).deleteById(link1.getId());
+        verify(linkRepository).deleteByIdAndUserId(link1.getId(), user.getId());
+        verify(linkRepository, never()).existsById(any());
+        verify(userRepository).incrementLinksVersion(user.getId());
     }
 
     @Test
     void shouldThrowExceptionWhenLinkNotFoundDuringDelete() {
         // Arrange
-        when(linkRepository.findById(link2.getId())).thenReturn(Optional.empty());
+        when(linkRepository.deleteByIdAndUserId(link2.getId(), user.getId())).thenReturn(0);
+        when(linkRepository.existsById(link2.getId())).thenReturn(false);
 
         // Act & Assert
         assertThrows(LinkNotFoundException.class, () ->
             linkService.deleteLink(link2.getId(), user.getId()));
+        verify(userRepository, never()).incrementLinksVersion(any());
+    }
+
+    @Test
+    void shouldThrowUnauthorizedWhenDeletingAnotherUsersLink() {
+        // Arrange
+        when(linkRepository.deleteByIdAndUserId(link2.getId(), TEST_ID3)).thenReturn(0);
+        when(linkRepository.existsById(link2.getId())).thenReturn(true);
 
-        verify(linkRepository).findById(link2.getId());
+        // Act & Assert
+        assertThrows(UnauthorizedAccessException.class, () ->
+            linkService.deleteLink(link2.getId(), TEST_ID3));
     }
 
     @Test
     void shouldThrowExceptionWhenLinkDeleteFails() {
         // Arrange
-        when(linkRepository.findById(link2.getId())).thenReturn(Optional.of(link2));
-        doThrow(new RuntimeException(ExceptionMessages.DATABASE_FAILURE))
-            .when(linkRepository).deleteById(link2.getId());
+        when(linkRepository.deleteByIdAndUserId(link2.getId(), user.getId()))
+            .thenThrow(new RuntimeException(ExceptionMessages.DATABASE_FAILURE));
 
         // Act & Assert
         assertThrows(LinkDeleteException.class, () ->
             linkService.deleteLink(link2.getId(), user.getId()));
-
-        verify(linkRepository).findById(link2.getId());
-        verify(linkRepository).deleteById(link2.getId());
     }
 
     @Test
     void shouldDeleteAllLinksForGivenUser() {
         // Arrange
-        List<Link> linkList = new ArrayList<>(List.of(link1, link2));
-        when(linkRepository.findByUserId(user.getId())).thenReturn(linkList);
-        doNothing().when(linkRepository).deleteAll(linkList);
+        when(linkRepository.deleteAllByUserId(user.getId())).thenReturn(2);
 
         // Act
-        linkService.deleteAllLinksByUser(user.getId());
+        LinksDeletedResponse result = linkService.deleteAllLinksByUser(user.getId());
 
         // Assert
-        verify(linkRepository).findByUserId(user.getId());
-        verify(linkRepository).deleteAll(linkList);
+        assertEquals(2, result.deleted());
+        verify(linkRepository).deleteAllByUserId(user.getId());
     }
 
     @Test
-    void shouldReturnSilentlyWhenNoLinksToDelete() {
+    void shouldReportZeroWhenNoLinksToDelete() {
         // Arrange
-        when(linkRepository.findByUserId(user.getId())).thenReturn(List.of());
+        when(linkRepository.deleteAllByUserId(user.getId())).thenReturn(0);
 
-        // Act & Assert
-        linkService.deleteAllLinksByUser(user.getId());
+        // Act
+        LinksDeletedResponse result = linkService.deleteAllLinksByUser(user.getId());
 
-        verify(linkRepository).findByUserId(user.getId());
-        verify(linkRepository, never()).deleteAll(any());
+        // Assert
+        assertEquals(0, result.deleted());
+        verify(linkRepository).deleteAllByUserId(user.getId());
+        verify(userRepository, never()).incrementLinksVersion(any());
     }
 
     @Test
     void shouldThrowExceptionWhenDeleteAllFails() {
         // Arrange
-        List<Link> linkList = new ArrayList<>(List.of(link1, link2));
-        when(linkRepository.findByUserId(user.getId())).thenReturn(linkList);
-        doThrow(new RuntimeException(ExceptionMessages.DATABASE_FAILURE))
-            .when(linkRepository).deleteAll(linkList);
+        when(linkRepository.deleteAllByUserId(user.getId()))
+            .thenThrow(new RuntimeException(ExceptionMessages.DATABASE_FAILURE));
 
         // Act & Assert
         assertThrows(LinksDeleteException.class, () ->
             linkService.deleteAllLinksByUser(user.getId()));
 
-        verify(linkRepository).findByUserId(user.getId());
-        verify(linkRepository).deleteAll(linkList);
+        verify(linkRepository).deleteAllByUserId(user.getId());
+    }
+
+    @Test
+    void shouldDeleteOnlyRequestedLinksOwnedByUser() {
+        // Arrange
+        List<Long> ids = List.of(link1.getId(), link2.getId(), TEST_ID3);
+        when(linkRepository.deleteByUserIdAndIdIn(user.getId(), ids)).thenReturn(2);
+
+        // Act
+        LinksDeletedResponse result = linkService.deleteLinks(user.getId(), ids);
+
+        // Assert
+        assertEquals(2, result.deleted());
+        verify(linkRepository).deleteByUserIdAndIdIn(user.getId(), ids);
+    }
+
+    private LinkService serviceCachingUpTo(int maxLinksPerUser) {
+        return new LinkServiceImpl(
+            linkRepository,
+            userRepository,
+            entityManager,
+            Validation.buildDefaultValidatorFactory().getValidator(),
+            new LinkListCache(DataSize.ofMegabytes(1), maxLinksPerUser, Duration.ofMinutes(1)),
+            new LinkSearchIndexCache(DataSize.ofMegabytes(1), Duration.ofMinutes(1)),
+            trigramIndex,
+            new TitleCompletionCache(DataSize.ofMegabytes(1), Duration.ofMinutes(1)),
+            linkTagRepository,
+            tagRepository,
+            new TagIndexCache(DataSize.ofMegabytes(1), Duration.ofMinutes(1)),
+            TransactionOperations.withoutTransaction(),
+            2
+        );
+    }
+
+    private static DataIntegrityViolationException urlConflict() {
+        return new DataIntegrityViolationException("duplicate", new ConstraintViolationException(
+            "duplicate", new SQLException("duplicate", "23505"), Link.URL_HASH_CONSTRAINT
+        ));
+    }
+
+    private static LinkRow row(Link link) {
+        return new LinkRow(
+            link.getId(), link.getUrl(), link.getTitle(), link.getDescription(), link.getUser().getId(), link.getCreatedAt()
+        );
     }
 }
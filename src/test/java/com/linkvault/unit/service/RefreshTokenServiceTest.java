@@ -0,0 +1,146 @@
+package com.linkvault.unit.service;
+
+import com.linkvault.dto.AuthResponse;
+import com.linkvault.exception.InvalidRefreshTokenException;
+import com.linkvault.model.RefreshToken;
+import com.linkvault.model.Role;
+import com.linkvault.model.User;
+import com.linkvault.repository.RefreshTokenRepository;
+import com.linkvault.repository.UserRepository;
+import com.linkvault.security.JwtUtils;
+import com.linkvault.security.TokenDigests;
+import com.linkvault.security.TokenRevocationList;
+import com.linkvault.service.RefreshTokenServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class RefreshTokenServiceTest {
+    private static final String SESSION_ID = "session-1";
+    private static final String REFRESH_TOKEN = "refresh-token-value";
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private JwtUtils jwtUtils;
+    @Mock
+    private TokenRevocationList revocationList;
+    private RefreshTokenServiceImpl refreshTokenService;
+
+    @BeforeEach
+    void setUp() {
+        refreshTokenService = new RefreshTokenServiceImpl(
+            refreshTokenRepository,
+            userRepository,
+            jwtUtils,
+            revocationList,
+            Duration.ofDays(14)
+        );
+    }
+
+    @Test
+    void shouldStoreOnlyTokenHash_WhenSessionStarts() {
+        // Arrange
+        when(jwtUtils.generateToken(eq(1L), eq("eddie"), eq(Role.USER), anyString()))
+            .thenReturn("access-token");
+
+        // Act
+        AuthResponse response = refreshTokenService.startSession(1L, "eddie", Role.USER);
+
+        // Assert
+        ArgumentCaptor<RefreshToken> captor = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(refreshTokenRepository).save(captor.capture());
+        RefreshToken saved = captor.getValue();
+
+        assertEquals("access-token", response.getToken());
+        assertEquals(TokenDigests.sha256(response.getRefreshToken()), saved.getTokenHash());
+        assertNotEquals(response.getRefreshToken(), saved.getTokenHash());
+        assertEquals(1L, saved.getUserId());
+    }
+
+    @Test
+    void shouldIssueNewPairInSameSession_WhenTokenIsRotated() {
+        // Arrange
+        RefreshToken stored = storedToken();
+        User user = new User("eddie", "hash");
+        user.setId(1L);
+
+        when(refreshTokenRepository.findByTokenHash(TokenDigests.sha256(REFRESH_TOKEN)))
+            .thenReturn(Optional.of(stored));
+        when(refreshTokenRepository.markRotated(eq(10L), any(Instant.class))).thenReturn(1);
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        when(jwtUtils.generateToken(1L, "eddie", Role.USER, SESSION_ID)).thenReturn("access-token");
+
+        // Act
+        AuthResponse response = refreshTokenService.rotate(REFRESH_TOKEN);
+
+        // Assert
+        assertEquals("access-token", response.getToken());
+        assertNotEquals(REFRESH_TOKEN, response.getRefreshToken());
+        verify(revocationList, never()).revoke(anyString(), any(Instant.class));
+    }
+
+    @Test
+    void shouldRevokeSession_WhenRotatedTokenIsReused() {
+        // Arrange
+        when(refreshTokenRepository.findByTokenHash(TokenDigests.sha256(REFRESH_TOKEN)))
+            .thenReturn(Optional.of(storedToken()));
+        when(refreshTokenRepository.markRotated(eq(10L), any(Instant.class))).thenReturn(0);
+
+        // Act & Assert
+        assertThrows(InvalidRefreshTokenException.class, () ->
+            refreshTokenService.rotate(REFRESH_TOKEN));
+        verify(refreshTokenRepository).revokeSession(eq(SESSION_ID), any(Instant.class));
+        verify(revocationList).revoke(eq(SESSION_ID), any(Instant.class));
+    }
+
+    @Test
+    void shouldThrow_WhenTokenIsUnknown() {
+        // Arrange
+        when(refreshTokenRepository.findByTokenHash(anyString())).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(InvalidRefreshTokenException.class, () ->
+            refreshTokenService.rotate(REFRESH_TOKEN));
+    }
+
+    @Test
+    void shouldThrow_WhenTokenHasExpired() {
+        // Arrange
+        RefreshToken stored = storedToken();
+        stored.setExpiresAt(Instant.now().minusSeconds(1));
+        when(refreshTokenRepository.findByTokenHash(anyString())).thenReturn(Optional.of(stored));
+
+        // Act & Assert
+        assertThrows(InvalidRefreshTokenException.class, () ->
+            refreshTokenService.rotate(REFRESH_TOKEN));
+        verify(refreshTokenRepository, never()).markRotated(any(), any());
+    }
+
+    private RefreshToken storedToken() {
+        RefreshToken stored = new RefreshToken(
+            TokenDigests.sha256(REFRESH_TOKEN),
+            SESSION_ID,
+            1L,
+            Instant.now().plusSeconds(3600)
+        );
+        stored.setId(10L);
+        return stored;
+    }
+}
@@ -4,18 +4,34 @@ import com.linkvault.exception.RegistrationFailedException;
 import com.linkvault.exception.UsernameAlreadyExistsException;
 import com.linkvault.model.User;
 import com.linkvault.repository.UserRepository;
+import com.linkvault.security.PasswordHashingExecutor;
+import com.linkvault.security.UserDetailsCache;
 import com.linkvault.service.UserServiceImpl;
+import com.linkvault.dto.BulkRegisterResponse;
+import com.linkvault.dto.RegisterRequest;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -29,7 +45,14 @@ public class UserServiceTest {
     @BeforeEach
     void setUp() {
         passwordEncoder = new BCryptPasswordEncoder();
-        userServiceImpl = new UserServiceImpl(userRepository, passwordEncoder);
+        userServiceImpl = new UserServiceImpl(
+            userRepository,
+            passwordEncoder,
+            new PasswordHashingExecutor(2, 64, 1),
+            new UserDetailsCache(100, Duration.ofMinutes(10)),
+            TransactionOperations.withoutTransaction(),
+            2
+        );
     }
 
     @Test
@@ -38,8 +61,7 @@ public class UserServiceTest {
         String username = "newUser";
         String rawPassword = "validPassword123";
 
-        when(userRepository.existsByUsername(username)).thenReturn(false);
-        when(userRepository.save(any(User.class))).thenAnswer(
+        when(userRepository.saveAndFlush(any(User.class))).thenAnswer(
             invocation -> {
                 User user = invocation.getArgument(0);
                 user.setId(1L);
@@ -52,7 +74,7 @@ public class UserServiceTest {
 
         // Assert
         ArgumentCaptor<User> userCaptor = ArgumentCaptor.forClass(User.class);
-        verify(userRepository).save(userCaptor.capture());
+        verify(userRepository).saveAndFlush(userCaptor.capture());
         User savedUser = userCaptor.getValue();
 
         assertEquals(username, savedUser.getUsername());
@@ -64,7 +86,16 @@ public class UserServiceTest {
         // Arrange
         String username = "existingUser";
         String rawPassword = "validPassword123";
-        when(userRepository.existsByUsername(username)).thenReturn(true);
+        when(userRepository.saveAndFlush(any(User.class))).thenThrow(
+            new DataIntegrityViolationException(
+                "Unique index or primary key violation",
+                new ConstraintViolationException(
+                    "Unique index or primary key violation",
+                    new SQLException("duplicate"),
+                    "PUBLIC.UK_APP_USER_USERNAME_INDEX_A"
+                )
+            )
+        );
 
         // Act & Assert
         assertThrows(UsernameAlreadyExistsException.class, () ->
@@ -76,8 +107,7 @@ public class UserServiceTest {
         // Arrange
         String username = "existingUser";
         String rawPassword = "validPassword123";
-        when(userRepository.existsByUsername(username)).thenReturn(false);
-        when(userRepository.save(any(User.class)))
+        when(userRepository.saveAndFlush(any(User.class)))
             .thenThrow(new RuntimeException("Database write failed"));
 
         // Act & Assert
@@ -89,4 +119,63 @@ public class UserServiceTest {
         assertEquals("Unexpected error during registration for user: " + username, exception.getMessage());
         assertEquals("Database write failed", exception.getCause().getMessage());
     }
+
+    @Test
+    void shouldSkipDuplicateAndExistingUsernames_WhenProvisioningUsers() {
+        // Arrange
+        List<RegisterRequest> requests = List.of(
+            new RegisterRequest("alice", "Password1@"),
+            new RegisterRequest("bob", "Password1@"),
+            new RegisterRequest("alice", "Password2@"),
+            new RegisterRequest("carol", "Password1@")
+        );
+
+        when(userRepository.findExistingUsernames(anyCollection())).thenReturn(Set.of("bob"));
+        when(userRepository.batchInsert(anyList())).thenAnswer(
+            invocation -> invocation.<List<User>>getArgument(0).size()
+        );
+
+        // Act
+        BulkRegisterResponse response = userServiceImpl.provisionUsers(requests);
+
+        // Assert
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<User>> usersCaptor = ArgumentCaptor.forClass(List.class);
+        verify(userRepository).batchInsert(usersCaptor.capture());
+        List<User> inserted = usersCaptor.getValue();
+
+        assertEquals(2, response.created());
+        assertEquals(List.of("alice", "bob"), response.skippedUsernames());
+        assertEquals(List.of("alice", "carol"), inserted.stream().map(User::getUsername).toList());
+        assertTrue(passwordEncoder.matches("Password1@", inserted.get(0).getPassword()));
+    }
+
+    @Test
+    void shouldSkipUsernameRegisteredDuringInsert_AndRetryTheRest() {
+        // Arrange
+        List<RegisterRequest> requests = List.of(
+            new RegisterRequest("alice", "Password1@"),
+            new RegisterRequest("carol", "Password1@")
+        );
+
+        when(userRepository.findExistingUsernames(anyCollection()))
+            .thenReturn(Set.of(), Set.of(), Set.of("carol"));
+        when(userRepository.batchInsert(anyList()))
+            .thenThrow(new DuplicateKeyException(
+                "Batch failed", new SQLException("Unique index violation: PUBLIC.UK_APP_USER_USERNAME_INDEX_2")
+            ))
+            .thenAnswer(invocation -> invocation.<List<User>>getArgument(0).size());
+
+        // Act
+        BulkRegisterResponse response = userServiceImpl.provisionUsers(requests);
+
+        // Assert
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<User>> usersCaptor = ArgumentCaptor.forClass(List.class);
+        verify(userRepository, times(2)).batchInsert(usersCaptor.capture());
+
+        assertEquals(1, response.created());
+        assertEquals(List.of("carol"), response.skippedUsernames());
+        assertEquals(List.of("alice"), usersCaptor.getValue().stream().map(User::getUsername).toList());
+    }
 }
@@ -0,0 +1,145 @@
+package com.linkvault.unit.util;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.linkvault.util.TransactionalUserCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TransactionalUserCacheTest {
+    private static final Long USER_ID = 1L;
+
+    private TransactionalUserCache<Long, String> cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        cache = new TransactionalUserCache<>("test", Caffeine.newBuilder());
+        loads = new AtomicInteger();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void shouldApplyUpdateOnlyAfterCommit() {
+        // Arrange
+        cache.get(USER_ID, this::load);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        cache.updateAfterCommit(USER_ID, 1, value -> value + "-updated");
+        String beforeCommit = cache.get(USER_ID, this::load);
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        // Assert
+        assertEquals("v1", beforeCommit);
+        assertEquals("v1-updated", cache.get(USER_ID, this::load));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void shouldNotLoadAbsentEntry_WhenUpdated() {
+        // Act
+        cache.updateAfterCommit(USER_ID, 1, value -> value + "-updated");
+
+        // Assert
+        assertEquals("v1", cache.get(USER_ID, this::load));
+    }
+
+    @Test
+    void shouldDropEntry_WhenUpdateReturnsNull() {
+        // Arrange
+        cache.get(USER_ID, this::load);
+
+        // Act
+        cache.updateAfterCommit(USER_ID, 1, value -> null);
+
+        // Assert
+        assertEquals("v2", cache.get(USER_ID, this::load));
+    }
+
+    @Test
+    void shouldSkipUpdate_FromACommitTheLoadAlreadyIncludes() {
+        // Arrange
+        cache.get(USER_ID, userId -> 3, this::load);
+
+        // Act
+        cache.updateAfterCommit(USER_ID, 2, value -> value + "-stale");
+
+        // Assert
+        assertEquals("v1", cache.get(USER_ID, this::load));
+    }
+
+    @Test
+    void shouldDropEntry_WhenAnUpdateArrivesBeforeAnEarlierCommits() {
+        // Arrange
+        cache.get(USER_ID, userId -> 3, this::load);
+
+        // Act
+        cache.updateAfterCommit(USER_ID, 5, value -> value + "-newer");
+        cache.updateAfterCommit(USER_ID, 4, value -> value + "-older");
+
+        // Assert
+        assertEquals("v2", cache.get(USER_ID, this::load));
+    }
+
+    @Test
+    void shouldApplyNextUpdate_AfterAnUnchangedCommitWasRecorded() {
+        // Arrange
+        cache.get(USER_ID, userId -> 3, this::load);
+
+        // Act
+        cache.advanceAfterCommit(USER_ID, 4);
+        cache.updateAfterCommit(USER_ID, 5, value -> value + "-updated");
+
+        // Assert
+        assertEquals("v1-updated", cache.get(USER_ID, this::load));
+    }
+
+    @Test
+    void shouldInvalidateAgainAfterCompletion_WhenReloadedMidTransaction() {
+        // Arrange
+        cache.get(USER_ID, this::load);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        cache.invalidate(USER_ID);
+        cache.get(USER_ID, this::load);
+        TransactionSynchronizationManager.getSynchronizations()
+            .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        // Assert
+        assertEquals("v3", cache.get(USER_ID, this::load));
+    }
+
+    @Test
+    void shouldLoadOutsideTheComputeLock_AndDropALoadThatAnInvalidationOvertook() {
+        // Act
+        String loaded = cache.get(USER_ID, userId -> {
+            // Blocks on the entry's map bin if the loader ran inside Caffeine's compute
+            CompletableFuture.runAsync(() -> cache.invalidate(USER_ID)).orTimeout(5, TimeUnit.SECONDS).join();
+            return load(userId);
+        });
+
+        // Assert
+        assertEquals("v1", loaded);
+        assertEquals("v2", cache.get(USER_ID, this::load));
+    }
+
+    private String load(Long userId) {
+        return "v" + loads.incrementAndGet();
+    }
+}
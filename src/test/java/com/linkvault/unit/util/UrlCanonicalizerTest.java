@@ -0,0 +1,62 @@
+package com.linkvault.unit.util;
+
+import com.linkvault.util.UrlCanonicalizer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class UrlCanonicalizerTest {
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "https://example.com/a/b?x=1&y=2",
+        "  https://example.com/a/b?x=1&y=2  ",
+        "HTTPS://EXAMPLE.com/a/b?x=1&y=2",
+        "https://example.com:443/a/b?x=1&y=2",
+        "https://example.com/a/b/?x=1&y=2",
+        "https://example.com/a/./c/../b?x=1&y=2",
+        "https://example.com/a/b?y=2&x=1",
+        "https://example.com/a/b?x=1&utm_source=feed&y=2&fbclid=abc#section"
+    })
+    void shouldReduceEquivalentSpellingsToOneForm(String url) {
+        assertEquals("https://example.com/a/b?x=1&y=2", UrlCanonicalizer.canonicalize(url));
+    }
+
+    @Test
+    void shouldKeepPathCaseAndNonDefaultPorts() {
+        assertEquals("http://example.com:8080/Docs", UrlCanonicalizer.canonicalize("http://Example.com:8080/Docs/"));
+        assertEquals("http://example.com:443/", UrlCanonicalizer.canonicalize("http://example.com:443"));
+    }
+
+    @Test
+    void shouldUseRootPath_WhenPathIsEmpty() {
+        assertEquals("https://example.com/", UrlCanonicalizer.canonicalize("https://example.com"));
+        assertEquals("https://example.com/?q=1", UrlCanonicalizer.canonicalize("https://example.com?q=1#top"));
+    }
+
+    @Test
+    void shouldKeepOrderOfRepeatedParameters() {
+        assertEquals(
+            "https://example.com/?a=2&a=1&b=0", UrlCanonicalizer.canonicalize("https://example.com/?b=0&a=2&a=1")
+        );
+    }
+
+    @Test
+    void shouldOnlyTrim_WhenUrlDoesNotParse() {
+        assertEquals("https://exa mple.com/a/", UrlCanonicalizer.canonicalize(" https://exa mple.com/a/ "));
+    }
+
+    @Test
+    void shouldHashEquivalentUrlsAlike() {
+        // Act
+        byte[] hash = UrlCanonicalizer.hash("https://example.com/a?utm_medium=mail");
+
+        // Assert
+        assertEquals(UrlCanonicalizer.HASH_LENGTH, hash.length);
+        assertArrayEquals(hash, UrlCanonicalizer.hash("HTTPS://example.com/a/"));
+        assertFalse(Arrays.equals(hash, UrlCanonicalizer.hash("https://example.com/b")));
+    }
+}
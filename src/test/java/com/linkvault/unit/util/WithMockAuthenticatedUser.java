@@ -0,0 +1,16 @@
+package com.linkvault.unit.util;
+
+import com.linkvault.model.Role;
+import org.springframework.security.test.context.support.WithSecurityContext;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+
+@Retention(RetentionPolicy.RUNTIME)
+@WithSecurityContext(factory = WithMockAuthenticatedUserSecurityContextFactory.class)
+public @interface WithMockAuthenticatedUser {
+    long id() default 1L;
+    String username() default "eddie";
+    Role role() default Role.USER;
+    String sessionId() default "test-session";
+}
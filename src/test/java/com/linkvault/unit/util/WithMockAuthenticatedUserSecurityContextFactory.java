@@ -0,0 +1,23 @@
+package com.linkvault.unit.util;
+
+import com.linkvault.security.AuthenticatedUser;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.test.context.support.WithSecurityContextFactory;
+
+public class WithMockAuthenticatedUserSecurityContextFactory
+    implements WithSecurityContextFactory<WithMockAuthenticatedUser> {
+    @Override
+    public SecurityContext createSecurityContext(WithMockAuthenticatedUser annotation) {
+        AuthenticatedUser user = new AuthenticatedUser(
+            annotation.id(), annotation.username(), annotation.role(), annotation.sessionId()
+        );
+
+        SecurityContext context = SecurityContextHolder.createEmptyContext();
+        context.setAuthentication(
+            new UsernamePasswordAuthenticationToken(user, null, user.authorities())
+        );
+        return context;
+    }
+}